@@ -0,0 +1,173 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the amount of commands which are in flight at once: globally, per guild and per command.
+ * A limit of {@code 0} or less means that there is no limit.
+ * A command counts as in flight from the moment it was admitted until its {@link CommandResult} is completed.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see CommandHandler#setAdmissionController(AdmissionController)
+ * @see CommandResult#SERVER_BUSY
+ */
+public class AdmissionController {
+
+	protected final AtomicInteger inFlight = new AtomicInteger();
+	protected final Map<Long, Integer> inFlightPerGuild = new ConcurrentHashMap<>();
+	protected final Map<ICommand, AtomicInteger> inFlightPerCommand = new ConcurrentHashMap<>();
+	protected final LongAdder admitted = new LongAdder(), rejected = new LongAdder();
+	protected final AtomicLong lastBusyReply = new AtomicLong();
+
+	protected volatile int maxInFlight, maxInFlightPerGuild, maxInFlightPerCommand;
+	protected volatile long busyReplyInterval = TimeUnit.SECONDS.toNanos(10);
+
+	/**
+	 * @param key The id of the guild, or the id of the channel for private chats
+	 * @return {@code true} if the command was admitted and has to be {@link #release(ICommand, long) released} later
+	 */
+	@CheckReturnValue
+	public boolean tryAcquire(@Nonnull ICommand command, long key) {
+		int maxInFlight = this.maxInFlight, maxInFlightPerGuild = this.maxInFlightPerGuild, maxInFlightPerCommand = this.maxInFlightPerCommand;
+
+		if (inFlight.incrementAndGet() > maxInFlight && maxInFlight > 0) {
+			inFlight.decrementAndGet();
+			return reject();
+		}
+
+		AtomicInteger commandCounter = inFlightPerCommand.computeIfAbsent(command, AdmissionController::newCounter);
+		if (commandCounter.incrementAndGet() > maxInFlightPerCommand && maxInFlightPerCommand > 0) {
+			commandCounter.decrementAndGet();
+			inFlight.decrementAndGet();
+			return reject();
+		}
+
+		if (inFlightPerGuild.merge(key, 1, Integer::sum) > maxInFlightPerGuild && maxInFlightPerGuild > 0) {
+			inFlightPerGuild.computeIfPresent(key, AdmissionController::decrement);
+			commandCounter.decrementAndGet();
+			inFlight.decrementAndGet();
+			return reject();
+		}
+
+		admitted.increment();
+		return true;
+	}
+
+	/**
+	 * Releases a command which was admitted by {@link #tryAcquire(ICommand, long)}
+	 */
+	public void release(@Nonnull ICommand command, long key) {
+		inFlightPerGuild.computeIfPresent(key, AdmissionController::decrement);
+		AtomicInteger commandCounter = inFlightPerCommand.get(command);
+		if (commandCounter != null) commandCounter.decrementAndGet();
+		inFlight.decrementAndGet();
+	}
+
+	private boolean reject() {
+		rejected.increment();
+		return false;
+	}
+
+	/**
+	 * Decides whether a rejected command should be answered with a busy message.
+	 * At most one busy message is sent per {@link #getBusyReplyInterval(TimeUnit) interval}, so the replies do not add to the load.
+	 */
+	@CheckReturnValue
+	public boolean shouldReplyBusy() {
+		long now = System.nanoTime();
+		long last = lastBusyReply.get();
+		return (last == 0 || now - last >= busyReplyInterval) && lastBusyReply.compareAndSet(last, now);
+	}
+
+	@Nonnull
+	private static AtomicInteger newCounter(@Nonnull ICommand command) {
+		return new AtomicInteger();
+	}
+
+	private static Integer decrement(@Nonnull Long key, @Nonnull Integer value) {
+		return value <= 1 ? null : value - 1;
+	}
+
+	@CheckReturnValue
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	@Nonnull
+	public AdmissionController setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+		return this;
+	}
+
+	@CheckReturnValue
+	public int getMaxInFlightPerGuild() {
+		return maxInFlightPerGuild;
+	}
+
+	@Nonnull
+	public AdmissionController setMaxInFlightPerGuild(int maxInFlightPerGuild) {
+		this.maxInFlightPerGuild = maxInFlightPerGuild;
+		return this;
+	}
+
+	@CheckReturnValue
+	public int getMaxInFlightPerCommand() {
+		return maxInFlightPerCommand;
+	}
+
+	@Nonnull
+	public AdmissionController setMaxInFlightPerCommand(int maxInFlightPerCommand) {
+		this.maxInFlightPerCommand = maxInFlightPerCommand;
+		return this;
+	}
+
+	@CheckReturnValue
+	public long getBusyReplyInterval(@Nonnull TimeUnit unit) {
+		return unit.convert(busyReplyInterval, TimeUnit.NANOSECONDS);
+	}
+
+	@Nonnull
+	public AdmissionController setBusyReplyInterval(long interval, @Nonnull TimeUnit unit) {
+		this.busyReplyInterval = unit.toNanos(interval);
+		return this;
+	}
+
+	/**
+	 * @return The amount of commands currently in flight
+	 */
+	@CheckReturnValue
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	@CheckReturnValue
+	public int getInFlight(@Nonnull ICommand command) {
+		AtomicInteger counter = inFlightPerCommand.get(command);
+		return counter == null ? 0 : counter.get();
+	}
+
+	@CheckReturnValue
+	public int getInFlightOfGuild(long key) {
+		return inFlightPerGuild.getOrDefault(key, 0);
+	}
+
+	@CheckReturnValue
+	public long getAdmitted() {
+		return admitted.sum();
+	}
+
+	@CheckReturnValue
+	public long getRejected() {
+		return rejected.sum();
+	}
+
+}
@@ -0,0 +1,201 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * The arguments of a command, tokenized lazily from the raw content of the message.
+ * Arguments are separated by any amount of whitespaces, an argument enclosed in double quotes
+ * may contain whitespaces itself. An opening quote without a closing one is treated like any other character.
+ *
+ * The content is only tokenized once the arguments are accessed for the first time.
+ * Only offsets are stored, a {@link String} is only created for the arguments which are actually requested.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see ParsedMessage#getArguments(int)
+ * @see net.codingarea.engine.discord.commandmanager.event.CommandEvent#getArgs()
+ */
+public final class CommandArguments {
+
+	private static final String[] NO_ARGS = new String[0];
+
+	private static final class Tokens {
+
+		private static final Tokens EMPTY = new Tokens(new int[0], new int[0], new boolean[0], 0);
+
+		private final int[] starts, ends;
+		private final boolean[] quoted;
+		private final int size;
+
+		private Tokens(@Nonnull int[] starts, @Nonnull int[] ends, @Nonnull boolean[] quoted, int size) {
+			this.starts = starts;
+			this.ends = ends;
+			this.quoted = quoted;
+			this.size = size;
+		}
+
+		private void check(int index) {
+			if (index < 0 || index >= size)
+				throw new ArrayIndexOutOfBoundsException(index);
+		}
+
+	}
+
+	private final String content;
+	private final int start, end;
+
+	private volatile Tokens tokens;
+	private volatile String[] args;
+
+	public CommandArguments(@Nonnull String content, int start, int end) {
+		this.content = content;
+		this.start = start;
+		this.end = end;
+	}
+
+	@Nonnull
+	private Tokens tokens() {
+		Tokens tokens = this.tokens;
+		if (tokens == null)
+			this.tokens = tokens = tokenize();
+		return tokens;
+	}
+
+	@Nonnull
+	private Tokens tokenize() {
+		int[] starts = null, ends = null;
+		boolean[] quoted = null;
+		int size = 0;
+
+		int index = start;
+		while (true) {
+			while (index < end && ParsedMessage.isWhitespace(content.charAt(index)))
+				index++;
+			if (index >= end) break;
+
+			if (starts == null) {
+				starts = new int[4];
+				ends = new int[4];
+				quoted = new boolean[4];
+			} else if (size == starts.length) {
+				starts = Arrays.copyOf(starts, size * 2);
+				ends = Arrays.copyOf(ends, size * 2);
+				quoted = Arrays.copyOf(quoted, size * 2);
+			}
+
+			int closingQuote = content.charAt(index) == '"' ? content.indexOf('"', index + 1) : -1;
+			if (closingQuote != -1 && closingQuote < end) {
+				starts[size] = index + 1;
+				ends[size] = closingQuote;
+				quoted[size] = true;
+				index = closingQuote + 1;
+			} else {
+				starts[size] = index;
+				while (index < end && !ParsedMessage.isWhitespace(content.charAt(index)))
+					index++;
+				ends[size] = index;
+			}
+			size++;
+		}
+
+		return size == 0 ? Tokens.EMPTY : new Tokens(starts, ends, quoted, size);
+	}
+
+	@CheckReturnValue
+	public int size() {
+		return tokens().size;
+	}
+
+	@CheckReturnValue
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * @return The argument at the given index, without enclosing quotes
+	 * @throws ArrayIndexOutOfBoundsException If there is no argument at the given index
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public String get(int index) {
+		String[] args = this.args;
+		if (args != null) return args[index];
+
+		Tokens tokens = tokens();
+		tokens.check(index);
+		return content.substring(tokens.starts[index], tokens.ends[index]);
+	}
+
+	/**
+	 * @return {@code true} if the argument at the given index was enclosed in quotes
+	 * @throws ArrayIndexOutOfBoundsException If there is no argument at the given index
+	 */
+	@CheckReturnValue
+	public boolean isQuoted(int index) {
+		Tokens tokens = tokens();
+		tokens.check(index);
+		return tokens.quoted[index];
+	}
+
+	/**
+	 * @return All arguments. The array is cached and shared, it should not be modified
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public String[] toArray() {
+		String[] args = this.args;
+		if (args == null) {
+			int size = size();
+			args = size == 0 ? NO_ARGS : new String[size];
+			for (int i = 0; i < size; i++)
+				args[i] = get(i);
+			this.args = args;
+		}
+		return args;
+	}
+
+	/**
+	 * Returns the raw content from the start of the first argument to the end of the last argument,
+	 * including the whitespaces and quotes in between as they were written.
+	 *
+	 * @param startIndex The index of the first argument, inclusive
+	 * @param endIndex The index of the last argument, exclusive
+	 * @return The content, an empty string if {@code startIndex >= endIndex}
+	 * @throws ArrayIndexOutOfBoundsException If one of the indices is out of bounds
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public String join(int startIndex, int endIndex) {
+		if (startIndex >= endIndex) return "";
+		Tokens tokens = tokens();
+		tokens.check(startIndex);
+		tokens.check(endIndex - 1);
+
+		int from = tokens.starts[startIndex];
+		int to = tokens.ends[endIndex - 1];
+		if (tokens.quoted[startIndex]) from--;
+		if (tokens.quoted[endIndex - 1]) to++;
+		return content.substring(from, to);
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public String join(int startIndex) {
+		return join(startIndex, size());
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public String join() {
+		return join(0, size());
+	}
+
+	@Override
+	public String toString() {
+		return content.substring(start, end);
+	}
+
+}
@@ -0,0 +1,99 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import net.codingarea.engine.utils.DaemonThreadFactory;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.concurrent.*;
+
+/**
+ * Factory methods for the {@link ExecutorService ExecutorServices} used to execute async commands.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see ICommandHandler#setAsyncCommandExecutorService(ExecutorService)
+ * @see ICommand#isAsync()
+ */
+public final class CommandExecutors {
+
+	public static final int DEFAULT_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+	public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+	private CommandExecutors() { }
+
+	/**
+	 * @return A bounded executor using {@link #DEFAULT_THREADS} threads and a queue holding {@link #DEFAULT_QUEUE_CAPACITY} tasks
+	 *
+	 * @see #newBoundedExecutor(int, int, String)
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static ExecutorService newBoundedExecutor() {
+		return newBoundedExecutor(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY, "command-executor");
+	}
+
+	/**
+	 * Creates an executor which will never use more than the given amount of threads.
+	 * Idle threads are stopped after one minute.
+	 * When the queue is full, new tasks will be rejected using a {@link RejectedExecutionException},
+	 * which will be reported as {@link CommandResult#OVERLOADED} by the {@link CommandHandler}.
+	 *
+	 * @param threads The maximum amount of threads
+	 * @param queueCapacity The maximum amount of tasks waiting for a thread
+	 * @param name The name prefix of the threads, followed by the number of the thread
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static ExecutorService newBoundedExecutor(int threads, int queueCapacity, @Nonnull String name) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+				new ArrayBlockingQueue<>(queueCapacity), newThreadFactory(name), new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * @return {@code true} if virtual threads are available, which requires Java 21 or newer
+	 *         and a jar built on JDK 21 or newer, because older JDKs do not compile the Java 21 classes
+	 */
+	@CheckReturnValue
+	public static boolean supportsVirtualThreads() {
+		return VirtualThreads.isSupported();
+	}
+
+	/**
+	 * @see #newVirtualThreadExecutor(String)
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static ExecutorService newVirtualThreadExecutor() {
+		return newVirtualThreadExecutor("command-executor-virtual");
+	}
+
+	/**
+	 * Creates an executor which starts a new virtual thread for every task.
+	 * The amount of tasks running at once is not limited, so commands blocking on I/O do not need a tuned thread pool.
+	 * This does not apply to {@link net.codingarea.engine.sql.SQL} queries: the JDBC driver blocks inside {@code synchronized} blocks,
+	 * which pins the carrier thread on Java 21 to 23 (see {@code VirtualThreads}).
+	 *
+	 * @param name The name prefix of the threads, followed by the number of the thread
+	 * @throws UnsupportedOperationException If the current runtime is older than Java 21
+	 *
+	 * @see #supportsVirtualThreads()
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static ExecutorService newVirtualThreadExecutor(@Nonnull String name) {
+		return VirtualThreads.newExecutor(name);
+	}
+
+	/**
+	 * @return A {@link ThreadFactory} creating daemon threads named {@code name-number}
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static ThreadFactory newThreadFactory(@Nonnull String name) {
+		return new DaemonThreadFactory(name);
+	}
+
+}
@@ -2,12 +2,13 @@ package net.codingarea.engine.discord.commandmanager;
 
 import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
 import net.codingarea.engine.discord.commandmanager.event.CommandEventImpl;
-import net.codingarea.engine.discord.commandmanager.helper.CommandHelper;
+import net.codingarea.engine.discord.commandmanager.metrics.DispatchStage;
+import net.codingarea.engine.discord.commandmanager.metrics.DispatchTimingListener;
+import net.codingarea.engine.discord.commandmanager.metrics.HandlerMetrics;
 import net.codingarea.engine.utils.CoolDownManager;
 import net.codingarea.engine.utils.Utils;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Message;
-import net.dv8tion.jda.api.entities.MessageType;
 import net.dv8tion.jda.api.events.message.GenericMessageEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.events.message.MessageUpdateEvent;
@@ -17,9 +18,12 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -27,17 +31,48 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class CommandHandler implements ICommandHandler {
 
+	/**
+	 * Shared futures for results which are known before a command is executed, indexed by {@link CommandResult#ordinal()}.
+	 * They are only used internally and never returned to callers, see {@link #exposed(CompletableFuture)}.
+	 */
+	private static final CompletableFuture<CommandResult>[] COMPLETED = createCompletedFutures();
+
+	@SuppressWarnings("unchecked")
+	private static CompletableFuture<CommandResult>[] createCompletedFutures() {
+		CommandResult[] results = CommandResult.values();
+		CompletableFuture<CommandResult>[] futures = new CompletableFuture[results.length];
+		for (CommandResult result : results)
+			futures[result.ordinal()] = CompletableFuture.completedFuture(result);
+		return futures;
+	}
+
 	protected CoolDownManager cooldown;
 	protected PrefixProvider prefixProvider;
 	protected TeamRankChecker teamRankChecker;
 	protected ReactionBehavior webhookReactionBehavior = ReactionBehavior.COMMAND_DECISION,
 							   botReactionBehavior = ReactionBehavior.COMMAND_DECISION;
 	protected final AtomicLong executedCommands = new AtomicLong();
-	protected final List<ICommand> registry = new ArrayList<>();
-	protected final ThreadPoolExecutor executorService = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+	protected volatile CommandRegistry registry = CommandRegistry.empty();
+	protected volatile MessageFilter[] filters = DefaultMessageFilter.values();
+	protected final Map<MessageFilter, LongAdder> filterRejections = new ConcurrentHashMap<>();
+	protected volatile ExecutorService executorService;
+	protected volatile LaneExecutor lanes;
+	protected volatile LaneScope laneScope;
+	protected volatile AdmissionController admission;
+	protected final HandlerMetrics metrics = new HandlerMetrics();
+	protected volatile DispatchTimingListener timingListener;
+
+	public CommandHandler(@Nonnull PrefixProvider prefixProvider, @Nonnull ExecutorService executorService) {
+		this.prefixProvider = prefixProvider;
+		this.executorService = executorService;
+	}
 
 	public CommandHandler(@Nonnull PrefixProvider prefixProvider) {
-		this.prefixProvider = prefixProvider;
+		this(prefixProvider, CommandExecutors.newBoundedExecutor());
+	}
+
+	public CommandHandler(@Nonnull String prefix, @Nonnull ExecutorService executorService) {
+		this(PrefixProvider.constant(prefix), executorService);
 	}
 
 	public CommandHandler(@Nonnull String prefix) {
@@ -47,112 +82,252 @@ public class CommandHandler implements ICommandHandler {
 	@Nonnull
 	@Override
 	public CompletableFuture<CommandResult> handleEvent(@Nonnull MessageUpdateEvent event) {
-		CompletableFuture<CommandResult> future = new CompletableFuture<>();
-		handleEvent(event, event.getMessage(), future, event.getMember());
-		return future;
+		return exposed(handleEvent(event, event.getMessage(), event.getMember()));
 	}
 
 	@Nonnull
 	@Override
 	public CompletableFuture<CommandResult> handleEvent(@Nonnull MessageReceivedEvent event) {
-		CompletableFuture<CommandResult> future = new CompletableFuture<>();
-		handleEvent(event, event.getMessage(), future, event.getMember());
-		return future;
+		return exposed(handleEvent(event, event.getMessage(), event.getMember()));
 	}
 
-	protected Object handleEvent(@Nonnull GenericMessageEvent event, @Nonnull Message message,
-	                             @Nonnull CompletableFuture<CommandResult> callback, @Nullable Member member) {
+	@Override
+	public void handleEvent(@Nonnull MessageUpdateEvent event, @Nonnull BiConsumer<? super CommandResult, ? super GenericMessageEvent> callback) {
+		accept(event, handleEvent(event, event.getMessage(), event.getMember()), callback);
+	}
+
+	@Override
+	public void handleEvent(@Nonnull MessageReceivedEvent event, @Nonnull BiConsumer<? super CommandResult, ? super GenericMessageEvent> callback) {
+		accept(event, handleEvent(event, event.getMessage(), event.getMember()), callback);
+	}
 
-		if (message.getType() != MessageType.DEFAULT && message.getType() != MessageType.INLINE_REPLY) {
-			return callback.complete(CommandResult.INVALID_MESSAGE_TYPE);
-		} else if (message.getAuthor().getIdLong() == event.getJDA().getSelfUser().getIdLong()) {
-			return callback.complete(CommandResult.SELF_MESSAGE_NO_REACT);
+	protected void accept(@Nonnull GenericMessageEvent event, @Nonnull CompletableFuture<CommandResult> future,
+	                      @Nonnull BiConsumer<? super CommandResult, ? super GenericMessageEvent> callback) {
+		if (future.isDone() && !future.isCompletedExceptionally()) {
+			callback.accept(future.join(), event);
+		} else {
+			future.thenAccept(result -> callback.accept(result, event));
 		}
+	}
 
-		String raw = message.getContentRaw().toLowerCase().trim();
-		String prefix = prefixProvider.getPrefix(event);
-		String mention = CommandHelper.mentionJDA(event);
-		boolean mentionPrefix = false;
-
-		if (!raw.startsWith(prefix)) {
-			if (raw.startsWith(mention)) {
-				mentionPrefix = true;
-				prefix = mention;
-				try {
-					while (raw.substring(prefix.length()).startsWith(" "))
-						prefix += " ";
-				} catch (Exception ignored) { }
-			} else {
-				return callback.complete(CommandResult.PREFIX_NOT_USED);
+	/**
+	 * @return A new future for a shared, already completed one, so the caller can not complete or obtrude the shared future
+	 */
+	@Nonnull
+	protected static CompletableFuture<CommandResult> exposed(@Nonnull CompletableFuture<CommandResult> future) {
+		if (!future.isDone() || future.isCompletedExceptionally()) return future;
+		CommandResult result = future.join();
+		return COMPLETED[result.ordinal()] == future ? CompletableFuture.completedFuture(result) : future;
+	}
+
+	/**
+	 * @return A shared, already completed future if the message was rejected before the command was executed,
+	 *         which must not be completed or obtruded and has to be passed through {@link #exposed(CompletableFuture)} before it is returned to a caller
+	 */
+	@Nonnull
+	protected CompletableFuture<CommandResult> handleEvent(@Nonnull GenericMessageEvent event, @Nonnull Message message, @Nullable Member member) {
+
+		long received = System.nanoTime();
+		DispatchTimingListener timing = this.timingListener;
+		long time = received;
+
+		// Cheap checks which do not depend on the command run before the prefix is resolved
+		for (MessageFilter filter : filters) {
+			CommandResult result = filter.check(this, event, message);
+			if (result != null) {
+				filterRejections.computeIfAbsent(filter, key -> new LongAdder()).increment();
+				if (timing != null) time(timing, DispatchStage.FILTER, null, time);
+				return completed(result);
 			}
 		}
+		if (timing != null) time = time(timing, DispatchStage.FILTER, null, time);
 
-		String givenCommand = raw.substring(prefix.length());
-		ICommand command = findCommand(givenCommand).orElse(null);
-
-		if (command == null) {
-			return callback.complete(CommandResult.COMMAND_NOT_FOUND);
-		} else if (cooldown != null && cooldown.isOnCoolDown(message.getAuthor())) {
-			return callback.complete(CommandResult.MEMBER_ON_COOLDOWN);
-		} else if (event.isFromGuild() && !command.getType().isAccessibleFromGuild()) {
-			return callback.complete(CommandResult.INVALID_CHANNEL_PRIVATE_COMMAND);
-		} else if (!event.isFromGuild() && !command.getType().isAccessibleFromPrivate()) {
-			return callback.complete(CommandResult.INVALID_CHANNEL_GUILD_COMMAND);
-		} else if (webhookReactionBehavior != ReactionBehavior.ALWAYS && message.isWebhookMessage() && (!command.shouldReactToWebhooks() || webhookReactionBehavior == ReactionBehavior.NEVER)) {
-			return callback.complete(CommandResult.WEBHOOK_MESSAGE_NO_REACT);
-		} else if (botReactionBehavior != ReactionBehavior.ALWAYS && message.getAuthor().isBot() && (!command.shouldReactToBots() || botReactionBehavior == ReactionBehavior.NEVER)) {
-			return callback.complete(CommandResult.BOT_MESSAGE_NO_REACT);
-		} else if (mentionPrefix && !command.shouldReactToMentionPrefix()) {
-			return callback.complete(CommandResult.MENTION_PREFIX_NO_REACT);
-		} else if (event instanceof MessageUpdateEvent && !command.shouldReactOnEdit()) {
-			return callback.complete(CommandResult.MESSAGE_EDIT_NO_REACT);
+		ParsedMessage parsed = ParsedMessage.parse(message.getContentRaw(), prefixProvider.getPrefix(event), SelfMention.of(event.getJDA()));
+		if (timing != null) time = time(timing, DispatchStage.PREFIX, null, time);
+		if (parsed == null) {
+			return completed(CommandResult.PREFIX_NOT_USED);
 		}
 
-		if (member != null) {
-			boolean hasTeamAccess = command.isTeamCommand() && teamRankChecker != null && teamRankChecker.hasTeamRank(member);
-			if (command.isTeamCommand() && teamRankChecker != null && !hasTeamAccess) {
-				return callback.complete(CommandResult.NO_PERMISSIONS_TEAM_RANK);
-			} else if (command.getPermissionNeeded() != null && !hasTeamAccess && !member.hasPermission(command.getPermissionNeeded())) {
-				return callback.complete(CommandResult.NO_PERMISSIONS);
+		CommandRegistry.Entry entry = registry.find(parsed.getContent(), parsed.getCommandStart(), parsed.getEnd());
+		if (timing != null) time = time(timing, DispatchStage.LOOKUP, null, time);
+
+		if (entry == null) {
+			return completed(CommandResult.COMMAND_NOT_FOUND);
+		}
+
+		ICommand command = entry.getCommand();
+
+		// Shed load before anything expensive (like team rank checks or the event) is done
+		AdmissionController admission = this.admission;
+		long key = 0;
+		if (admission != null) {
+			key = event.isFromGuild() ? event.getGuild().getIdLong() : event.getChannel().getIdLong();
+			if (!admission.tryAcquire(command, key)) {
+				return completed(command, received, admission.shouldReplyBusy() ? CommandResult.SERVER_BUSY : CommandResult.SERVER_BUSY_NO_REACT);
 			}
+			if (timing != null) time = time(timing, DispatchStage.ADMISSION, command, time);
 		}
 
-		if (cooldown != null && member != null)
-			cooldown.addToCoolDown(member);
+		// From here on every exit has to give the permit back, unless it was handed to the callback
+		boolean acquired = admission != null;
+		try {
+			boolean onCoolDown = cooldown != null && cooldown.isOnCoolDown(message.getAuthor());
+			if (timing != null) time = time(timing, DispatchStage.COOLDOWN, command, time);
+
+			CommandResult denied = null;
+			if (onCoolDown) {
+				denied = CommandResult.MEMBER_ON_COOLDOWN;
+			} else if (event.isFromGuild() && !command.getType().isAccessibleFromGuild()) {
+				denied = CommandResult.INVALID_CHANNEL_PRIVATE_COMMAND;
+			} else if (!event.isFromGuild() && !command.getType().isAccessibleFromPrivate()) {
+				denied = CommandResult.INVALID_CHANNEL_GUILD_COMMAND;
+			} else if (webhookReactionBehavior != ReactionBehavior.ALWAYS && message.isWebhookMessage() && (!command.shouldReactToWebhooks() || webhookReactionBehavior == ReactionBehavior.NEVER)) {
+				denied = CommandResult.WEBHOOK_MESSAGE_NO_REACT;
+			} else if (botReactionBehavior != ReactionBehavior.ALWAYS && message.getAuthor().isBot() && (!command.shouldReactToBots() || botReactionBehavior == ReactionBehavior.NEVER)) {
+				denied = CommandResult.BOT_MESSAGE_NO_REACT;
+			} else if (parsed.isMentionPrefix() && !command.shouldReactToMentionPrefix()) {
+				denied = CommandResult.MENTION_PREFIX_NO_REACT;
+			} else if (event instanceof MessageUpdateEvent && !command.shouldReactOnEdit()) {
+				denied = CommandResult.MESSAGE_EDIT_NO_REACT;
+			} else if (member != null) {
+				denied = checkAccess(command, member);
+				if (timing != null) time = time(timing, DispatchStage.PERMISSION, command, time);
+			}
+
+			if (denied != null) {
+				return completed(command, received, denied);
+			}
+
+			if (cooldown != null && member != null)
+				cooldown.addToCoolDown(member);
+
+			CommandEvent commandEvent = new CommandEventImpl(this, command, entry.getName(), parsed, event);
+			if (timing != null) time(timing, DispatchStage.EVENT, command, time);
+
+			CompletableFuture<CommandResult> callback = new CompletableFuture<>();
+			if (admission != null) {
+				long admissionKey = key;
+				callback.whenComplete((result, ex) -> admission.release(command, admissionKey));
+				acquired = false;
+			}
+
+			process(command, commandEvent, callback, received);
+			return callback;
+		} finally {
+			if (acquired) admission.release(command, key);
+		}
 
-		givenCommand = correctName(givenCommand, command);
+	}
 
-		process(command, new CommandEventImpl(this, command, givenCommand, prefix, mentionPrefix, event), callback);
+	/**
+	 * @return The {@link CommandResult} the command is denied with, {@code null} if the member has access
+	 */
+	@Nullable
+	protected CommandResult checkAccess(@Nonnull ICommand command, @Nonnull Member member) {
+		boolean hasTeamAccess = command.isTeamCommand() && teamRankChecker != null && teamRankChecker.hasTeamRank(member);
+		if (command.isTeamCommand() && teamRankChecker != null && !hasTeamAccess) {
+			return CommandResult.NO_PERMISSIONS_TEAM_RANK;
+		} else if (command.getPermissionNeeded() != null && !hasTeamAccess && !member.hasPermission(command.getPermissionNeeded())) {
+			return CommandResult.NO_PERMISSIONS;
+		}
 		return null;
+	}
 
+	/**
+	 * Reports the time spent since the given start and returns the current time, which is the start of the next stage
+	 */
+	protected long time(@Nonnull DispatchTimingListener timing, @Nonnull DispatchStage stage, @Nullable ICommand command, long start) {
+		long now = System.nanoTime();
+		timing.onStage(stage, command, now - start);
+		return now;
+	}
+
+	protected boolean complete(@Nonnull CompletableFuture<CommandResult> callback, @Nonnull CommandResult result) {
+		metrics.record(result);
+		return callback.complete(result);
+	}
+
+	protected boolean complete(@Nonnull ICommand command, long received, @Nonnull CompletableFuture<CommandResult> callback, @Nonnull CommandResult result) {
+		metrics.of(command).recordRejection(received, System.nanoTime());
+		return complete(callback, result);
+	}
+
+	/**
+	 * @return The shared, already completed future of the given result
+	 */
+	@Nonnull
+	protected CompletableFuture<CommandResult> completed(@Nonnull CommandResult result) {
+		metrics.record(result);
+		return COMPLETED[result.ordinal()];
 	}
 
-	protected void process(@Nonnull ICommand command, @Nonnull CommandEvent event, @Nonnull CompletableFuture<CommandResult> callback) {
+	@Nonnull
+	protected CompletableFuture<CommandResult> completed(@Nonnull ICommand command, long received, @Nonnull CommandResult result) {
+		metrics.of(command).recordRejection(received, System.nanoTime());
+		return completed(result);
+	}
+
+	/**
+	 * @param received The {@link System#nanoTime()} at which the message was received
+	 */
+	protected void process(@Nonnull ICommand command, @Nonnull CommandEvent event, @Nonnull CompletableFuture<CommandResult> callback, long received) {
 		if (command.isAsync()) {
-			executorService.execute(() -> execute(command, event, callback));
+			long submitted = System.nanoTime();
+			try {
+				LaneExecutor lanes = this.lanes;
+				if (lanes != null) {
+					lanes.execute(laneScope.keyOf(event), () -> execute(command, event, callback, received, submitted),
+					              rejection -> complete(command, received, callback, CommandResult.OVERLOADED));
+				} else {
+					executorService.execute(() -> execute(command, event, callback, received, submitted));
+				}
+			} catch (RejectedExecutionException ex) {
+				complete(command, received, callback, CommandResult.OVERLOADED);
+			}
 		} else {
-			execute(command, event, callback);
+			execute(command, event, callback, received, System.nanoTime());
 		}
 	}
 
-	protected void execute(@Nonnull ICommand command, @Nonnull CommandEvent event, @Nonnull CompletableFuture<CommandResult> callback) {
+	/**
+	 * @param received The {@link System#nanoTime()} at which the message was received
+	 * @param submitted The {@link System#nanoTime()} at which the command was submitted to the executor
+	 */
+	protected void execute(@Nonnull ICommand command, @Nonnull CommandEvent event, @Nonnull CompletableFuture<CommandResult> callback, long received, long submitted) {
+		long started = System.nanoTime();
 		try {
 			command.onCommand(event);
 		} catch (Throwable ex) {
-			callback.complete(CommandResult.EXCEPTION);
+			executed(command, received, submitted, started, true);
+			complete(callback, CommandResult.EXCEPTION);
 			callback.completeExceptionally(ex);
 			Utils.handleException(ex);
 			return;
 		} finally {
 			executedCommands.incrementAndGet();
 		}
-		callback.complete(CommandResult.SUCCESS);
+		executed(command, received, submitted, started, false);
+		complete(callback, CommandResult.SUCCESS);
+	}
+
+	protected void executed(@Nonnull ICommand command, long received, long submitted, long started, boolean failed) {
+		long finished = System.nanoTime();
+		metrics.of(command).recordExecution(received, submitted, started, finished, failed);
+		DispatchTimingListener timing = this.timingListener;
+		if (timing != null) timing.onStage(DispatchStage.EXECUTION, command, finished - started);
+	}
+
+	@Nonnull
+	@Override
+	public synchronized CommandHandler registerCommand(@Nonnull ICommand command) {
+		this.registry = registry.with(command);
+		return this;
 	}
 
 	@Nonnull
 	@Override
-	public CommandHandler registerCommand(@Nonnull ICommand command) {
-		this.registry.add(command);
+	public synchronized CommandHandler registerCommands(@Nonnull ICommand... commands) {
+		this.registry = registry.with(commands);
 		return this;
 	}
 
@@ -160,48 +335,68 @@ public class CommandHandler implements ICommandHandler {
 	@Override
 	@CheckReturnValue
 	public Collection<ICommand> getCommands() {
-		return new ArrayList<>(registry);
+		return new ArrayList<>(registry.getCommands());
 	}
 
 	@Nonnull
 	@Override
 	@CheckReturnValue
 	public Optional<ICommand> findCommand(@Nonnull String message) {
-		return registry.stream().filter(command -> {
-			if (nameIsOK(command.getName(), message))
-				return true;
-			for (String alias : command.getAlias())
-				if (nameIsOK(alias, message))
-					return true;
-			return false;
-		}).findFirst();
+		CommandRegistry.Entry entry = registry.find(message);
+		return entry == null ? Optional.empty() : Optional.of(entry.getCommand());
 	}
 
+	@Nonnull
+	@Override
 	@CheckReturnValue
-	protected boolean nameIsOK(@Nonnull String command, @Nonnull String message) {
-		command = command.toLowerCase().trim();
-		if (message.length() == command.length() && message.startsWith(command)) {
-			return true;
-		} else return message.startsWith(command + " ");
+	public Optional<ICommand> findCommand(@Nonnull Class<? extends ICommand> clazz) {
+		return Optional.ofNullable(registry.find(clazz));
 	}
 
 	@Nonnull
 	@CheckReturnValue
-	protected String correctName(@Nonnull String message, @Nonnull ICommand command) {
-		if (nameIsOK(command.getName(), message))
-			return command.getName().toLowerCase();
-		for (String alias : command.getAlias()) {
-			if (nameIsOK(alias, message))
-				return alias.toLowerCase();
-		}
-		throw new IllegalStateException();
+	public CommandRegistry getRegistry() {
+		return registry;
+	}
+
+	/**
+	 * Sets the filters which run before the prefix is resolved, in the given order.
+	 * The first filter which rejects a message decides the {@link CommandResult}.
+	 *
+	 * @see DefaultMessageFilter
+	 */
+	@Nonnull
+	public synchronized CommandHandler setMessageFilters(@Nonnull MessageFilter... filters) {
+		this.filters = filters.clone();
+		return this;
+	}
+
+	@Nonnull
+	public synchronized CommandHandler addMessageFilter(@Nonnull MessageFilter filter) {
+		MessageFilter[] filters = Arrays.copyOf(this.filters, this.filters.length + 1);
+		filters[filters.length - 1] = filter;
+		this.filters = filters;
+		return this;
 	}
 
 	@Nonnull
-	@Override
 	@CheckReturnValue
-	public Optional<ICommand> findCommand(@Nonnull Class<? extends ICommand> clazz) {
-		return registry.stream().filter(command -> command.getClass() == clazz).findFirst();
+	public List<MessageFilter> getMessageFilters() {
+		return Collections.unmodifiableList(Arrays.asList(filters));
+	}
+
+	/**
+	 * @return How many messages were rejected by each filter stage
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public Map<MessageFilter, Long> getFilterRejections() {
+		Map<MessageFilter, Long> rejections = new LinkedHashMap<>();
+		for (MessageFilter filter : filters) {
+			LongAdder counter = filterRejections.get(filter);
+			rejections.put(filter, counter == null ? 0 : counter.sum());
+		}
+		return rejections;
 	}
 
 	@Nonnull
@@ -249,10 +444,104 @@ public class CommandHandler implements ICommandHandler {
 	@Nonnull
 	@Override
 	@CheckReturnValue
-	public ThreadPoolExecutor getAsyncCommandExecutorService() {
+	public ExecutorService getAsyncCommandExecutorService() {
 		return executorService;
 	}
 
+	@Nonnull
+	@Override
+	public CommandHandler setAsyncCommandExecutorService(@Nonnull ExecutorService executorService) {
+		this.executorService = executorService;
+		return this;
+	}
+
+	/**
+	 * Executes async commands on virtual threads, the previous executor will not be shut down.
+	 *
+	 * @throws UnsupportedOperationException If the current runtime is older than Java 21
+	 *
+	 * @see CommandExecutors#supportsVirtualThreads()
+	 * @see CommandExecutors#newVirtualThreadExecutor()
+	 */
+	@Nonnull
+	public CommandHandler useVirtualThreads() {
+		return setAsyncCommandExecutorService(CommandExecutors.newVirtualThreadExecutor());
+	}
+
+	/**
+	 * Executes async commands of the same guild or channel one after another, in the order they were received.
+	 * Commands of different lanes still run in parallel on the {@link #getAsyncCommandExecutorService() executor}.
+	 * If a lane is full, {@link CommandResult#OVERLOADED} is returned.
+	 *
+	 * @param scope Decides which commands share a lane
+	 * @param lanes The amount of lanes, guilds or channels are striped onto them
+	 * @param capacity The maximum amount of commands waiting in a single lane
+	 *
+	 * @see LaneExecutor
+	 */
+	@Nonnull
+	public synchronized CommandHandler useOrderedLanes(@Nonnull LaneScope scope, int lanes, int capacity) {
+		this.laneScope = scope;
+		this.lanes = new LaneExecutor(task -> executorService.execute(task), lanes, capacity);
+		return this;
+	}
+
+	/**
+	 * Executes async commands without any order again
+	 */
+	@Nonnull
+	public synchronized CommandHandler disableOrderedLanes() {
+		this.lanes = null;
+		return this;
+	}
+
+	/**
+	 * @return The lanes used to order async commands, {@code null} if they are not ordered
+	 *
+	 * @see #useOrderedLanes(LaneScope, int, int)
+	 */
+	@Nullable
+	@CheckReturnValue
+	public LaneExecutor getLanes() {
+		return lanes;
+	}
+
+	/**
+	 * Limits the amount of commands in flight. Rejected commands are completed with
+	 * {@link CommandResult#SERVER_BUSY} or {@link CommandResult#SERVER_BUSY_NO_REACT}.
+	 *
+	 * @param admission The controller to use, {@code null} to admit every command
+	 */
+	@Nonnull
+	public CommandHandler setAdmissionController(@Nullable AdmissionController admission) {
+		this.admission = admission;
+		return this;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public AdmissionController getAdmissionController() {
+		return admission;
+	}
+
+	/**
+	 * Times each {@link DispatchStage} of every message handled.
+	 * When no listener is set, no time is measured at all.
+	 *
+	 * @param listener The listener receiving the timings, {@code null} to disable the timing
+	 */
+	@Nonnull
+	public CommandHandler setTimingListener(@Nullable DispatchTimingListener listener) {
+		this.timingListener = listener;
+		return this;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public DispatchTimingListener getTimingListener() {
+		return timingListener;
+	}
+
 	@Nullable
 	@Override
 	@CheckReturnValue
@@ -285,4 +574,11 @@ public class CommandHandler implements ICommandHandler {
 	public long getExecutedCommandsCount() {
 		return executedCommands.get();
 	}
+
+	@Nonnull
+	@Override
+	@CheckReturnValue
+	public HandlerMetrics.Snapshot getMetrics() {
+		return metrics.snapshot();
+	}
 }
@@ -0,0 +1,249 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Immutable snapshot of the registered commands.
+ * Names and aliases are indexed once in a char trie, so a lookup only walks the given name
+ * and does not allocate anything.
+ * Registering a command creates a new snapshot using {@link #with(ICommand...)}, the old one stays untouched.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see CommandHandler
+ */
+public final class CommandRegistry {
+
+	private static final CommandRegistry EMPTY = new CommandRegistry(Collections.emptyList(), Node.EMPTY, false, false);
+
+	@Nonnull
+	@CheckReturnValue
+	public static CommandRegistry empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * A name or alias of a registered command, as it is stored in the index
+	 */
+	public static final class Entry {
+
+		private final ICommand command;
+		private final String name;
+		private final int order;
+
+		private Entry(@Nonnull ICommand command, @Nonnull String name, int order) {
+			this.command = command;
+			this.name = name;
+			this.order = order;
+		}
+
+		@Nonnull
+		@CheckReturnValue
+		public ICommand getCommand() {
+			return command;
+		}
+
+		/**
+		 * @return The lowercase name or alias which matched
+		 */
+		@Nonnull
+		@CheckReturnValue
+		public String getName() {
+			return name;
+		}
+
+	}
+
+	/**
+	 * A node of the trie. Nodes are never changed, a new snapshot copies the nodes on the path of the added names
+	 * and shares all others with the snapshot it was created from.
+	 */
+	private static final class Node {
+
+		private static final Node EMPTY = new Node(new char[0], new Node[0], null);
+
+		private final char[] keys;
+		private final Node[] children;
+		private final Entry entry;
+
+		private Node(@Nonnull char[] keys, @Nonnull Node[] children, @Nullable Entry entry) {
+			this.keys = keys;
+			this.children = children;
+			this.entry = entry;
+		}
+
+		@Nullable
+		private Node child(char key) {
+			int index = Arrays.binarySearch(keys, key);
+			return index < 0 ? null : children[index];
+		}
+
+		@Nonnull
+		private Node withEntry(@Nonnull Entry entry) {
+			return new Node(keys, children, entry);
+		}
+
+		@Nonnull
+		private Node withChild(char key, @Nonnull Node child) {
+			int index = Arrays.binarySearch(keys, key);
+			if (index >= 0) {
+				Node[] children = this.children.clone();
+				children[index] = child;
+				return new Node(keys, children, entry);
+			}
+
+			index = -(index + 1);
+			char[] keys = new char[this.keys.length + 1];
+			Node[] children = new Node[this.children.length + 1];
+			System.arraycopy(this.keys, 0, keys, 0, index);
+			System.arraycopy(this.children, 0, children, 0, index);
+			System.arraycopy(this.keys, index, keys, index + 1, this.keys.length - index);
+			System.arraycopy(this.children, index, children, index + 1, this.children.length - index);
+			keys[index] = key;
+			children[index] = child;
+			return new Node(keys, children, entry);
+		}
+
+	}
+
+	private final List<ICommand> commands;
+	private final Node root;
+	private final boolean guildCommands, privateCommands;
+
+	private CommandRegistry(@Nonnull List<ICommand> commands, @Nonnull Node root, boolean guildCommands, boolean privateCommands) {
+		this.commands = Collections.unmodifiableList(commands);
+		this.root = root;
+		this.guildCommands = guildCommands;
+		this.privateCommands = privateCommands;
+	}
+
+	@Nonnull
+	private static Node index(@Nonnull Node root, @Nonnull ICommand command, @Nullable String name, int order) {
+		if (name == null) return root;
+		name = name.toLowerCase().trim();
+		return insert(root, name, 0, new Entry(command, name, order));
+	}
+
+	@Nonnull
+	private static Node insert(@Nonnull Node node, @Nonnull String name, int index, @Nonnull Entry entry) {
+		if (index == name.length()) {
+			// The first registered command keeps the name, like the old linear search did
+			return node.entry == null ? node.withEntry(entry) : node;
+		}
+
+		char key = Character.toLowerCase(name.charAt(index));
+		Node child = node.child(key);
+		Node updated = insert(child == null ? Node.EMPTY : child, name, index + 1, entry);
+		return updated == child ? node : node.withChild(key, updated);
+	}
+
+	/**
+	 * Only the trie nodes on the path of the new names and aliases are copied, the list of commands is copied once.
+	 * Registering many commands at once using a single call is still cheaper than calling this for every command.
+	 *
+	 * @return A new snapshot containing all commands of this snapshot and the given commands
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public CommandRegistry with(@Nonnull ICommand... commands) {
+		if (commands.length == 0) return this;
+
+		List<ICommand> list = new ArrayList<>(this.commands.size() + commands.length);
+		list.addAll(this.commands);
+		Node root = this.root;
+		boolean guildCommands = this.guildCommands, privateCommands = this.privateCommands;
+		for (ICommand command : commands) {
+			int order = list.size();
+			list.add(command);
+			guildCommands |= command.getType().isAccessibleFromGuild();
+			privateCommands |= command.getType().isAccessibleFromPrivate();
+			root = index(root, command, command.getName(), order);
+			for (String alias : command.getAlias())
+				root = index(root, command, alias, order);
+		}
+		return new CommandRegistry(list, root, guildCommands, privateCommands);
+	}
+
+	/**
+	 * Finds the command whose name or alias is the beginning of the given content.
+	 * The name has to be followed by a whitespace or the end of the content.
+	 * If multiple commands match, the first registered one is used.
+	 *
+	 * @param content The content, for example the message without the prefix
+	 * @param offset The index at which the command name starts
+	 * @param length The index at which the content should be treated as ended
+	 * @return The matching {@link Entry}, or {@code null} if no command matches
+	 */
+	@Nullable
+	@CheckReturnValue
+	public Entry find(@Nonnull CharSequence content, int offset, int length) {
+		Entry match = null;
+		Node node = root;
+		for (int i = offset; node != null; i++) {
+			if (node.entry != null && (i == length || ParsedMessage.isWhitespace(content.charAt(i)))) {
+				if (match == null || node.entry.order < match.order)
+					match = node.entry;
+			}
+			if (i == length) break;
+			node = node.child(Character.toLowerCase(content.charAt(i)));
+		}
+		return match;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public Entry find(@Nonnull CharSequence content, int offset) {
+		return find(content, offset, content.length());
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public Entry find(@Nonnull CharSequence content) {
+		return find(content, 0, content.length());
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public ICommand find(@Nonnull Class<? extends ICommand> clazz) {
+		for (ICommand command : commands) {
+			if (command.getClass() == clazz)
+				return command;
+		}
+		return null;
+	}
+
+	/**
+	 * @return An unmodifiable view of the registered commands, in registration order
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public List<ICommand> getCommands() {
+		return commands;
+	}
+
+	/**
+	 * @return {@code true} if at least one command can be used in a guild
+	 */
+	@CheckReturnValue
+	public boolean hasGuildCommands() {
+		return guildCommands;
+	}
+
+	/**
+	 * @return {@code true} if at least one command can be used in a private chat
+	 */
+	@CheckReturnValue
+	public boolean hasPrivateCommands() {
+		return privateCommands;
+	}
+
+	@CheckReturnValue
+	public int size() {
+		return commands.size();
+	}
+
+}
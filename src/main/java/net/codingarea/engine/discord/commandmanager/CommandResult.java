@@ -57,10 +57,37 @@ public enum CommandResult {
 	 */
 	EXCEPTION("Something went wrong"),
 
+	/**
+	 * Used when the executor of async commands rejected the command, because its queue is full
+	 *
+	 * @see ICommandHandler#getAsyncCommandExecutorService()
+	 * @see CommandExecutors
+	 */
+	OVERLOADED("The bot is currently overloaded, please try again later"),
+
+	/**
+	 * Used when the {@link AdmissionController} rejected the command, because too many commands are in flight.
+	 * Only returned once per {@link AdmissionController#getBusyReplyInterval(java.util.concurrent.TimeUnit) interval},
+	 * {@link #SERVER_BUSY_NO_REACT} is returned otherwise.
+	 *
+	 * @see CommandHandler#setAdmissionController(AdmissionController)
+	 */
+	SERVER_BUSY("The bot is currently busy, please try again in a few seconds"),
+
+	/**
+	 * Used when the {@link AdmissionController} rejected the command and a busy message was already sent recently
+	 *
+	 * @see #SERVER_BUSY
+	 */
+	SERVER_BUSY_NO_REACT(true),
+
 	/**
 	 * Used when the {@link GenericMessageEvent MessageEvent}, which triggered the command event,
 	 * was a web hook message and the {@link ICommand Command} should not react
 	 *
+	 * If the behavior is {@link ReactionBehavior#NEVER}, this is returned by {@link DefaultMessageFilter#WEBHOOK_MESSAGE}
+	 * for every web hook message, even if it did not use the prefix.
+	 *
 	 * @see ICommandHandler#getWebHookReactionBehavior()
 	 * @see ICommand#shouldReactToWebhooks()
 	 * @see ReactionBehavior
@@ -71,6 +98,9 @@ public enum CommandResult {
 	 * Used when the {@link GenericMessageEvent MessageEvent}, which triggered the command event,
 	 * was sent by a bot and the {@link ICommand Command} should not react
 	 *
+	 * If the behavior is {@link ReactionBehavior#NEVER}, this is returned by {@link DefaultMessageFilter#BOT_MESSAGE}
+	 * for every bot message, even if it did not use the prefix.
+	 *
 	 * @see ICommandHandler#getBotReactionBehavior()
 	 * @see ICommand#shouldReactToBots()
 	 * @see ReactionBehavior
@@ -110,6 +140,15 @@ public enum CommandResult {
 	 */
 	INVALID_MESSAGE_TYPE(true),
 
+	/**
+	 * Used when the message was sent in a channel in which none of the registered commands can be used,
+	 * even if it did not use the prefix
+	 *
+	 * @see DefaultMessageFilter#CHANNEL_TYPE
+	 * @see CommandType
+	 */
+	NO_COMMAND_ACCESSIBLE(true),
+
 	/**
 	 * Used when no command was found by the name used
 	 *
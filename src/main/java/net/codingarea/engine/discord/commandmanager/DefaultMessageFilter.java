@@ -0,0 +1,90 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageType;
+import net.dv8tion.jda.api.events.message.GenericMessageEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The filters used by the {@link CommandHandler} by default, ordered from the cheapest to the most expensive one.
+ * Like every {@link MessageFilter}, they run before the prefix is resolved, so their results are reported for messages
+ * with and without the prefix, instead of {@link CommandResult#PREFIX_NOT_USED}. None of their results is answered.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see MessageFilter
+ */
+public enum DefaultMessageFilter implements MessageFilter {
+
+	/**
+	 * Rejects messages whose {@link MessageType} is not {@link MessageType#DEFAULT} or {@link MessageType#INLINE_REPLY}
+	 *
+	 * @see CommandResult#INVALID_MESSAGE_TYPE
+	 */
+	MESSAGE_TYPE {
+		@Nullable
+		@Override
+		public CommandResult check(@Nonnull CommandHandler handler, @Nonnull GenericMessageEvent event, @Nonnull Message message) {
+			MessageType type = message.getType();
+			return type != MessageType.DEFAULT && type != MessageType.INLINE_REPLY ? CommandResult.INVALID_MESSAGE_TYPE : null;
+		}
+	},
+
+	/**
+	 * @see CommandResult#SELF_MESSAGE_NO_REACT
+	 */
+	SELF_MESSAGE {
+		@Nullable
+		@Override
+		public CommandResult check(@Nonnull CommandHandler handler, @Nonnull GenericMessageEvent event, @Nonnull Message message) {
+			return message.getAuthor().getIdLong() == event.getJDA().getSelfUser().getIdLong() ? CommandResult.SELF_MESSAGE_NO_REACT : null;
+		}
+	},
+
+	/**
+	 * Rejects web hook messages if the {@link ICommandHandler#getWebHookReactionBehavior() behavior} is {@link ReactionBehavior#NEVER}
+	 *
+	 * @see CommandResult#WEBHOOK_MESSAGE_NO_REACT
+	 */
+	WEBHOOK_MESSAGE {
+		@Nullable
+		@Override
+		public CommandResult check(@Nonnull CommandHandler handler, @Nonnull GenericMessageEvent event, @Nonnull Message message) {
+			return handler.getWebHookReactionBehavior() == ReactionBehavior.NEVER && message.isWebhookMessage() ? CommandResult.WEBHOOK_MESSAGE_NO_REACT : null;
+		}
+	},
+
+	/**
+	 * Rejects bot messages if the {@link ICommandHandler#getBotReactionBehavior() behavior} is {@link ReactionBehavior#NEVER}
+	 *
+	 * @see CommandResult#BOT_MESSAGE_NO_REACT
+	 */
+	BOT_MESSAGE {
+		@Nullable
+		@Override
+		public CommandResult check(@Nonnull CommandHandler handler, @Nonnull GenericMessageEvent event, @Nonnull Message message) {
+			return handler.getBotReactionBehavior() == ReactionBehavior.NEVER && message.getAuthor().isBot() ? CommandResult.BOT_MESSAGE_NO_REACT : null;
+		}
+	},
+
+	/**
+	 * Rejects messages from channels in which none of the registered commands can be used
+	 *
+	 * @see CommandType
+	 * @see CommandResult#NO_COMMAND_ACCESSIBLE
+	 */
+	CHANNEL_TYPE {
+		@Nullable
+		@Override
+		public CommandResult check(@Nonnull CommandHandler handler, @Nonnull GenericMessageEvent event, @Nonnull Message message) {
+			CommandRegistry registry = handler.getRegistry();
+			if (registry.size() == 0) return null;
+			boolean accessible = event.isFromGuild() ? registry.hasGuildCommands() : registry.hasPrivateCommands();
+			return accessible ? null : CommandResult.NO_COMMAND_ACCESSIBLE;
+		}
+	}
+
+}
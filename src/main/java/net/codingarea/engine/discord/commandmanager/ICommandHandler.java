@@ -1,7 +1,9 @@
 package net.codingarea.engine.discord.commandmanager;
 
+import net.codingarea.engine.discord.commandmanager.metrics.HandlerMetrics;
 import net.codingarea.engine.utils.CoolDownManager;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.events.message.GenericMessageEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.events.message.MessageUpdateEvent;
 
@@ -12,7 +14,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -68,7 +71,17 @@ public interface ICommandHandler {
 
 	@Nonnull
 	@CheckReturnValue
-	ThreadPoolExecutor getAsyncCommandExecutorService();
+	ExecutorService getAsyncCommandExecutorService();
+
+	/**
+	 * Sets the {@link ExecutorService} used to execute {@link ICommand#isAsync() async} commands.
+	 * The previous executor will not be shut down.
+	 * If the executor rejects a command, {@link CommandResult#OVERLOADED} is returned.
+	 *
+	 * @see CommandExecutors
+	 */
+	@Nonnull
+	ICommandHandler setAsyncCommandExecutorService(@Nonnull ExecutorService executorService);
 
 	@Nullable
 	@CheckReturnValue
@@ -94,6 +107,13 @@ public interface ICommandHandler {
 	@CheckReturnValue
 	long getExecutedCommandsCount();
 
+	/**
+	 * @return A snapshot of the amount of each {@link CommandResult} and the counters and latencies of every command
+	 */
+	@Nonnull
+	@CheckReturnValue
+	HandlerMetrics.Snapshot getMetrics();
+
 	@Nonnull
 	ICommandHandler setTeamRankChecker(@Nullable TeamRankChecker checker);
 
@@ -106,10 +126,40 @@ public interface ICommandHandler {
 		 	|| command.isTeamCommand() && getTeamRankChecker() != null && getTeamRankChecker().hasTeamRank(member);
 	}
 
+	/**
+	 * @return A future of the result which belongs to this call only.
+	 *         It is completed by the handler and must not be completed or obtruded by the caller
+	 */
 	@Nonnull
 	CompletableFuture<CommandResult> handleEvent(@Nonnull MessageUpdateEvent event);
 
+	/**
+	 * @return A future of the result which belongs to this call only.
+	 *         It is completed by the handler and must not be completed or obtruded by the caller
+	 */
 	@Nonnull
 	CompletableFuture<CommandResult> handleEvent(@Nonnull MessageReceivedEvent event);
 
+	/**
+	 * Handles the event without allocating a future, if the message is no command.
+	 * The callback is called on the current thread if the result is known immediately,
+	 * otherwise on the thread which completes the result.
+	 *
+	 * @see #handleEvent(MessageUpdateEvent)
+	 */
+	default void handleEvent(@Nonnull MessageUpdateEvent event, @Nonnull BiConsumer<? super CommandResult, ? super GenericMessageEvent> callback) {
+		handleEvent(event).thenAccept(result -> callback.accept(result, event));
+	}
+
+	/**
+	 * Handles the event without allocating a future, if the message is no command.
+	 * The callback is called on the current thread if the result is known immediately,
+	 * otherwise on the thread which completes the result.
+	 *
+	 * @see #handleEvent(MessageReceivedEvent)
+	 */
+	default void handleEvent(@Nonnull MessageReceivedEvent event, @Nonnull BiConsumer<? super CommandResult, ? super GenericMessageEvent> callback) {
+		handleEvent(event).thenAccept(result -> callback.accept(result, event));
+	}
+
 }
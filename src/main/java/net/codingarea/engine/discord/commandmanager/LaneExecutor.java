@@ -0,0 +1,307 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Executes tasks with the same key one after another, in the order they were submitted,
+ * while tasks of different lanes run in parallel on the delegate {@link Executor}.
+ * Keys are striped onto a fixed amount of lanes, so keys sharing a lane are ordered among each other as well.
+ * Each lane has a bounded queue, a task is rejected using a {@link RejectedExecutionException} when its lane is full.
+ * If the delegate rejects a lane while tasks are waiting in it, all of them are rejected and their rejection handlers are called,
+ * so no task is left waiting for a lane which is not scheduled anymore.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see CommandHandler#useOrderedLanes(LaneScope, int, int)
+ * @see LaneScope
+ */
+public class LaneExecutor {
+
+	/**
+	 * The amount of tasks a lane runs before it gives its thread back to the delegate
+	 */
+	protected static final int BATCH_SIZE = 16;
+
+	protected final Executor delegate;
+	protected final Lane[] lanes;
+
+	/**
+	 * @param delegate The executor running the lanes
+	 * @param lanes The amount of lanes, rounded up to the next power of two
+	 * @param capacity The maximum amount of tasks waiting in a single lane
+	 */
+	public LaneExecutor(@Nonnull Executor delegate, int lanes, int capacity) {
+		if (lanes <= 0) throw new IllegalArgumentException("Lanes must be positive: " + lanes);
+		if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+
+		int size = Integer.highestOneBit(lanes);
+		if (size < lanes) size <<= 1;
+
+		this.delegate = delegate;
+		this.lanes = new Lane[size];
+		for (int i = 0; i < size; i++)
+			this.lanes[i] = new Lane(i, capacity);
+	}
+
+	/**
+	 * @param key The key of the lane, for example the id of a guild
+	 * @throws RejectedExecutionException If the lane is full or the delegate rejected the lane
+	 *
+	 * @see #execute(long, Runnable, Consumer)
+	 */
+	public void execute(long key, @Nonnull Runnable task) {
+		execute(key, task, null);
+	}
+
+	/**
+	 * @param key The key of the lane, for example the id of a guild
+	 * @param rejection Called if the task was queued, but is dropped later because the delegate rejected the lane
+	 * @throws RejectedExecutionException If the lane is full or the delegate rejected the lane.
+	 *                                    The rejection handler is not called in that case
+	 */
+	public void execute(long key, @Nonnull Runnable task, @Nullable Consumer<? super RejectedExecutionException> rejection) {
+		laneOf(key).submit(new Task(task, rejection));
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	protected Lane laneOf(long key) {
+		int hash = Long.hashCode(key);
+		hash ^= hash >>> 16;
+		return lanes[hash & (lanes.length - 1)];
+	}
+
+	@CheckReturnValue
+	public int getLaneCount() {
+		return lanes.length;
+	}
+
+	/**
+	 * @return The metrics of all lanes, indexed by lane
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public List<LaneMetrics> getMetrics() {
+		List<LaneMetrics> metrics = new ArrayList<>(lanes.length);
+		for (Lane lane : lanes)
+			metrics.add(lane.metrics());
+		return Collections.unmodifiableList(metrics);
+	}
+
+	/**
+	 * @return The metrics of the lane the given key is mapped to
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public LaneMetrics getMetrics(long key) {
+		return laneOf(key).metrics();
+	}
+
+	private static final class Task {
+
+		private final Runnable runnable;
+		private final Consumer<? super RejectedExecutionException> rejection;
+
+		private Task(@Nonnull Runnable runnable, @Nullable Consumer<? super RejectedExecutionException> rejection) {
+			this.runnable = runnable;
+			this.rejection = rejection;
+		}
+
+	}
+
+	protected final class Lane implements Runnable {
+
+		private final int index;
+		private final Queue<Task> queue;
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private final LongAdder submitted = new LongAdder(), completed = new LongAdder(), rejected = new LongAdder();
+		private volatile int maxQueued;
+
+		private Lane(int index, int capacity) {
+			this.index = index;
+			this.queue = new ArrayBlockingQueue<>(capacity);
+		}
+
+		private void submit(@Nonnull Task task) {
+			if (!queue.offer(task)) {
+				rejected.increment();
+				throw new RejectedExecutionException("Lane " + index + " is full (" + queue.size() + " tasks queued)");
+			}
+			submitted.increment();
+
+			int size = queue.size();
+			if (size > maxQueued) maxQueued = size; // racy, only used for metrics
+
+			try {
+				schedule();
+			} catch (RejectedExecutionException ex) {
+				// Older tasks may be waiting as well, nobody would run them now
+				if (rejectQueued(ex, task)) {
+					submitted.decrement();
+					throw ex;
+				}
+				// The task was already taken by a running drain of this lane
+			}
+		}
+
+		/**
+		 * Removes all waiting tasks after the delegate rejected this lane and calls their rejection handlers
+		 *
+		 * @param except A task whose handler should not be called, because the rejection is thrown to its submitter
+		 * @return {@code true} if the excepted task was still waiting
+		 */
+		private boolean rejectQueued(@Nonnull RejectedExecutionException cause, @Nullable Task except) {
+			boolean found = false;
+			Task task;
+			while ((task = queue.poll()) != null) {
+				rejected.increment();
+				if (task == except) {
+					found = true;
+					continue;
+				}
+				if (task.rejection == null) continue;
+				try {
+					task.rejection.accept(cause);
+				} catch (Throwable ignored) { }
+			}
+			return found;
+		}
+
+		private void schedule() {
+			if (scheduled.compareAndSet(false, true)) {
+				try {
+					delegate.execute(this);
+				} catch (RejectedExecutionException ex) {
+					scheduled.set(false);
+					throw ex;
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				for (int i = 0; i < BATCH_SIZE; i++) {
+					Task task = queue.poll();
+					if (task == null) break;
+					try {
+						task.runnable.run();
+					} finally {
+						completed.increment();
+					}
+				}
+			} finally {
+				scheduled.set(false);
+				// Reschedule if tasks were added after the last poll or the batch was exhausted
+				if (!queue.isEmpty()) {
+					try {
+						schedule();
+					} catch (RejectedExecutionException ex) {
+						rejectQueued(ex, null);
+					}
+				}
+			}
+		}
+
+		@Nonnull
+		private LaneMetrics metrics() {
+			return new LaneMetrics(index, queue.size(), maxQueued, scheduled.get(), submitted.sum(), completed.sum(), rejected.sum());
+		}
+
+	}
+
+	/**
+	 * A snapshot of the metrics of a single lane
+	 */
+	public static final class LaneMetrics {
+
+		private final int lane, queued, maxQueued;
+		private final boolean running;
+		private final long submitted, completed, rejected;
+
+		private LaneMetrics(int lane, int queued, int maxQueued, boolean running, long submitted, long completed, long rejected) {
+			this.lane = lane;
+			this.queued = queued;
+			this.maxQueued = maxQueued;
+			this.running = running;
+			this.submitted = submitted;
+			this.completed = completed;
+			this.rejected = rejected;
+		}
+
+		@CheckReturnValue
+		public int getLane() {
+			return lane;
+		}
+
+		/**
+		 * @return The amount of tasks currently waiting in this lane
+		 */
+		@CheckReturnValue
+		public int getQueued() {
+			return queued;
+		}
+
+		/**
+		 * @return The highest amount of tasks which were waiting in this lane at once
+		 */
+		@CheckReturnValue
+		public int getMaxQueued() {
+			return maxQueued;
+		}
+
+		/**
+		 * @return {@code true} if this lane is currently scheduled on the delegate
+		 */
+		@CheckReturnValue
+		public boolean isRunning() {
+			return running;
+		}
+
+		@CheckReturnValue
+		public long getSubmitted() {
+			return submitted;
+		}
+
+		@CheckReturnValue
+		public long getCompleted() {
+			return completed;
+		}
+
+		/**
+		 * @return The amount of tasks rejected, because this lane was full or the delegate rejected it, including tasks which were already waiting
+		 */
+		@CheckReturnValue
+		public long getRejected() {
+			return rejected;
+		}
+
+		@Override
+		public String toString() {
+			return "LaneMetrics{" +
+					"lane=" + lane +
+					", queued=" + queued +
+					", maxQueued=" + maxQueued +
+					", running=" + running +
+					", submitted=" + submitted +
+					", completed=" + completed +
+					", rejected=" + rejected +
+					'}';
+		}
+
+	}
+
+}
@@ -0,0 +1,33 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+
+/**
+ * Decides which async commands are executed one after another by a {@link LaneExecutor}
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see CommandHandler#useOrderedLanes(LaneScope, int, int)
+ */
+public enum LaneScope {
+
+	/**
+	 * Commands of the same guild are executed in order, commands in private chats are ordered by channel
+	 */
+	GUILD,
+
+	/**
+	 * Commands of the same channel are executed in order
+	 */
+	CHANNEL;
+
+	@CheckReturnValue
+	public long keyOf(@Nonnull CommandEvent event) {
+		return this == GUILD && event.isGuild() ? event.getGuild().getIdLong() : event.getChannel().getIdLong();
+	}
+
+}
@@ -0,0 +1,31 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.message.GenericMessageEvent;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A stage of the filter pipeline, which runs before the prefix is resolved.
+ * Filters may only use cheap information which does not depend on the command.
+ * Because a rejected message may not have been meant for the bot at all, filters should only return results without an {@link CommandResult#getAnswer() answer}.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see DefaultMessageFilter
+ * @see CommandHandler#setMessageFilters(MessageFilter...)
+ */
+@FunctionalInterface
+public interface MessageFilter {
+
+	/**
+	 * @return The {@link CommandResult} the message is rejected with, {@code null} if the message passes this stage
+	 */
+	@Nullable
+	@CheckReturnValue
+	CommandResult check(@Nonnull CommandHandler handler, @Nonnull GenericMessageEvent event, @Nonnull Message message);
+
+}
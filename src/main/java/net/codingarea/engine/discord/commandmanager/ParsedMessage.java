@@ -0,0 +1,186 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The result of pre-parsing the raw content of a message once.
+ * It only stores offsets into the original content, nothing is copied or lowercased.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see CommandHandler
+ * @see net.codingarea.engine.discord.commandmanager.event.CommandEventImpl
+ */
+public final class ParsedMessage {
+
+	/**
+	 * Checks if the given content starts with the prefix (ignoring case) or the mention of the bot.
+	 * Whitespaces after a mention prefix are treated as a part of the prefix.
+	 *
+	 * @param content The raw content of the message
+	 * @param prefix The prefix which should be used
+	 * @param mention The mention of the bot, {@code null} if a mention cannot be used as prefix
+	 * @return The parsed message, {@code null} if no prefix was used
+	 */
+	@Nullable
+	@CheckReturnValue
+	public static ParsedMessage parse(@Nonnull String content, @Nonnull String prefix, @Nullable SelfMention mention) {
+
+		int start = skipWhitespaces(content, 0);
+		int end = content.length();
+		while (end > start && isWhitespace(content.charAt(end - 1)))
+			end--;
+
+		int mentionLength;
+		if (content.regionMatches(true, start, prefix, 0, prefix.length()) && start + prefix.length() <= end) {
+			return new ParsedMessage(content, start, end, start + prefix.length(), prefix, prefix, false);
+		} else if (mention != null && (mentionLength = mention.match(content, start)) > 0 && start + mentionLength <= end) {
+			int commandStart = start + mentionLength;
+			while (commandStart < end && isWhitespace(content.charAt(commandStart)))
+				commandStart++;
+			return new ParsedMessage(content, start, end, commandStart, null, prefix, true);
+		} else {
+			return null;
+		}
+
+	}
+
+	/**
+	 * Creates a parsed message for content which is known to start with the given prefix
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static ParsedMessage of(@Nonnull String content, @Nonnull String prefix, boolean mentionPrefix) {
+		int start = skipWhitespaces(content, 0);
+		int end = content.length();
+		while (end > start && isWhitespace(content.charAt(end - 1)))
+			end--;
+		return new ParsedMessage(content, start, end, Math.min(start + prefix.length(), end), prefix, mentionPrefix ? null : prefix, mentionPrefix);
+	}
+
+	/**
+	 * The single definition of a whitespace used for trimming messages, matching command names and splitting arguments
+	 *
+	 * @see Character#isWhitespace(char)
+	 */
+	@CheckReturnValue
+	static boolean isWhitespace(char c) {
+		return Character.isWhitespace(c);
+	}
+
+	private static int skipWhitespaces(@Nonnull String content, int index) {
+		while (index < content.length() && isWhitespace(content.charAt(index)))
+			index++;
+		return index;
+	}
+
+	private final String content;
+	private final int start, end, commandStart;
+	private final boolean mentionPrefix;
+	private final String configuredPrefix;
+	private String prefix;
+
+	private ParsedMessage(@Nonnull String content, int start, int end, int commandStart,
+	                      @Nullable String prefix, @Nullable String configuredPrefix, boolean mentionPrefix) {
+		this.content = content;
+		this.start = start;
+		this.end = end;
+		this.commandStart = commandStart;
+		this.prefix = prefix;
+		this.configuredPrefix = configuredPrefix;
+		this.mentionPrefix = mentionPrefix;
+	}
+
+	/**
+	 * @return The raw content of the message, not trimmed
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public String getContent() {
+		return content;
+	}
+
+	/**
+	 * @return The index of the first character which is not a whitespace
+	 */
+	@CheckReturnValue
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * @return The index after the last character which is not a whitespace
+	 */
+	@CheckReturnValue
+	public int getEnd() {
+		return end;
+	}
+
+	/**
+	 * @return The index at which the command name starts
+	 */
+	@CheckReturnValue
+	public int getCommandStart() {
+		return commandStart;
+	}
+
+	@CheckReturnValue
+	public boolean isMentionPrefix() {
+		return mentionPrefix;
+	}
+
+	/**
+	 * @return The prefix used. If the mention was used, the whitespaces following the mention are included
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public String getPrefix() {
+		if (prefix == null)
+			prefix = content.substring(start, commandStart);
+		return prefix;
+	}
+
+	/**
+	 * @return The prefix of the {@link PrefixProvider} which was checked, even if the mention was used.
+	 *         {@code null} if it is unknown, because the message was created using {@link #of(String, String, boolean)} with a mention prefix
+	 */
+	@Nullable
+	@CheckReturnValue
+	public String getConfiguredPrefix() {
+		return configuredPrefix;
+	}
+
+	/**
+	 * @param commandLength The length of the command name used
+	 * @return The index at which the arguments start, {@link #getEnd()} if there are no arguments
+	 */
+	@CheckReturnValue
+	public int getArgsStart(int commandLength) {
+		return Math.min(skipWhitespaces(content, commandStart + commandLength), end);
+	}
+
+	/**
+	 * @param commandLength The length of the command name used
+	 * @return The arguments following the command name, tokenized once they are accessed
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public CommandArguments getArguments(int commandLength) {
+		return new CommandArguments(content, getArgsStart(commandLength), end);
+	}
+
+	/**
+	 * @param commandLength The length of the command name used
+	 * @return The arguments separated by whitespaces
+	 * @see CommandArguments
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public String[] parseArgs(int commandLength) {
+		return getArguments(commandLength).toArray();
+	}
+
+}
@@ -0,0 +1,90 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.SelfUser;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The mention of the bot, precomputed once per self user.
+ * Matches both mention forms ({@code <@id>} and {@code <@!id>}) without allocating.
+ * The mention only depends on the id of the self user, so it never has to be invalidated,
+ * and the cache does not hold on to {@link JDA} instances.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see ParsedMessage
+ * @see net.codingarea.engine.discord.defaults.DefaultCommandListener
+ */
+public final class SelfMention {
+
+	private static final Map<Long, SelfMention> cache = new ConcurrentHashMap<>();
+
+	/** The mention returned last, almost every application only runs a single bot */
+	private static volatile SelfMention last;
+
+	@Nonnull
+	@CheckReturnValue
+	public static SelfMention of(@Nonnull JDA jda) {
+		SelfUser user = jda.getSelfUser();
+		SelfMention mention = last;
+		if (mention != null && mention.idLong == user.getIdLong()) return mention;
+
+		mention = cache.computeIfAbsent(user.getIdLong(), id -> new SelfMention(user));
+		last = mention;
+		return mention;
+	}
+
+	private final long idLong;
+	private final String id;
+	private final String mention;
+
+	private SelfMention(@Nonnull SelfUser user) {
+		this.idLong = user.getIdLong();
+		this.id = user.getId();
+		this.mention = "<@!" + id + ">";
+	}
+
+	/**
+	 * @param content The content which should be checked
+	 * @param offset The index at which the mention is expected
+	 * @return The length of the mention at the given offset, {@code -1} if there is no mention of the bot
+	 */
+	@CheckReturnValue
+	public int match(@Nonnull String content, int offset) {
+		if (!content.startsWith("<@", offset)) return -1;
+
+		int index = offset + 2;
+		if (index < content.length() && content.charAt(index) == '!')
+			index++;
+
+		if (!content.startsWith(id, index)) return -1;
+		index += id.length();
+
+		if (index >= content.length() || content.charAt(index) != '>') return -1;
+		return index + 1 - offset;
+	}
+
+	/**
+	 * @return The id of the self user
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * @return The mention in the {@code <@!id>} form
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public String getMention() {
+		return mention;
+	}
+
+}
@@ -0,0 +1,39 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Access to virtual threads, which are only available on Java 21 or newer.
+ * This is the fallback for older versions, the actual implementation is located in {@code src/main/java21}
+ * and is packed into {@code META-INF/versions/21} of the multi-release jar.
+ * That class is only compiled by the {@code java21} profile, which is active if the build runs on JDK 21 or newer.
+ * A jar built on an older JDK silently ships without it, so virtual threads are unsupported even on a Java 21 runtime.
+ *
+ * Virtual threads only help with blocking calls which unmount them from their carrier thread.
+ * The {@code mysql-connector-java 8.0.21} driver used by {@link net.codingarea.engine.sql.SQL} reads from its socket inside
+ * {@code synchronized} blocks, which pins the carrier thread on Java 21 to 23, so a command blocking on a query occupies
+ * one of the few carrier threads just like a platform thread would.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see CommandExecutors#newVirtualThreadExecutor(String)
+ */
+final class VirtualThreads {
+
+	private VirtualThreads() { }
+
+	@CheckReturnValue
+	static boolean isSupported() {
+		return false;
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	static ExecutorService newExecutor(@Nonnull String name) {
+		throw new UnsupportedOperationException("Virtual threads require Java 21 or newer (running " + System.getProperty("java.version") + ")");
+	}
+
+}
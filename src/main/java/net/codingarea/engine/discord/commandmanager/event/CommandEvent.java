@@ -1,11 +1,16 @@
 package net.codingarea.engine.discord.commandmanager.event;
 
+import net.codingarea.engine.discord.commandmanager.CommandArguments;
 import net.codingarea.engine.discord.commandmanager.ICommand;
 import net.codingarea.engine.discord.commandmanager.ICommandHandler;
+import net.codingarea.engine.discord.commandmanager.ParsedMessage;
 import net.codingarea.engine.discord.commandmanager.helper.CommandHelper;
+import net.codingarea.engine.lang.Language;
+import net.codingarea.engine.lang.LanguageManager;
 import net.codingarea.engine.utils.Colors;
 import net.codingarea.engine.utils.InviteManager;
-import net.codingarea.engine.utils.Utils;
+import net.codingarea.engine.utils.Markup;
+import net.codingarea.engine.utils.Replacement;
 import net.codingarea.engine.utils.function.ThrowingConsumer;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.JDA.ShardInfo;
@@ -49,10 +54,22 @@ public interface CommandEvent extends MessagePipeline {
 	@CheckReturnValue
 	String getCommandName();
 
+	/**
+	 * @return The prefix which was used, if the mention was used the mention including the following spaces
+	 */
 	@Nonnull
 	@CheckReturnValue
 	String getPrefix();
 
+	/**
+	 * @return The prefix of the {@link net.codingarea.engine.discord.commandmanager.PrefixProvider PrefixProvider}, even if the mention was used
+	 */
+	@Nonnull
+	@CheckReturnValue
+	default String getConfiguredPrefix() {
+		return getHandler().getPrefixProvider().getPrefix(this);
+	}
+
 	@CheckReturnValue
 	boolean isMentionPrefix();
 
@@ -71,6 +88,37 @@ public interface CommandEvent extends MessagePipeline {
 	@CheckReturnValue
 	boolean isWebHook();
 
+	/**
+	 * @return The language used to translate messages for this event
+	 */
+	@Nonnull
+	@CheckReturnValue
+	default Language getLanguage() {
+		return LanguageManager.getInstance().getLanguage(this);
+	}
+
+	/**
+	 * Discards the language which may be cached for this event.
+	 * Should be called if the language of the guild was changed while executing the command.
+	 */
+	default void resetLanguage() {
+	}
+
+	@Nonnull
+	@Override
+	@CheckReturnValue
+	default String getMessage(@Nonnull String key, @Nonnull Replacement... replacements) {
+		return getLanguage().translate(key, replacements);
+	}
+
+	@Nonnull
+	@Override
+	@CheckReturnValue
+	default String getMessage(@Nonnull String key, @Nonnull String fallback, @Nonnull Replacement... replacements) {
+		if (!LanguageManager.hasInstance()) return Replacement.replaceAll(fallback, replacements);
+		return getLanguage().translate(key, fallback, replacements);
+	}
+
 	//
 	// General info about the bot
 	// (jda, shardmanager, shard, ...)
@@ -419,13 +467,27 @@ public interface CommandEvent extends MessagePipeline {
 		return getMessage().getContentStripped();
 	}
 
+	/**
+	 * @return The arguments following the command name
+	 * @see CommandArguments
+	 */
+	@Nonnull
+	@CheckReturnValue
+	CommandArguments getArguments();
+
+	/**
+	 * @return The arguments following the command name, separated by whitespaces.
+	 *         The array is shared, it should not be modified
+	 */
 	@Nonnull
 	@CheckReturnValue
-	String[] getArgs();
+	default String[] getArgs() {
+		return getArguments().toArray();
+	}
 
 	@CheckReturnValue
 	default int getArgsLength() {
-		return getArgs().length;
+		return getArguments().size();
 	}
 
 	@Nonnull
@@ -437,35 +499,38 @@ public interface CommandEvent extends MessagePipeline {
 	@Nonnull
 	@CheckReturnValue
 	default String[] getArgs(int startIndex, int endIndex) {
-		List<String> args = new ArrayList<>();
+		String[] args = new String[Math.max(0, endIndex - startIndex)];
 		for (int i = startIndex; i < endIndex; i++) {
-			args.add(getArg(i));
+			args[i - startIndex] = getArg(i);
 		}
-		return args.toArray(new String[0]);
+		return args;
 	}
 
 	@Nonnull
 	@CheckReturnValue
 	default String getArg(int index) {
-		return getArgs()[index];
+		return getArguments().get(index);
 	}
 
+	/**
+	 * @return The arguments as they were written, including the whitespaces and quotes between them
+	 */
 	@Nonnull
 	@CheckReturnValue
 	default String getArgsAsString() {
-		return Utils.arrayToString(getArgs());
+		return getArguments().join();
 	}
 
 	@Nonnull
 	@CheckReturnValue
 	default String getArgsAsString(int startIndex) {
-		return Utils.arrayToString(getArgs(), startIndex);
+		return getArguments().join(startIndex);
 	}
 
 	@Nonnull
 	@CheckReturnValue
 	default String getArgsAsString(int startIndex, int endIndex) {
-		return Utils.arrayToString(getArgs(), startIndex, endIndex);
+		return getArguments().join(startIndex, endIndex);
 	}
 
 	@Nonnull
@@ -590,13 +655,7 @@ public interface CommandEvent extends MessagePipeline {
 	@CheckReturnValue
 	static String[] parseArgs(@Nonnull Message message, @Nonnull String prefix, @Nonnull String command) {
 
-		String raw = message.getContentRaw().trim();
-		if (raw.length() == (prefix + command).length()) {
-			return new String[0];
-		} else {
-			String argsRaw = raw.substring((prefix + command).length()).trim();
-			return argsRaw.split(" ");
-		}
+		return ParsedMessage.of(message.getContentRaw(), prefix, false).parseArgs(command.length());
 
 	}
 
@@ -615,10 +674,9 @@ public interface CommandEvent extends MessagePipeline {
 	@Nonnull
 	@CheckReturnValue
 	static String syntax(@Nonnull CommandEvent event, @Nonnull CharSequence syntax, boolean command) {
-		String prefix = event.getHandler().getPrefixProvider().getPrefix(event);
+		String prefix = event.getConfiguredPrefix();
 		String message = prefix + (command ? event.getCommandName() + " " : "") + syntax;
-		boolean mark = !CommandHelper.containsMention(message);
-		return (mark ? "`" : "*") + CommandHelper.removeMarkdown(message, mark) + (mark ? "`" : "*");
+		return Markup.highlight(message);
 	}
 
 }
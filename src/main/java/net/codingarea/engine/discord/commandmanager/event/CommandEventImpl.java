@@ -1,8 +1,12 @@
 package net.codingarea.engine.discord.commandmanager.event;
 
+import net.codingarea.engine.discord.commandmanager.CommandArguments;
 import net.codingarea.engine.discord.commandmanager.ICommand;
 import net.codingarea.engine.discord.commandmanager.ICommandHandler;
+import net.codingarea.engine.discord.commandmanager.ParsedMessage;
 import net.codingarea.engine.discord.commandmanager.helper.CommandHelper;
+import net.codingarea.engine.lang.Language;
+import net.codingarea.engine.lang.LanguageManager;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.events.message.GenericMessageEvent;
@@ -19,7 +23,8 @@ public class CommandEventImpl implements CommandEvent {
 
 	protected final ICommandHandler handler;
 	protected final ICommand command;
-	protected final String commandName, prefix;
+	protected final String commandName;
+	protected final ParsedMessage parsed;
 	protected final boolean mentionPrefix;
 	protected final boolean async, fromGuild, bot, webhook;
 	protected final GenericMessageEvent event;
@@ -28,18 +33,28 @@ public class CommandEventImpl implements CommandEvent {
 	protected final Member member;
 	protected final MessageChannel channel;
 	protected final Message message;
-	protected final String[] args;
+	protected final CommandArguments arguments;
+
+	// Resolved once they are needed, most commands use them multiple times or not at all
+	protected String configuredPrefix;
+	protected Language language;
 
 	public CommandEventImpl(@Nonnull ICommandHandler handler, @Nonnull ICommand command,
 	                        @Nonnull String commandName, @Nonnull String prefix, boolean mentionPrefix,
 	                        @Nonnull GenericMessageEvent event) {
+		this(handler, command, commandName, ParsedMessage.of(contentOf(event), prefix, mentionPrefix), event);
+	}
+
+	public CommandEventImpl(@Nonnull ICommandHandler handler, @Nonnull ICommand command,
+	                        @Nonnull String commandName, @Nonnull ParsedMessage parsed,
+	                        @Nonnull GenericMessageEvent event) {
 		if (!(event instanceof MessageUpdateEvent || event instanceof MessageReceivedEvent))
 			throw new IllegalStateException();
 		this.handler = handler;
 		this.command = command;
 		this.commandName = commandName;
-		this.prefix = prefix;
-		this.mentionPrefix = mentionPrefix;
+		this.parsed = parsed;
+		this.mentionPrefix = parsed.isMentionPrefix();
 		this.async = command.isAsync();
 		this.fromGuild = event.isFromGuild();
 		this.event = event;
@@ -47,12 +62,20 @@ public class CommandEventImpl implements CommandEvent {
 		this.channel = event.getChannel();
 		this.message = CommandHelper.getMessage(event);
 		this.member = CommandHelper.getMember(event);
-		this.args = CommandEvent.parseArgs(message, prefix, commandName);
+		this.arguments = parsed.getArguments(commandName.length());
 		this.user = message.getAuthor();
 		this.bot = user.isBot();
 		this.webhook = message.isWebhookMessage();
 	}
 
+	@Nonnull
+	private static String contentOf(@Nonnull GenericMessageEvent event) {
+		Message message = CommandHelper.getMessage(event);
+		if (message == null)
+			throw new IllegalStateException();
+		return message.getContentRaw();
+	}
+
 	@Nonnull
 	@Override
 	public ICommandHandler getHandler() {
@@ -74,7 +97,30 @@ public class CommandEventImpl implements CommandEvent {
 	@Nonnull
 	@Override
 	public String getPrefix() {
-		return prefix;
+		return parsed.getPrefix();
+	}
+
+	@Nonnull
+	@Override
+	public String getConfiguredPrefix() {
+		String prefix = configuredPrefix;
+		if (prefix == null) prefix = parsed.getConfiguredPrefix();
+		if (prefix == null) prefix = handler.getPrefixProvider().getPrefix(this);
+		return configuredPrefix = prefix;
+	}
+
+	@Nonnull
+	@Override
+	public Language getLanguage() {
+		Language language = this.language;
+		if (language == null)
+			this.language = language = LanguageManager.getInstance().getLanguage(this);
+		return language;
+	}
+
+	@Override
+	public void resetLanguage() {
+		language = null;
 	}
 
 	@Override
@@ -153,8 +199,8 @@ public class CommandEventImpl implements CommandEvent {
 
 	@Nonnull
 	@Override
-	public String[] getArgs() {
-		return args;
+	public CommandArguments getArguments() {
+		return arguments;
 	}
 
 }
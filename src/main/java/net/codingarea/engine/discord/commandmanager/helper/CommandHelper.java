@@ -1,6 +1,9 @@
 package net.codingarea.engine.discord.commandmanager.helper;
 
+import net.codingarea.engine.discord.commandmanager.SelfMention;
 import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
+import net.codingarea.engine.utils.Markup;
+import net.codingarea.engine.utils.Parsing;
 import net.codingarea.engine.utils.Replacement;
 import net.codingarea.engine.utils.Utils;
 import net.dv8tion.jda.api.entities.Member;
@@ -41,14 +44,7 @@ public abstract class CommandHelper extends SearchHelper {
 
 	@CheckReturnValue
 	public static boolean isValidID(@Nullable String id) {
-		if (id == null) return false;
-		if (id.length() != 18) return false;
-		try {
-			Long.parseLong(id);
-			return true;
-		} catch (Exception ex) {
-			return false;
-		}
+		return Parsing.isSnowflake(id);
 	}
 
 	@Nonnull
@@ -79,11 +75,8 @@ public abstract class CommandHelper extends SearchHelper {
 	@Nonnull
 	@CheckReturnValue
 	public static String removeMarkdown(@Nullable Object string, boolean inMarkDown) {
-		return String.valueOf(string)
-				.replace("`", inMarkDown ? "" : "\\`")
-				.replace("_", inMarkDown ? "_" : "\\_")
-				.replace("*", inMarkDown ? "*" : "\\*")
-				.replace("@", inMarkDown ? "@" : "");
+		String text = String.valueOf(string);
+		return inMarkDown ? Markup.escapeForCode(text) : Markup.escape(text);
 	}
 
 	/**
@@ -93,42 +86,13 @@ public abstract class CommandHelper extends SearchHelper {
 	 */
 	@CheckReturnValue
 	public static boolean containsMention(@Nonnull String text) {
-
-		// n is a placeholder for any number
-		char[] goal = "<@!nnnnnnnnnnnnnnnnnn>".toCharArray();
-		int current = 0;
-		for (char currentChar : text.toCharArray()) {
-
-			boolean isInMention = false;
-			char expected = goal[current];
-
-			if (currentChar == expected) {
-				isInMention = true;
-			} else if (expected == 'n') {
-				try {
-					Integer.parseInt(String.valueOf(current));
-					isInMention = true;
-				} catch (NumberFormatException ignored) { }
-			}
-
-			if (isInMention) {
-				current++;
-			} else {
-				current = 0;
-			}
-
-			if (current == goal.length) return true;
-
-		}
-
-		return false;
-
+		return Markup.containsMention(text, Markup.Type.USER_MENTION);
 	}
 
 	@Nonnull
 	@CheckReturnValue
 	public static String mentionJDA(@Nonnull Event event) {
-		return "<@!" + event.getJDA().getSelfUser().getId() + ">";
+		return SelfMention.of(event.getJDA()).getMention();
 	}
 
 	@CheckReturnValue
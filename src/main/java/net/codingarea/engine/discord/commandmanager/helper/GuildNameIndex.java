@@ -0,0 +1,484 @@
+package net.codingarea.engine.discord.commandmanager.helper;
+
+import net.dv8tion.jda.api.entities.*;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.channel.category.CategoryCreateEvent;
+import net.dv8tion.jda.api.events.channel.category.CategoryDeleteEvent;
+import net.dv8tion.jda.api.events.channel.category.update.CategoryUpdateNameEvent;
+import net.dv8tion.jda.api.events.channel.text.TextChannelCreateEvent;
+import net.dv8tion.jda.api.events.channel.text.TextChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.text.update.TextChannelUpdateNameEvent;
+import net.dv8tion.jda.api.events.channel.voice.VoiceChannelCreateEvent;
+import net.dv8tion.jda.api.events.channel.voice.VoiceChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.voice.update.VoiceChannelUpdateNameEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateNicknameEvent;
+import net.dv8tion.jda.api.events.role.RoleCreateEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdateNameEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * An index of the names of members, roles and channels per guild, ignoring case.
+ * Lookups by an exact name or by the beginning of a name do not scan the cache of the guild.
+ *
+ * A guild is indexed in the background when it is searched for the first time, until then the cache of the guild is scanned.
+ * Afterwards the index is kept up to date using the events of JDA, including the events received while it is built.
+ * This listener therefore has to be registered to every {@link net.dv8tion.jda.api.JDA JDA} instance.
+ * Members can only be found if they are cached by JDA, which requires the member cache to be enabled.
+ *
+ * A stale entry never causes a wrong result, because the current name of every candidate is checked again.
+ * If the member cache of the guild was not {@link Guild#isLoaded() fully loaded} when it was indexed,
+ * members may be cached later without a join event telling the index about them.
+ * Exact member lookups of such a guild scan the cache if the index does not know the name and add the member found,
+ * and the guild is indexed again as soon as its member cache is loaded.
+ * Searches by the beginning of a name only scan the cache while the guild is not indexed yet.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see SearchHelper#setNameIndex(GuildNameIndex)
+ */
+public class GuildNameIndex implements EventListener {
+
+	private static final long[] NO_IDS = new long[0];
+
+	/**
+	 * Lowercase names mapped to the ids using them, sorted so names can be searched by their beginning
+	 */
+	protected static final class NameMap {
+
+		private final ConcurrentSkipListMap<String, long[]> names = new ConcurrentSkipListMap<>();
+
+		private void add(@Nullable String name, long id) {
+			if (name == null) return;
+			names.merge(key(name), new long[] { id }, (ids, added) -> {
+				for (long current : ids) {
+					if (current == id) return ids;
+				}
+				long[] result = Arrays.copyOf(ids, ids.length + 1);
+				result[ids.length] = id;
+				return result;
+			});
+		}
+
+		private void remove(@Nullable String name, long id) {
+			if (name == null) return;
+			names.computeIfPresent(key(name), (key, ids) -> {
+				int index = -1;
+				for (int i = 0; i < ids.length; i++) {
+					if (ids[i] == id) index = i;
+				}
+				if (index == -1) return ids;
+				if (ids.length == 1) return null;
+
+				long[] result = new long[ids.length - 1];
+				System.arraycopy(ids, 0, result, 0, index);
+				System.arraycopy(ids, index + 1, result, index, result.length - index);
+				return result;
+			});
+		}
+
+		private void rename(@Nullable String oldName, @Nullable String newName, long id) {
+			remove(oldName, id);
+			add(newName, id);
+		}
+
+		@Nonnull
+		private long[] get(@Nonnull String name) {
+			long[] ids = names.get(key(name));
+			return ids == null ? NO_IDS : ids;
+		}
+
+		@Nonnull
+		private Collection<long[]> startingWith(@Nonnull String prefix) {
+			String key = key(prefix);
+			return names.subMap(key, true, key + Character.MAX_VALUE, false).values();
+		}
+
+		@Nonnull
+		private static String key(@Nonnull String name) {
+			return name.toLowerCase();
+		}
+
+	}
+
+	protected static final class GuildIndex {
+
+		private final NameMap userNames = new NameMap();
+		private final NameMap effectiveNames = new NameMap();
+		private final NameMap roles = new NameMap();
+		private final NameMap textChannels = new NameMap();
+		private final NameMap voiceChannels = new NameMap();
+		private final NameMap categories = new NameMap();
+		private volatile boolean ready;
+		/** Whether every member of the guild was cached when it was indexed */
+		private volatile boolean complete;
+
+		private void build(@Nonnull Guild guild) {
+			boolean loaded = guild.isLoaded();
+			for (Member member : guild.getMembers())
+				addMember(member);
+			for (Role role : guild.getRoles())
+				roles.add(role.getName(), role.getIdLong());
+			for (TextChannel channel : guild.getTextChannels())
+				textChannels.add(channel.getName(), channel.getIdLong());
+			for (VoiceChannel channel : guild.getVoiceChannels())
+				voiceChannels.add(channel.getName(), channel.getIdLong());
+			for (Category category : guild.getCategories())
+				categories.add(category.getName(), category.getIdLong());
+			complete = loaded;
+			ready = true;
+		}
+
+		private void addMember(@Nonnull Member member) {
+			userNames.add(member.getUser().getName(), member.getIdLong());
+			effectiveNames.add(member.getEffectiveName(), member.getIdLong());
+		}
+
+	}
+
+	private final Map<Long, GuildIndex> guilds = new ConcurrentHashMap<>();
+	private final Executor executor;
+
+	/**
+	 * Guilds are indexed using the {@link ForkJoinPool#commonPool() common pool}
+	 */
+	public GuildNameIndex() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param executor The executor guilds are indexed on
+	 */
+	public GuildNameIndex(@Nonnull Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Starts indexing the guild in the background if it is not indexed yet,
+	 * or if it was indexed before its member cache was loaded and the member cache is loaded now.
+	 * The index is registered before it is built, so events received in the meantime are applied to it.
+	 *
+	 * @return The index of the guild, {@code null} if it is not built yet
+	 */
+	@Nullable
+	protected GuildIndex index(@Nonnull Guild guild) {
+		long id = guild.getIdLong();
+		GuildIndex index = guilds.get(id);
+		if (index == null) {
+			GuildIndex created = new GuildIndex();
+			index = guilds.putIfAbsent(id, created);
+			if (index == null) {
+				build(guild, created);
+				return null;
+			}
+		} else if (index.ready && !index.complete && guild.isLoaded()) {
+			GuildIndex created = new GuildIndex();
+			if (guilds.replace(id, index, created)) {
+				build(guild, created);
+				return null;
+			}
+		}
+		return index.ready ? index : null;
+	}
+
+	private void build(@Nonnull Guild guild, @Nonnull GuildIndex index) {
+		long id = guild.getIdLong();
+		try {
+			executor.execute(() -> {
+				try {
+					index.build(guild);
+				} catch (Throwable ex) {
+					guilds.remove(id, index);
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			guilds.remove(id, index);
+		}
+	}
+
+	/**
+	 * Removes the index of the guild, it will be created again when the guild is searched the next time
+	 */
+	public void invalidate(@Nonnull Guild guild) {
+		guilds.remove(guild.getIdLong());
+	}
+
+	/**
+	 * @return {@code true} if the index of the guild is built
+	 */
+	@CheckReturnValue
+	public boolean isIndexed(@Nonnull Guild guild) {
+		GuildIndex index = guilds.get(guild.getIdLong());
+		return index != null && index.ready;
+	}
+
+	/**
+	 * @return The first member whose user name or, if there is none, whose effective name equals the given name ignoring case
+	 */
+	@Nullable
+	@CheckReturnValue
+	public Member findMember(@Nonnull Guild guild, @Nonnull String name) {
+		GuildIndex index = index(guild);
+		if (index != null) {
+			Member member = first(index.userNames.get(name), guild::getMemberById, current -> current.getUser().getName(), name);
+			if (member == null) member = first(index.effectiveNames.get(name), guild::getMemberById, Member::getEffectiveName, name);
+			if (member != null || index.complete) return member;
+		}
+
+		// Not indexed yet, or the member may have been cached without an event telling the index about it
+		Member member = first(guild.getMembersByName(name, true));
+		if (member == null) member = first(guild.getMembersByEffectiveName(name, true));
+		if (member != null && index != null) index.addMember(member);
+		return member;
+	}
+
+	/**
+	 * @param tag The tag in the {@code name#0000} form
+	 */
+	@Nullable
+	@CheckReturnValue
+	public Member findMemberByTag(@Nonnull Guild guild, @Nonnull String tag) {
+		int separator = tag.lastIndexOf('#');
+		if (separator == -1) return null;
+		String name = tag.substring(0, separator);
+		String discriminator = tag.substring(separator + 1);
+
+		GuildIndex index = index(guild);
+		if (index != null) {
+			for (long id : index.userNames.get(name)) {
+				Member member = guild.getMemberById(id);
+				if (member != null && member.getUser().getName().equalsIgnoreCase(name) && member.getUser().getDiscriminator().equals(discriminator))
+					return member;
+			}
+			if (index.complete) return null;
+		}
+
+		Member member = guild.getMemberByTag(tag);
+		if (member != null && index != null) index.addMember(member);
+		return member;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public Role findRole(@Nonnull Guild guild, @Nonnull String name) {
+		GuildIndex index = index(guild);
+		return index != null ? first(index.roles.get(name), guild::getRoleById, Role::getName, name)
+		                     : first(guild.getRolesByName(name, true));
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public TextChannel findTextChannel(@Nonnull Guild guild, @Nonnull String name) {
+		GuildIndex index = index(guild);
+		return index != null ? first(index.textChannels.get(name), guild::getTextChannelById, TextChannel::getName, name)
+		                     : first(guild.getTextChannelsByName(name, true));
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public VoiceChannel findVoiceChannel(@Nonnull Guild guild, @Nonnull String name) {
+		GuildIndex index = index(guild);
+		return index != null ? first(index.voiceChannels.get(name), guild::getVoiceChannelById, VoiceChannel::getName, name)
+		                     : first(guild.getVoiceChannelsByName(name, true));
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public Category findCategory(@Nonnull Guild guild, @Nonnull String name) {
+		GuildIndex index = index(guild);
+		return index != null ? first(index.categories.get(name), guild::getCategoryById, Category::getName, name)
+		                     : first(guild.getCategoriesByName(name, true));
+	}
+
+	/**
+	 * @return A text channel, voice channel or category with the given name, searched in that order
+	 */
+	@Nullable
+	@CheckReturnValue
+	public GuildChannel findGuildChannel(@Nonnull Guild guild, @Nonnull String name) {
+		GuildChannel channel = findTextChannel(guild, name);
+		if (channel == null) channel = findVoiceChannel(guild, name);
+		if (channel == null) channel = findCategory(guild, name);
+		return channel;
+	}
+
+	/**
+	 * Members cached without a join event are missing until the member cache of the guild is loaded and it is indexed again.
+	 *
+	 * @return The members whose effective name starts with the given prefix ignoring case, sorted by their name
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public List<Member> findMembersStartingWith(@Nonnull Guild guild, @Nonnull String prefix, int limit) {
+		GuildIndex index = index(guild);
+		return index != null ? startingWith(index.effectiveNames, prefix, limit, guild::getMemberById, Member::getEffectiveName)
+		                     : scanStartingWith(guild.getMembers(), prefix, limit, Member::getEffectiveName);
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public List<Role> findRolesStartingWith(@Nonnull Guild guild, @Nonnull String prefix, int limit) {
+		GuildIndex index = index(guild);
+		return index != null ? startingWith(index.roles, prefix, limit, guild::getRoleById, Role::getName)
+		                     : scanStartingWith(guild.getRoles(), prefix, limit, Role::getName);
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public List<TextChannel> findTextChannelsStartingWith(@Nonnull Guild guild, @Nonnull String prefix, int limit) {
+		GuildIndex index = index(guild);
+		return index != null ? startingWith(index.textChannels, prefix, limit, guild::getTextChannelById, TextChannel::getName)
+		                     : scanStartingWith(guild.getTextChannels(), prefix, limit, TextChannel::getName);
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public List<VoiceChannel> findVoiceChannelsStartingWith(@Nonnull Guild guild, @Nonnull String prefix, int limit) {
+		GuildIndex index = index(guild);
+		return index != null ? startingWith(index.voiceChannels, prefix, limit, guild::getVoiceChannelById, VoiceChannel::getName)
+		                     : scanStartingWith(guild.getVoiceChannels(), prefix, limit, VoiceChannel::getName);
+	}
+
+	@Nullable
+	private static <T> T first(@Nonnull long[] ids, @Nonnull LongFunction<T> resolver,
+	                           @Nonnull Function<? super T, String> naming, @Nonnull String name) {
+		for (long id : ids) {
+			T value = resolver.apply(id);
+			if (value != null && naming.apply(value).equalsIgnoreCase(name))
+				return value;
+		}
+		return null;
+	}
+
+	@Nullable
+	private static <T> T first(@Nonnull List<T> values) {
+		return values.isEmpty() ? null : values.get(0);
+	}
+
+	@Nonnull
+	private static <T> List<T> scanStartingWith(@Nonnull List<T> entities, @Nonnull String prefix, int limit, @Nonnull Function<? super T, String> naming) {
+		List<T> result = new ArrayList<>();
+		for (T entity : entities) {
+			if (naming.apply(entity).regionMatches(true, 0, prefix, 0, prefix.length()))
+				result.add(entity);
+		}
+		result.sort(Comparator.comparing(entity -> NameMap.key(naming.apply(entity))));
+		return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+	}
+
+	@Nonnull
+	private static <T> List<T> startingWith(@Nonnull NameMap map, @Nonnull String prefix, int limit,
+	                                        @Nonnull LongFunction<T> resolver, @Nonnull Function<? super T, String> naming) {
+		List<T> result = new ArrayList<>(Math.min(limit, 16));
+		for (long[] ids : map.startingWith(prefix)) {
+			for (long id : ids) {
+				T value = resolver.apply(id);
+				if (value == null || !naming.apply(value).regionMatches(true, 0, prefix, 0, prefix.length())) continue;
+				result.add(value);
+				if (result.size() >= limit) return result;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void onEvent(@Nonnull GenericEvent event) {
+		if (event instanceof GuildLeaveEvent) {
+			invalidate(((GuildLeaveEvent) event).getGuild());
+		} else if (event instanceof GuildMemberJoinEvent) {
+			GuildMemberJoinEvent join = (GuildMemberJoinEvent) event;
+			GuildIndex index = guilds.get(join.getGuild().getIdLong());
+			if (index != null) index.addMember(join.getMember());
+		} else if (event instanceof GuildMemberRemoveEvent) {
+			GuildMemberRemoveEvent remove = (GuildMemberRemoveEvent) event;
+			GuildIndex index = guilds.get(remove.getGuild().getIdLong());
+			if (index == null) return;
+			User user = remove.getUser();
+			index.userNames.remove(user.getName(), user.getIdLong());
+			index.effectiveNames.remove(user.getName(), user.getIdLong());
+			if (remove.getMember() != null)
+				index.effectiveNames.remove(remove.getMember().getEffectiveName(), user.getIdLong());
+		} else if (event instanceof GuildMemberUpdateNicknameEvent) {
+			GuildMemberUpdateNicknameEvent update = (GuildMemberUpdateNicknameEvent) event;
+			GuildIndex index = guilds.get(update.getGuild().getIdLong());
+			if (index == null) return;
+			String name = update.getUser().getName();
+			String oldName = update.getOldNickname() != null ? update.getOldNickname() : name;
+			String newName = update.getNewNickname() != null ? update.getNewNickname() : name;
+			index.effectiveNames.rename(oldName, newName, update.getMember().getIdLong());
+		} else if (event instanceof UserUpdateNameEvent) {
+			UserUpdateNameEvent update = (UserUpdateNameEvent) event;
+			User user = update.getUser();
+			for (Guild guild : user.getMutualGuilds()) {
+				GuildIndex index = guilds.get(guild.getIdLong());
+				if (index == null) continue;
+				index.userNames.rename(update.getOldName(), update.getNewName(), user.getIdLong());
+				Member member = guild.getMember(user);
+				if (member == null || member.getNickname() == null)
+					index.effectiveNames.rename(update.getOldName(), update.getNewName(), user.getIdLong());
+			}
+		} else if (event instanceof RoleCreateEvent) {
+			Role role = ((RoleCreateEvent) event).getRole();
+			GuildIndex index = guilds.get(((RoleCreateEvent) event).getGuild().getIdLong());
+			if (index != null) index.roles.add(role.getName(), role.getIdLong());
+		} else if (event instanceof RoleDeleteEvent) {
+			Role role = ((RoleDeleteEvent) event).getRole();
+			GuildIndex index = guilds.get(((RoleDeleteEvent) event).getGuild().getIdLong());
+			if (index != null) index.roles.remove(role.getName(), role.getIdLong());
+		} else if (event instanceof RoleUpdateNameEvent) {
+			RoleUpdateNameEvent update = (RoleUpdateNameEvent) event;
+			GuildIndex index = guilds.get(update.getGuild().getIdLong());
+			if (index != null) index.roles.rename(update.getOldName(), update.getNewName(), update.getRole().getIdLong());
+		} else if (event instanceof TextChannelCreateEvent) {
+			TextChannel channel = ((TextChannelCreateEvent) event).getChannel();
+			GuildIndex index = guilds.get(channel.getGuild().getIdLong());
+			if (index != null) index.textChannels.add(channel.getName(), channel.getIdLong());
+		} else if (event instanceof TextChannelDeleteEvent) {
+			TextChannel channel = ((TextChannelDeleteEvent) event).getChannel();
+			GuildIndex index = guilds.get(channel.getGuild().getIdLong());
+			if (index != null) index.textChannels.remove(channel.getName(), channel.getIdLong());
+		} else if (event instanceof TextChannelUpdateNameEvent) {
+			TextChannelUpdateNameEvent update = (TextChannelUpdateNameEvent) event;
+			GuildIndex index = guilds.get(update.getGuild().getIdLong());
+			if (index != null) index.textChannels.rename(update.getOldName(), update.getNewName(), update.getChannel().getIdLong());
+		} else if (event instanceof VoiceChannelCreateEvent) {
+			VoiceChannel channel = ((VoiceChannelCreateEvent) event).getChannel();
+			GuildIndex index = guilds.get(channel.getGuild().getIdLong());
+			if (index != null) index.voiceChannels.add(channel.getName(), channel.getIdLong());
+		} else if (event instanceof VoiceChannelDeleteEvent) {
+			VoiceChannel channel = ((VoiceChannelDeleteEvent) event).getChannel();
+			GuildIndex index = guilds.get(channel.getGuild().getIdLong());
+			if (index != null) index.voiceChannels.remove(channel.getName(), channel.getIdLong());
+		} else if (event instanceof VoiceChannelUpdateNameEvent) {
+			VoiceChannelUpdateNameEvent update = (VoiceChannelUpdateNameEvent) event;
+			GuildIndex index = guilds.get(update.getGuild().getIdLong());
+			if (index != null) index.voiceChannels.rename(update.getOldName(), update.getNewName(), update.getChannel().getIdLong());
+		} else if (event instanceof CategoryCreateEvent) {
+			Category category = ((CategoryCreateEvent) event).getCategory();
+			GuildIndex index = guilds.get(category.getGuild().getIdLong());
+			if (index != null) index.categories.add(category.getName(), category.getIdLong());
+		} else if (event instanceof CategoryDeleteEvent) {
+			Category category = ((CategoryDeleteEvent) event).getCategory();
+			GuildIndex index = guilds.get(category.getGuild().getIdLong());
+			if (index != null) index.categories.remove(category.getName(), category.getIdLong());
+		} else if (event instanceof CategoryUpdateNameEvent) {
+			CategoryUpdateNameEvent update = (CategoryUpdateNameEvent) event;
+			GuildIndex index = guilds.get(update.getGuild().getIdLong());
+			if (index != null) index.categories.rename(update.getOldName(), update.getNewName(), update.getCategory().getIdLong());
+		}
+	}
+
+}
@@ -1,12 +1,14 @@
 package net.codingarea.engine.discord.commandmanager.helper;
 
 import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
+import net.codingarea.engine.utils.Parsing;
 import net.codingarea.engine.utils.log.LogHelper;
 import net.dv8tion.jda.api.entities.*;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -14,6 +16,25 @@ import javax.annotation.Nullable;
  */
 public abstract class SearchHelper extends LogHelper {
 
+	private static volatile GuildNameIndex nameIndex;
+
+	/**
+	 * Sets the index used to find members, roles and channels by their name.
+	 * Without an index, the cache of the guild is scanned for every search.
+	 * The index also has to be registered as listener to every {@link net.dv8tion.jda.api.JDA JDA} instance.
+	 *
+	 * @param index The index to use, {@code null} to scan the cache again
+	 */
+	public static void setNameIndex(@Nullable GuildNameIndex index) {
+		nameIndex = index;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public static GuildNameIndex getNameIndex() {
+		return nameIndex;
+	}
+
 	@Nullable
 	@CheckReturnValue
 	public static Role findRole(@Nonnull CommandEvent event, String search) {
@@ -24,29 +45,14 @@ public abstract class SearchHelper extends LogHelper {
 	@CheckReturnValue
 	public static Role findRole(@Nonnull Guild guild, String search) {
 		search = search.trim();
-		try {
-			String id = search.substring(3).substring(0, 18);
+		long id = Parsing.parseMentionOrId(search);
+		if (id != 0) {
 			Role role = guild.getRoleById(id);
 			if (role != null)
 				return role;
-		} catch (Exception ignored) { }
-		try {
-			String id = search.substring(2).substring(0, 18);
-			Role role = guild.getRoleById(id);
-			if (role != null)
-				return role;
-		} catch (Exception ignored) { }
-		try {
-			Role role = guild.getRoleById(search);
-			if (role != null)
-				return role;
-		} catch (Exception ignored) { }
-		try {
-			Role role = guild.getRolesByName(search, true).get(0);
-			if (role != null)
-				return role;
-		} catch (Exception ignored) { }
-		return null;
+		}
+		GuildNameIndex index = nameIndex;
+		return index != null ? index.findRole(guild, search) : first(guild.getRolesByName(search, true));
 	}
 
 	@Nullable
@@ -59,29 +65,14 @@ public abstract class SearchHelper extends LogHelper {
 	@CheckReturnValue
 	public static TextChannel findTextChannel(@Nonnull Guild guild, String search) {
 		search = search.trim();
-		try {
-			String id = search.substring(3).substring(0, 18);
-			TextChannel channel = guild.getTextChannelById(id);
-			if (channel != null)
-				return channel;
-		} catch (Exception ignored) { }
-		try {
-			String id = search.substring(2).substring(0, 18);
+		long id = Parsing.parseMentionOrId(search);
+		if (id != 0) {
 			TextChannel channel = guild.getTextChannelById(id);
 			if (channel != null)
 				return channel;
-		} catch (Exception ignored) { }
-		try {
-			TextChannel channel = guild.getTextChannelById(search);
-			if (channel != null)
-				return channel;
-		} catch (Exception ignored) { }
-		try {
-			TextChannel channel = guild.getTextChannelsByName(search, true).get(0);
-			if (channel != null)
-				return channel;;
-		} catch (Exception ignored) { }
-		return null;
+		}
+		GuildNameIndex index = nameIndex;
+		return index != null ? index.findTextChannel(guild, search) : first(guild.getTextChannelsByName(search, true));
 	}
 
 	@Nullable
@@ -94,17 +85,14 @@ public abstract class SearchHelper extends LogHelper {
 	@CheckReturnValue
 	public static VoiceChannel findVoiceChannel(@Nonnull Guild guild, String search) {
 		search = search.trim();
-		try {
-			VoiceChannel channel = guild.getVoiceChannelById(search);
+		long id = Parsing.parseSnowflake(search);
+		if (id != 0) {
+			VoiceChannel channel = guild.getVoiceChannelById(id);
 			if (channel != null)
 				return channel;
-		} catch (Exception ignored) { }
-		try {
-			VoiceChannel channel = guild.getVoiceChannelsByName(search, true).get(0);
-			if (channel != null)
-				return channel;
-		} catch (Exception ignored) { }
-		return null;
+		}
+		GuildNameIndex index = nameIndex;
+		return index != null ? index.findVoiceChannel(guild, search) : first(guild.getVoiceChannelsByName(search, true));
 	}
 
 	@Nullable
@@ -117,13 +105,11 @@ public abstract class SearchHelper extends LogHelper {
 	@CheckReturnValue
 	public static Category findCategory(@Nonnull Guild guild, String search) {
 		search = search.trim();
-		try {
-			return guild.getCategoryById(search);
-		} catch (Exception ignored) { }
-		try {
-			return guild.getCategoriesByName(search, true).get(0);
-		} catch (Exception ignored) { }
-		return null;
+		long id = Parsing.parseSnowflake(search);
+		if (id != 0)
+			return guild.getCategoryById(id);
+		GuildNameIndex index = nameIndex;
+		return index != null ? index.findCategory(guild, search) : first(guild.getCategoriesByName(search, true));
 	}
 
 	@Nullable
@@ -136,34 +122,26 @@ public abstract class SearchHelper extends LogHelper {
 	@CheckReturnValue
 	public static Member findMember(@Nonnull Guild guild, String search) {
 		search = search.trim();
-		try {
-			String id = search.substring(3).substring(0, 18);
-			return guild.getMemberById(id);
-		} catch (Exception ignored) { }
-		try {
-			String id = search.substring(2).substring(0, 18);
+		long id = Parsing.parseMentionOrId(search);
+		if (id != 0)
 			return guild.getMemberById(id);
-		} catch (Exception ignored) { }
-		try {
-			return guild.getMemberById(search);
-		} catch (Exception ignored) { }
-		try {
-			return guild.getMemberByTag(search);
-		} catch (Exception ignored) { }
-		try {
-			return guild.getMembersByName(search, true).get(0);
-		} catch (Exception ignored) { }
-		try {
-			return guild.getMembersByEffectiveName(search, true).get(0);
-		} catch (Exception ignored) { }
-		return null;
+		GuildNameIndex index = nameIndex;
+		if (isTag(search))
+			return index != null ? index.findMemberByTag(guild, search) : guild.getMemberByTag(search);
+		if (index != null)
+			return index.findMember(guild, search);
+
+		Member member = first(guild.getMembersByName(search, true));
+		return member != null ? member : first(guild.getMembersByEffectiveName(search, true));
 	}
 
 	@Nullable
 	@CheckReturnValue
 	public static Message findMessage(@Nonnull MessageChannel channel, @Nonnull String search) {
+		long id = Parsing.parseSnowflake(search);
+		if (id == 0) return null;
 		try {
-			return channel.retrieveMessageById(search).complete();
+			return channel.retrieveMessageById(id).complete();
 		} catch (Exception ignored) { }
 		return null;
 	}
@@ -172,29 +150,19 @@ public abstract class SearchHelper extends LogHelper {
 	@CheckReturnValue
 	public static GuildChannel findGuildChannel(@Nonnull Guild guild, String search) {
 		search = search.trim();
-		try {
-			String id = search.substring(3).substring(0, 18);
-			GuildChannel channel = guild.getGuildChannelById(id);
-			if (channel != null)
-				return channel;
-		} catch (Exception ignored) { }
-		try {
-			String id = search.substring(2).substring(0, 18);
+		long id = Parsing.parseMentionOrId(search);
+		if (id != 0) {
 			GuildChannel channel = guild.getGuildChannelById(id);
 			if (channel != null)
 				return channel;
-		} catch (Exception ignored) { }
-		try {
-			GuildChannel channel = guild.getGuildChannelById(search);
-			if (channel != null)
+		}
+		GuildNameIndex index = nameIndex;
+		if (index != null)
+			return index.findGuildChannel(guild, search);
+		for (GuildChannel channel : guild.getChannels()) {
+			if (channel.getName().equalsIgnoreCase(search))
 				return channel;
-		} catch (Exception ignored) { }
-		try {
-			for (GuildChannel channel : guild.getChannels()) {
-				if (channel.getName().equalsIgnoreCase(search))
-					return channel;
-			}
-		} catch (Exception ignored) { }
+		}
 		return null;
 	}
 
@@ -204,4 +172,23 @@ public abstract class SearchHelper extends LogHelper {
 		return findGuildChannel(event.getGuild(), search);
 	}
 
+	/**
+	 * @return {@code true} if the input has the {@code name#0000} form accepted by {@link Guild#getMemberByTag(String)}
+	 */
+	@CheckReturnValue
+	protected static boolean isTag(@Nonnull String search) {
+		int separator = search.length() - 5;
+		if (separator < 2 || separator > 32 || search.charAt(separator) != '#') return false;
+		for (int i = separator + 1; i < search.length(); i++) {
+			char c = search.charAt(i);
+			if (c < '0' || c > '9') return false;
+		}
+		return true;
+	}
+
+	@Nullable
+	private static <T> T first(@Nonnull List<T> list) {
+		return list.isEmpty() ? null : list.get(0);
+	}
+
 }
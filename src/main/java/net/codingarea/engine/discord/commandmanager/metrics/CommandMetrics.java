@@ -0,0 +1,135 @@
+package net.codingarea.engine.discord.commandmanager.metrics;
+
+import net.codingarea.engine.utils.LatencyHistogram;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The live metrics of a single command.
+ * All durations are recorded in nanoseconds.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see HandlerMetrics
+ */
+public final class CommandMetrics {
+
+	private final String name;
+	private final LongAdder executions = new LongAdder(), failures = new LongAdder();
+	private final LatencyHistogram queueWait = new LatencyHistogram(),
+								   execution = new LatencyHistogram(),
+								   timeToResult = new LatencyHistogram();
+
+	CommandMetrics(@Nonnull String name) {
+		this.name = name;
+	}
+
+	/**
+	 * @param received When the message was received by the handler
+	 * @param submitted When the command was submitted to the executor
+	 * @param started When the command started executing
+	 * @param finished When the command finished executing
+	 * @param failed Whether the command threw an exception
+	 */
+	public void recordExecution(long received, long submitted, long started, long finished, boolean failed) {
+		executions.increment();
+		if (failed) failures.increment();
+		queueWait.record(started - submitted);
+		execution.record(finished - started);
+		timeToResult.record(finished - received);
+	}
+
+	/**
+	 * Records a command which was completed without being executed, for example because of missing permissions
+	 *
+	 * @param received When the message was received by the handler
+	 * @param completed When the result was completed
+	 */
+	public void recordRejection(long received, long completed) {
+		timeToResult.record(completed - received);
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public Snapshot snapshot() {
+		return new Snapshot(name, executions.sum(), failures.sum(), queueWait.snapshot(), execution.snapshot(), timeToResult.snapshot());
+	}
+
+	/**
+	 * An immutable copy of the {@link CommandMetrics} of a command
+	 */
+	public static final class Snapshot {
+
+		private final String name;
+		private final long executions, failures;
+		private final LatencyHistogram.Snapshot queueWait, execution, timeToResult;
+
+		private Snapshot(@Nonnull String name, long executions, long failures, @Nonnull LatencyHistogram.Snapshot queueWait,
+		                 @Nonnull LatencyHistogram.Snapshot execution, @Nonnull LatencyHistogram.Snapshot timeToResult) {
+			this.name = name;
+			this.executions = executions;
+			this.failures = failures;
+			this.queueWait = queueWait;
+			this.execution = execution;
+			this.timeToResult = timeToResult;
+		}
+
+		@Nonnull
+		@CheckReturnValue
+		public String getName() {
+			return name;
+		}
+
+		@CheckReturnValue
+		public long getExecutions() {
+			return executions;
+		}
+
+		/**
+		 * @return The amount of executions which threw an exception
+		 */
+		@CheckReturnValue
+		public long getFailures() {
+			return failures;
+		}
+
+		/**
+		 * @return The time between being submitted to the executor and starting to execute
+		 */
+		@Nonnull
+		@CheckReturnValue
+		public LatencyHistogram.Snapshot getQueueWait() {
+			return queueWait;
+		}
+
+		@Nonnull
+		@CheckReturnValue
+		public LatencyHistogram.Snapshot getExecution() {
+			return execution;
+		}
+
+		/**
+		 * @return The time between receiving the message and completing the {@link net.codingarea.engine.discord.commandmanager.CommandResult CommandResult}
+		 */
+		@Nonnull
+		@CheckReturnValue
+		public LatencyHistogram.Snapshot getTimeToResult() {
+			return timeToResult;
+		}
+
+		@Override
+		public String toString() {
+			return name + "{executions=" + executions +
+					", failures=" + failures +
+					", queueWait=[" + queueWait +
+					"], execution=[" + execution +
+					"], timeToResult=[" + timeToResult +
+					"]}";
+		}
+
+	}
+
+}
@@ -0,0 +1,53 @@
+package net.codingarea.engine.discord.commandmanager.metrics;
+
+/**
+ * The stages a message passes while being handled by the {@link net.codingarea.engine.discord.commandmanager.CommandHandler CommandHandler}
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see DispatchTimingListener
+ */
+public enum DispatchStage {
+
+	/**
+	 * Running the {@link net.codingarea.engine.discord.commandmanager.MessageFilter MessageFilters}
+	 */
+	FILTER,
+
+	/**
+	 * Resolving the prefix using the {@link net.codingarea.engine.discord.commandmanager.PrefixProvider PrefixProvider} and checking if it was used
+	 */
+	PREFIX,
+
+	/**
+	 * Finding the command by the name used
+	 */
+	LOOKUP,
+
+	/**
+	 * Checking the limits of the {@link net.codingarea.engine.discord.commandmanager.AdmissionController AdmissionController}
+	 */
+	ADMISSION,
+
+	/**
+	 * Checking if the user is on cooldown
+	 */
+	COOLDOWN,
+
+	/**
+	 * Checking the team rank and the permissions of the member
+	 */
+	PERMISSION,
+
+	/**
+	 * Constructing the {@link net.codingarea.engine.discord.commandmanager.event.CommandEvent CommandEvent}
+	 */
+	EVENT,
+
+	/**
+	 * Executing the command, without the time spent waiting in the queue of the executor
+	 */
+	EXECUTION
+
+}
@@ -0,0 +1,28 @@
+package net.codingarea.engine.discord.commandmanager.metrics;
+
+import net.codingarea.engine.discord.commandmanager.ICommand;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Receives the time spent in each {@link DispatchStage} of a message.
+ * Called on the thread which handles the message, so implementations should be fast and thread safe.
+ * When no listener is set, the stages are not timed at all.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see net.codingarea.engine.discord.commandmanager.CommandHandler#setTimingListener(DispatchTimingListener)
+ */
+@FunctionalInterface
+public interface DispatchTimingListener {
+
+	/**
+	 * @param stage The stage which was completed
+	 * @param command The command used, {@code null} if the command was not looked up yet
+	 * @param nanos The time spent in the stage in nanoseconds
+	 */
+	void onStage(@Nonnull DispatchStage stage, @Nullable ICommand command, long nanos);
+
+}
@@ -0,0 +1,114 @@
+package net.codingarea.engine.discord.commandmanager.metrics;
+
+import net.codingarea.engine.discord.commandmanager.CommandResult;
+import net.codingarea.engine.discord.commandmanager.ICommand;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The live metrics of a {@link net.codingarea.engine.discord.commandmanager.ICommandHandler CommandHandler}:
+ * the amount of each {@link CommandResult} and the {@link CommandMetrics} of every command.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see net.codingarea.engine.discord.commandmanager.ICommandHandler#getMetrics()
+ */
+public final class HandlerMetrics {
+
+	private static final CommandResult[] RESULTS = CommandResult.values();
+
+	private final LongAdder[] results = new LongAdder[RESULTS.length];
+	private final Map<ICommand, CommandMetrics> commands = new ConcurrentHashMap<>();
+
+	public HandlerMetrics() {
+		for (int i = 0; i < results.length; i++)
+			results[i] = new LongAdder();
+	}
+
+	public void record(@Nonnull CommandResult result) {
+		results[result.ordinal()].increment();
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public CommandMetrics of(@Nonnull ICommand command) {
+		// get first: computeIfAbsent locks the bin even if the command is already present
+		CommandMetrics metrics = commands.get(command);
+		return metrics != null ? metrics : commands.computeIfAbsent(command, HandlerMetrics::create);
+	}
+
+	@Nonnull
+	private static CommandMetrics create(@Nonnull ICommand command) {
+		return new CommandMetrics(command.getName());
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public Snapshot snapshot() {
+		Map<CommandResult, Long> results = new EnumMap<>(CommandResult.class);
+		for (CommandResult result : RESULTS)
+			results.put(result, this.results[result.ordinal()].sum());
+
+		List<CommandMetrics.Snapshot> commands = new ArrayList<>(this.commands.size());
+		for (CommandMetrics metrics : this.commands.values())
+			commands.add(metrics.snapshot());
+		commands.sort(Comparator.comparing(CommandMetrics.Snapshot::getName));
+
+		return new Snapshot(Collections.unmodifiableMap(results), Collections.unmodifiableList(commands));
+	}
+
+	/**
+	 * An immutable copy of the {@link HandlerMetrics}
+	 */
+	public static final class Snapshot {
+
+		private final Map<CommandResult, Long> results;
+		private final List<CommandMetrics.Snapshot> commands;
+
+		private Snapshot(@Nonnull Map<CommandResult, Long> results, @Nonnull List<CommandMetrics.Snapshot> commands) {
+			this.results = results;
+			this.commands = commands;
+		}
+
+		/**
+		 * @return How often each {@link CommandResult} was returned
+		 */
+		@Nonnull
+		@CheckReturnValue
+		public Map<CommandResult, Long> getResults() {
+			return results;
+		}
+
+		@CheckReturnValue
+		public long getResultCount(@Nonnull CommandResult result) {
+			return results.get(result);
+		}
+
+		/**
+		 * @return The metrics of every command which was used at least once, sorted by name
+		 */
+		@Nonnull
+		@CheckReturnValue
+		public List<CommandMetrics.Snapshot> getCommands() {
+			return commands;
+		}
+
+		@Nonnull
+		@CheckReturnValue
+		public Optional<CommandMetrics.Snapshot> getCommand(@Nonnull String name) {
+			return commands.stream().filter(command -> command.getName().equalsIgnoreCase(name)).findFirst();
+		}
+
+		@Override
+		public String toString() {
+			return "HandlerMetrics{results=" + results + ", commands=" + commands + "}";
+		}
+
+	}
+
+}
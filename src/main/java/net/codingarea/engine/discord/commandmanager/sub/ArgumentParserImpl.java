@@ -16,6 +16,7 @@ public final class ArgumentParserImpl {
 
 	private final Class<?> clazz;
 	private final Method method;
+	private final ArgumentParserInvoker invoker;
 	private final SubCommandHandler parent;
 
 	public ArgumentParserImpl(final @Nonnull Method method, final @Nonnull SubCommandHandler parent) {
@@ -35,12 +36,25 @@ public final class ArgumentParserImpl {
 
 		this.clazz = annotation.argument();
 		this.method = method;
+		this.invoker = ArgumentParserInvoker.of(method);
 		this.parent = parent;
 
 	}
 
+	/**
+	 * @throws InvocationTargetException
+	 *         If the method threw a checked exception, unchecked exceptions and errors are thrown directly
+	 *
+	 * @see SubCommandImpl#invoke(CommandEvent, Object[])
+	 */
 	public Object parse(final @Nonnull CommandEvent event, final @Nonnull String input) throws InvocationTargetException, IllegalAccessException {
-		return method.invoke(parent, event, input);
+		try {
+			return invoker.parse(parent, event, input);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
 	}
 
 	@Nonnull
@@ -0,0 +1,43 @@
+package net.codingarea.engine.discord.commandmanager.sub;
+
+import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
+import net.codingarea.engine.utils.InvokerGenerator;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Calls an {@link ArgumentParser} method
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see ArgumentParserImpl#parse(CommandEvent, String)
+ */
+@FunctionalInterface
+public interface ArgumentParserInvoker {
+
+	Object parse(@Nonnull Object parent, @Nonnull CommandEvent event, @Nonnull String input) throws Throwable;
+
+	/**
+	 * @return A generated invoker for the given method, or an invoker using reflections if it cannot be generated
+	 */
+	@Nonnull
+	@CheckReturnValue
+	static ArgumentParserInvoker of(@Nonnull Method method) {
+		String body = "return ($w) " + InvokerGenerator.cast(method.getDeclaringClass(), "$1") + "." + method.getName() + "($2, $3);";
+		ArgumentParserInvoker invoker = InvokerGenerator.generate(ArgumentParserInvoker.class, method, body);
+		if (invoker != null) return invoker;
+
+		return (parent, event, input) -> {
+			try {
+				return method.invoke(parent, event, input);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		};
+	}
+
+}
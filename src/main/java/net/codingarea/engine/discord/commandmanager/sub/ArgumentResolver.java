@@ -0,0 +1,26 @@
+package net.codingarea.engine.discord.commandmanager.sub;
+
+import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Converts the input of a single argument of a {@link SubCommand} into its parameter type.
+ * Resolved once per parameter when the sub command is registered.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see SubCommandHandler#resolveArgument(Class)
+ */
+@FunctionalInterface
+public interface ArgumentResolver {
+
+	/**
+	 * @return The parsed argument, {@code null} if the input is invalid
+	 */
+	@Nullable
+	Object resolve(@Nonnull CommandEvent event, @Nonnull String input) throws Exception;
+
+}
@@ -3,8 +3,11 @@ package net.codingarea.engine.discord.commandmanager.sub;
 import net.codingarea.engine.discord.commandmanager.Command;
 import net.codingarea.engine.discord.commandmanager.CommandType;
 import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
+import net.codingarea.engine.discord.commandmanager.helper.SearchHelper;
+import net.codingarea.engine.exceptions.IllegalSubCommandException;
 import net.codingarea.engine.exceptions.SimilarArgumentParserRegisteredException;
 import net.codingarea.engine.exceptions.SimilarCommandRegisteredException;
+import net.codingarea.engine.utils.Parsing;
 import net.codingarea.engine.utils.Replacement;
 import net.codingarea.engine.utils.Utils;
 import net.dv8tion.jda.api.Permission;
@@ -12,10 +15,10 @@ import net.dv8tion.jda.api.entities.*;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.reflect.Method;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * @author anweisen | https://github.com/anweisen
@@ -99,12 +102,75 @@ public abstract class SubCommandHandler extends Command {
 		register();
 	}
 
+	private static final Map<Class<?>, ArgumentResolver> DEFAULT_RESOLVERS = new HashMap<>();
+
+	static {
+		defaultResolver((event, input) -> input, Object.class, String.class, CharSequence.class);
+		defaultResolver((event, input) -> input.toCharArray(), char[].class);
+		defaultResolver((event, input) -> new StringBuilder(input), StringBuilder.class);
+		defaultResolver((event, input) -> Parsing.toInteger(input), Integer.class, int.class);
+		defaultResolver((event, input) -> Parsing.toLong(input), Long.class, long.class);
+		defaultResolver((event, input) -> Parsing.toByte(input), Byte.class, byte.class);
+		defaultResolver((event, input) -> Parsing.toShort(input), Short.class, short.class);
+		defaultResolver((event, input) -> Parsing.toDouble(input), Double.class, double.class, Number.class);
+		defaultResolver((event, input) -> Parsing.toFloat(input), Float.class, float.class);
+		defaultResolver((event, input) -> OffsetDateTime.parse(input), OffsetDateTime.class);
+		defaultResolver(SearchHelper::findMember, Member.class);
+		defaultResolver((event, input) -> {
+			Member member = findMember(event, input);
+			return member == null ? null : member.getUser();
+		}, User.class);
+		defaultResolver(SearchHelper::findTextChannel, TextChannel.class);
+		defaultResolver(SearchHelper::findVoiceChannel, VoiceChannel.class);
+		defaultResolver(SearchHelper::findGuildChannel, GuildChannel.class);
+		defaultResolver(SearchHelper::findCategory, Category.class);
+		defaultResolver(SearchHelper::findRole, Role.class);
+		defaultResolver((event, input) -> findMessage(event.getChannel(), input), Message.class);
+	}
+
+	private static void defaultResolver(@Nonnull ArgumentResolver resolver, @Nonnull Class<?>... types) {
+		for (Class<?> type : types)
+			DEFAULT_RESOLVERS.put(type, resolver);
+	}
+
 	private final List<SubCommandImpl> commands = new ArrayList<>();
 	private final List<ArgumentParserImpl> parsers = new ArrayList<>();
+	private final Map<String, Route> routes = new HashMap<>();
+
+	/**
+	 * The sub commands using the same name, indexed by the amount of arguments
+	 */
+	private static final class Route {
+
+		private final SubCommandImpl first;
+		private SubCommandImpl[] byArgs = new SubCommandImpl[0];
+
+		private Route(@Nonnull SubCommandImpl first) {
+			this.first = first;
+		}
+
+		@Nullable
+		private SubCommandImpl get(int args) {
+			return args >= 0 && args < byArgs.length ? byArgs[args] : null;
+		}
+
+		private void put(@Nonnull String name, @Nonnull SubCommandImpl command) {
+			int args = command.getArgsLength();
+			SubCommandImpl registered = get(args);
+			if (registered == command) return;
+			if (registered != null)
+				throw new SimilarCommandRegisteredException(name, args);
+			if (args >= byArgs.length)
+				byArgs = Arrays.copyOf(byArgs, args + 1);
+			byArgs[args] = command;
+		}
+
+	}
 
 	private void register() {
-		Utils.getMethodsAnnotatedWith(this.getClass(), SubCommand.class).forEach(this::registerSubCommand);
+		// Parsers have to be known before the arguments of the sub commands are resolved
 		Utils.getMethodsAnnotatedWith(this.getClass(), ArgumentParser.class).forEach(this::registerArgumentParser);
+		Utils.getMethodsAnnotatedWith(this.getClass(), SubCommand.class).forEach(this::registerSubCommand);
 	}
 
 	private void registerArgumentParser(@Nonnull Method method) {
@@ -126,31 +192,18 @@ public abstract class SubCommandHandler extends Command {
 		SubCommandImpl command = new SubCommandImpl(method, this);
 
 		// Make sure no command with the same args length has the same name
-		for (SubCommandImpl registered : commands) {
-			if (registered.getArgs().length != command.getArgs().length) continue;
-			for (String name : registered.getNames()) {
-				for (String name2 : command.getNames()) {
-					if (name.equalsIgnoreCase(name2))
-						throw new SimilarCommandRegisteredException(name, command.getArgs().length);
-				}
-			}
+		for (String name : command.names()) {
+			String key = name.toLowerCase();
+			routes.computeIfAbsent(key, k -> new Route(command)).put(name, command);
 		}
 
 		commands.add(command);
 	}
 
 	protected final SubCommandImpl findCommand(@Nonnull String name, int args, boolean ignoreArgs) {
-
-		for (SubCommandImpl command : commands) {
-			if (!ignoreArgs && command.getArgs().length != args) continue;
-			for (String alias : command.getNames()) {
-				if (alias.equalsIgnoreCase(name))
-					return command;
-			}
-		}
-
-		return null;
-
+		Route route = routes.get(name.toLowerCase());
+		if (route == null) return null;
+		return ignoreArgs ? route.first : route.get(args);
 	}
 
 	@Override
@@ -177,17 +230,25 @@ public abstract class SubCommandHandler extends Command {
 			return;
 		}
 
-		Object[] args = new Object[command.getArgs().length];
-		for (int i = 0; i < command.getArgs().length; i++) {
+		Class<?>[] types = command.args();
+		ArgumentResolver[] resolvers = command.resolvers();
+		Object[] args = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
 
+			String input = event.getArg(i + 1);
+			Object argument;
 			try {
-				Object argument = parseArgument(command.getArgs()[i], event.getArg(i + 1), event);
-				if (argument == null) throw new NullPointerException();
-				args[i] = argument;
+				argument = resolvers[i].resolve(event, input);
 			} catch (Exception ignored) {
-				onInvalidSubCommandArgument(event, command, command.getArgs()[i], event.getArg(i + 1), i + 1);
+				argument = null;
+			}
+
+			// The default resolvers return null for invalid input instead of throwing
+			if (argument == null) {
+				onInvalidSubCommandArgument(event, command, types[i], input, i + 1);
 				return;
 			}
+			args[i] = argument;
 
 		}
 
@@ -218,49 +279,58 @@ public abstract class SubCommandHandler extends Command {
 
 	@CheckReturnValue
 	protected Object parseArgument(@Nonnull Class<?> argument, @Nonnull String input, @Nonnull CommandEvent event) throws Exception {
+		ArgumentResolver resolver = resolveArgument(argument);
+		return resolver == null ? null : resolver.resolve(event, input);
+	}
+
+	/**
+	 * Resolves how arguments of the given type are parsed.
+	 * {@link ArgumentParser ArgumentParsers} of this handler are preferred over the default types.
+	 *
+	 * @return The resolver for the given type, {@code null} if the type is not supported
+	 */
+	@Nullable
+	@CheckReturnValue
+	protected ArgumentResolver resolveArgument(@Nonnull Class<?> argument) {
 		for (ArgumentParserImpl parser : parsers) {
 			if (parser.getArgument() == argument)
-				return parser.parse(event, input);
-		} if (argument == Object.class || argument == String.class || argument == CharSequence.class) {
-			return input;
-		} else if (argument == char[].class) {
-			return input.toCharArray();
-		} else if (argument == StringBuilder.class) {
-			return new StringBuilder(input);
-		} else if (argument == Integer.class || argument == int.class) {
-			return Integer.parseInt(input);
-		} else if (argument == Long.class || argument == long.class) {
-			return Long.parseLong(input);
-		} else if (argument == Byte.class || argument == byte.class) {
-			return Byte.parseByte(input);
-		} else if (argument == Short.class || argument == short.class) {
-			return Short.parseShort(input);
-		} else if (argument == Double.class || argument == double.class ||  argument == Number.class) {
-			return Double.parseDouble(input);
-		} else if (argument == Float.class || argument == float.class) {
-			return Float.parseFloat(input);
-		} else if (argument == OffsetDateTime.class) {
-			return OffsetDateTime.parse(input);
-		} else if (argument == Member.class) {
-			return findMember(event, input);
-		} else if (argument == User.class) {
-			Member member = findMember(event, input);
-			return member == null ? null : member.getUser();
-		} else if (argument == TextChannel.class) {
-			return findTextChannel(event, input);
-		} else if (argument == VoiceChannel.class) {
-			return findVoiceChannel(event, input);
-		} else if (argument == GuildChannel.class) {
-			return findGuildChannel(event, input);
-		} else if (argument == Category.class) {
-			return findCategory(event, input);
-		} else if (argument == Role.class) {
-			return findRole(event, input);
-		} else if (argument == Message.class) {
-			return findMessage(event.getChannel(), input);
-		} else {
-			return null;
+				return parser::parse;
+		}
+		return DEFAULT_RESOLVERS.get(argument);
+	}
+
+	/**
+	 * @throws IllegalSubCommandException If the type of an argument is not supported
+	 */
+	@Nonnull
+	final ArgumentResolver[] resolveArguments(@Nonnull Method method, @Nonnull Class<?>[] arguments) {
+		boolean custom = overridesParseArgument();
+		ArgumentResolver[] resolvers = new ArgumentResolver[arguments.length];
+		for (int i = 0; i < arguments.length; i++) {
+			Class<?> argument = arguments[i];
+			if (custom) {
+				// Subclasses overriding parseArgument may support any type
+				resolvers[i] = (event, input) -> parseArgument(argument, input, event);
+				continue;
+			}
+
+			resolvers[i] = resolveArgument(argument);
+			if (resolvers[i] == null)
+				throw new IllegalSubCommandException("Unsupported argument type " + argument.getName() + " at index " + (i + 1), method);
+		}
+		return resolvers;
+	}
+
+	private boolean overridesParseArgument() {
+		for (Class<?> clazz = getClass(); clazz != SubCommandHandler.class; clazz = clazz.getSuperclass()) {
+			try {
+				clazz.getDeclaredMethod("parseArgument", Class.class, String.class, CommandEvent.class);
+				return true;
+			} catch (NoSuchMethodException ex) {
+				// Not declared in this class
+			}
 		}
+		return false;
 	}
 
 	public final SubCommandImpl[] getSubCommands() {
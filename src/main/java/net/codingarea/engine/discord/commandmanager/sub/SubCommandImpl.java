@@ -6,6 +6,7 @@ import net.codingarea.engine.exceptions.IllegalSubCommandNameException;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 
@@ -19,6 +20,8 @@ public final class SubCommandImpl {
 	private final String syntax;
 	private final Class<?>[] args;
 	private final Method method;
+	private final SubCommandInvoker invoker;
+	private final ArgumentResolver[] resolvers;
 	private final SubCommandHandler root;
 
 	public SubCommandImpl(@Nonnull Method method, @Nonnull SubCommandHandler root) {
@@ -62,6 +65,8 @@ public final class SubCommandImpl {
 
 		this.names = names;
 		this.method = method;
+		this.invoker = SubCommandInvoker.of(method);
+		this.resolvers = root.resolveArguments(method, this.args);
 
 		String syntax = command.syntax();
 		if (syntax.isEmpty()) {
@@ -76,14 +81,20 @@ public final class SubCommandImpl {
 
 	}
 
+	/**
+	 * @throws InvocationTargetException
+	 *         If the method threw a checked exception, unchecked exceptions and errors are thrown directly
+	 *
+	 * @see ArgumentParserImpl#parse(CommandEvent, String)
+	 */
 	public void invoke(@Nonnull CommandEvent event, @Nonnull Object[] args) throws Exception {
-
-		Object[] arguments = new Object[args.length + 1];
-		arguments[0] = event;
-		System.arraycopy(args, 0, arguments, 1, args.length);
-
-		method.invoke(root, arguments);
-
+		try {
+			invoker.invoke(root, event, args);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
 	}
 
 	@Nonnull
@@ -116,6 +127,35 @@ public final class SubCommandImpl {
 		return Arrays.copyOf(args, args.length);
 	}
 
+	@CheckReturnValue
+	public int getArgsLength() {
+		return args.length;
+	}
+
+	/**
+	 * @return The names without copying them, must not be modified
+	 */
+	@Nonnull
+	String[] names() {
+		return names;
+	}
+
+	/**
+	 * @return The resolvers of the arguments, indexed like {@link #args()}, must not be modified
+	 */
+	@Nonnull
+	ArgumentResolver[] resolvers() {
+		return resolvers;
+	}
+
+	/**
+	 * @return The argument types without copying them, must not be modified
+	 */
+	@Nonnull
+	Class<?>[] args() {
+		return args;
+	}
+
 	@Nonnull
 	@CheckReturnValue
 	public SubCommandHandler getRoot() {
@@ -0,0 +1,51 @@
+package net.codingarea.engine.discord.commandmanager.sub;
+
+import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
+import net.codingarea.engine.utils.InvokerGenerator;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Calls a {@link SubCommand} method with already parsed arguments
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see SubCommandImpl#invoke(CommandEvent, Object[])
+ */
+@FunctionalInterface
+public interface SubCommandInvoker {
+
+	void invoke(@Nonnull Object root, @Nonnull CommandEvent event, @Nonnull Object[] args) throws Throwable;
+
+	/**
+	 * @return A generated invoker for the given method, or an invoker using reflections if it cannot be generated
+	 */
+	@Nonnull
+	@CheckReturnValue
+	static SubCommandInvoker of(@Nonnull Method method) {
+		Class<?>[] parameters = method.getParameterTypes();
+		StringBuilder body = new StringBuilder(InvokerGenerator.cast(method.getDeclaringClass(), "$1")).append('.').append(method.getName()).append("($2");
+		for (int i = 1; i < parameters.length; i++)
+			body.append(", ").append(InvokerGenerator.cast(parameters[i], "$3[" + (i - 1) + "]"));
+		body.append(");");
+
+		SubCommandInvoker invoker = InvokerGenerator.generate(SubCommandInvoker.class, method, body.toString());
+		if (invoker != null) return invoker;
+
+		return (root, event, args) -> {
+			Object[] arguments = new Object[args.length + 1];
+			arguments[0] = event;
+			System.arraycopy(args, 0, arguments, 1, args.length);
+			try {
+				method.invoke(root, arguments);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		};
+	}
+
+}
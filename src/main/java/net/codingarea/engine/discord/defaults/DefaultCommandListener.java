@@ -14,6 +14,7 @@ import net.dv8tion.jda.api.events.message.MessageUpdateEvent;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
+import java.util.function.BiConsumer;
 
 import static net.codingarea.engine.utils.NumberFormatter.DEFAULT;
 
@@ -24,6 +25,7 @@ import static net.codingarea.engine.utils.NumberFormatter.DEFAULT;
 public class DefaultCommandListener implements Listener {
 
 	protected final ICommandHandler handler;
+	protected final BiConsumer<CommandResult, GenericMessageEvent> reaction = this::react;
 
 	public DefaultCommandListener(@Nonnull ICommandHandler handler) {
 		this.handler = handler;
@@ -37,12 +39,12 @@ public class DefaultCommandListener implements Listener {
 
 	@DiscordEvent
 	public void onMessage(@Nonnull MessageReceivedEvent event) {
-		handler.handleEvent(event).thenAccept(result -> react(result, event));
+		handler.handleEvent(event, reaction);
 	}
 
 	@DiscordEvent
 	public void onEdit(@Nonnull MessageUpdateEvent event) {
-		handler.handleEvent(event).thenAccept(result -> react(result, event));
+		handler.handleEvent(event, reaction);
 	}
 
 	protected void react(@Nonnull CommandResult result, @Nonnull GenericMessageEvent event) {
@@ -45,6 +45,7 @@ public class DefaultLanguageCommand extends Command {
 		}
 
 		LanguageManager.getInstance().setLanguage(event.getGuild(), language.get());
+		event.resetLanguage();
 		event.reply(getMessage(event, "language-changed", "The language was changed to **%language%**",
 					new Replacement("%language%", removeMarkdown(language.get().getName()))));
 
@@ -9,9 +9,23 @@ import java.lang.annotation.Target;
  * @author anweisen | https://github.com/anweisen
  * @since 1.2
  * @see Listener
+ * @see EventBus
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DiscordEvent {
 
+	/**
+	 * Handlers with a higher priority are called first by the {@link EventBus}.
+	 * Handlers with the same priority are called in the order they were registered.
+	 */
+	int priority() default 0;
+
+	/**
+	 * If {@code true} the {@link EventBus} calls this handler on its executor instead of the thread which fired the event
+	 *
+	 * @see EventBus#setExecutor(java.util.concurrent.Executor)
+	 */
+	boolean async() default false;
+
 }
@@ -0,0 +1,183 @@
+package net.codingarea.engine.discord.listener;
+
+import net.codingarea.engine.discord.commandmanager.CommandExecutors;
+import net.codingarea.engine.utils.Utils;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A single {@link EventListener} which dispatches events to the {@link DiscordEvent} methods of the registered {@link Listener Listeners}.
+ * The handlers are indexed by the type of event, so only the handlers interested in an event are called
+ * and events without any handler are dropped after a single map lookup.
+ * Listeners registered here should not be registered to JDA directly, they would receive every event twice.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see DiscordEvent#priority()
+ * @see DiscordEvent#async()
+ */
+public class EventBus implements EventListener {
+
+	private static final Subscription[] EMPTY = new Subscription[0];
+
+	protected static final class Subscription {
+
+		private final Object listener;
+		private final ListenerDispatchTable.Handler handler;
+		private final long order;
+
+		private Subscription(@Nonnull Object listener, @Nonnull ListenerDispatchTable.Handler handler, long order) {
+			this.listener = listener;
+			this.handler = handler;
+			this.order = order;
+		}
+
+	}
+
+	private static final Comparator<Subscription> ORDER = Comparator
+			.comparingInt((Subscription subscription) -> subscription.handler.getPriority()).reversed()
+			.thenComparingLong(subscription -> subscription.order);
+
+	protected volatile Executor executor;
+	protected volatile List<Subscription> subscriptions = Collections.emptyList();
+	protected volatile Map<Class<?>, Subscription[]> index = new ConcurrentHashMap<>();
+	private ExecutorService ownExecutor;
+	private long order;
+
+	/**
+	 * Creates an event bus which uses its own bounded pool of daemon threads for {@link DiscordEvent#async() async} handlers.
+	 * The pool is created when the first async handler is registered, idle threads are stopped after one minute.
+	 *
+	 * @see #shutdown()
+	 */
+	public EventBus() {
+	}
+
+	/**
+	 * @param executor The executor used for {@link DiscordEvent#async() async} handlers
+	 */
+	public EventBus(@Nonnull Executor executor) {
+		this.executor = executor;
+	}
+
+	@Nonnull
+	public synchronized EventBus register(@Nonnull Listener... listeners) {
+		List<Subscription> subscriptions = new ArrayList<>(this.subscriptions);
+		for (Listener listener : listeners) {
+			for (ListenerDispatchTable.Handler handler : ListenerDispatchTable.of(listener.getClass()).getHandlers())
+				subscriptions.add(new Subscription(listener, handler, order++));
+		}
+		if (executor == null && subscriptions.stream().anyMatch(subscription -> subscription.handler.isAsync()))
+			executor = createExecutor();
+		subscriptions.sort(ORDER);
+		update(subscriptions);
+		return this;
+	}
+
+	@Nonnull
+	public synchronized EventBus unregister(@Nonnull Listener... listeners) {
+		List<Subscription> subscriptions = new ArrayList<>(this.subscriptions);
+		for (Listener listener : listeners)
+			subscriptions.removeIf(subscription -> subscription.listener == listener);
+		update(subscriptions);
+		return this;
+	}
+
+	@Nonnull
+	private synchronized Executor createExecutor() {
+		if (ownExecutor == null) {
+			ownExecutor = CommandExecutors.newBoundedExecutor(CommandExecutors.DEFAULT_THREADS, CommandExecutors.DEFAULT_QUEUE_CAPACITY, "event-bus");
+		}
+		return ownExecutor;
+	}
+
+	/**
+	 * Shuts down the pool created by this event bus, an executor passed to it is not shut down.
+	 * Async handlers are rejected afterwards.
+	 */
+	public synchronized void shutdown() {
+		if (ownExecutor != null) ownExecutor.shutdown();
+	}
+
+	private void update(@Nonnull List<Subscription> subscriptions) {
+		this.subscriptions = Collections.unmodifiableList(subscriptions);
+		this.index = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public void onEvent(@Nonnull GenericEvent event) {
+		Map<Class<?>, Subscription[]> index = this.index;
+		Subscription[] subscriptions = index.get(event.getClass());
+		if (subscriptions == null)
+			subscriptions = index.computeIfAbsent(event.getClass(), this::resolve);
+
+		for (Subscription subscription : subscriptions) {
+			if (subscription.handler.isAsync()) {
+				try {
+					executor.execute(() -> invoke(subscription, event));
+				} catch (RejectedExecutionException ex) {
+					Utils.handleException(ex);
+				}
+			} else {
+				invoke(subscription, event);
+			}
+		}
+	}
+
+	protected void invoke(@Nonnull Subscription subscription, @Nonnull GenericEvent event) {
+		try {
+			subscription.handler.getInvoker().invoke(subscription.listener, event);
+		} catch (Throwable ex) {
+			Utils.handleException(ex);
+		}
+	}
+
+	@Nonnull
+	private Subscription[] resolve(@Nonnull Class<?> eventClass) {
+		List<Subscription> matching = new ArrayList<>();
+		for (Subscription subscription : subscriptions) {
+			if (subscription.handler.getEventType().isAssignableFrom(eventClass))
+				matching.add(subscription);
+		}
+		return matching.isEmpty() ? EMPTY : matching.toArray(EMPTY);
+	}
+
+	/**
+	 * @return {@code true} if at least one handler accepts events of the given class
+	 */
+	@CheckReturnValue
+	public boolean hasSubscribers(@Nonnull Class<? extends GenericEvent> eventClass) {
+		Map<Class<?>, Subscription[]> index = this.index;
+		return index.computeIfAbsent(eventClass, this::resolve).length > 0;
+	}
+
+	/**
+	 * @return The executor used for {@link DiscordEvent#async() async} handlers
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public Executor getExecutor() {
+		Executor executor = this.executor;
+		if (executor != null) return executor;
+		synchronized (this) {
+			if (this.executor == null) this.executor = createExecutor();
+			return this.executor;
+		}
+	}
+
+	/**
+	 * @param executor The executor used for {@link DiscordEvent#async() async} handlers
+	 */
+	@Nonnull
+	public EventBus setExecutor(@Nonnull Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+}
@@ -0,0 +1,43 @@
+package net.codingarea.engine.discord.listener;
+
+import net.codingarea.engine.utils.InvokerGenerator;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Calls a {@link DiscordEvent} method of a {@link Listener}
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see ListenerDispatchTable
+ */
+@FunctionalInterface
+public interface EventInvoker {
+
+	void invoke(@Nonnull Object listener, @Nonnull GenericEvent event) throws Throwable;
+
+	/**
+	 * @return A generated invoker for the given method, or an invoker using reflections if it cannot be generated
+	 */
+	@Nonnull
+	@CheckReturnValue
+	static EventInvoker of(@Nonnull Method method) {
+		String body = InvokerGenerator.cast(method.getDeclaringClass(), "$1") + "." + method.getName() + "(" + InvokerGenerator.cast(method.getParameterTypes()[0], "$2") + ");";
+		EventInvoker invoker = InvokerGenerator.generate(EventInvoker.class, method, body);
+		if (invoker != null) return invoker;
+
+		return (listener, event) -> {
+			try {
+				method.invoke(listener, event);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,175 @@
+package net.codingarea.engine.discord.listener;
+
+import net.codingarea.engine.utils.Utils;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link DiscordEvent} methods of a {@link Listener} class, computed once per class.
+ * For every concrete event class the matching methods (including the ones accepting a super type of the event)
+ * are resolved on the first event of that class and cached, so dispatching is a single map lookup.
+ * The methods are called using generated {@link EventInvoker EventInvokers}.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see Listener#onEvent(GenericEvent)
+ */
+public final class ListenerDispatchTable {
+
+	private static final ClassValue<ListenerDispatchTable> tables = new ClassValue<ListenerDispatchTable>() {
+		@Override
+		protected ListenerDispatchTable computeValue(@Nonnull Class<?> type) {
+			return new ListenerDispatchTable(type);
+		}
+	};
+
+	private static final Handler[] EMPTY = new Handler[0];
+
+	/**
+	 * {@link Class#getMethods()} returns the methods in no particular order,
+	 * so handlers are sorted by their {@link DiscordEvent#priority() priority} (highest first), their name and the name of their event type
+	 */
+	private static final Comparator<Handler> ORDER = Comparator
+			.comparingInt(Handler::getPriority).reversed()
+			.thenComparing(handler -> handler.method.getName())
+			.thenComparing(handler -> handler.eventType.getName());
+
+	/**
+	 * A {@link DiscordEvent} method with its {@link EventInvoker}
+	 */
+	public static final class Handler {
+
+		private final Method method;
+		private final Class<?> eventType;
+		private final EventInvoker invoker;
+		private final int priority;
+		private final boolean async;
+
+		private Handler(@Nonnull Method method) {
+			DiscordEvent annotation = method.getAnnotation(DiscordEvent.class);
+			this.method = method;
+			this.eventType = method.getParameterTypes()[0];
+			this.invoker = EventInvoker.of(method);
+			this.priority = annotation.priority();
+			this.async = annotation.async();
+		}
+
+		/**
+		 * @return The type of event this handler accepts
+		 */
+		@Nonnull
+		@CheckReturnValue
+		public Class<?> getEventType() {
+			return eventType;
+		}
+
+		/**
+		 * @see DiscordEvent#priority()
+		 */
+		@CheckReturnValue
+		public int getPriority() {
+			return priority;
+		}
+
+		/**
+		 * @see DiscordEvent#async()
+		 */
+		@CheckReturnValue
+		public boolean isAsync() {
+			return async;
+		}
+
+		@Nonnull
+		@CheckReturnValue
+		public Method getMethod() {
+			return method;
+		}
+
+		@Nonnull
+		@CheckReturnValue
+		public EventInvoker getInvoker() {
+			return invoker;
+		}
+
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public static ListenerDispatchTable of(@Nonnull Class<?> listenerClass) {
+		return tables.get(listenerClass);
+	}
+
+	private final Handler[] handlers;
+	private final Map<Class<?>, Handler[]> handlersByEvent = new ConcurrentHashMap<>();
+
+	private ListenerDispatchTable(@Nonnull Class<?> listenerClass) {
+		List<Handler> handlers = new ArrayList<>();
+		for (Method method : Utils.getMethodsAnnotatedWith(listenerClass, DiscordEvent.class)) {
+			if (method.getParameterCount() != 1) continue;
+			try {
+				method.setAccessible(true);
+			} catch (RuntimeException ex) {
+				// Public methods can still be invoked without being accessible
+			}
+			handlers.add(new Handler(method));
+		}
+		handlers.sort(ORDER);
+		this.handlers = handlers.toArray(EMPTY);
+	}
+
+	/**
+	 * @return The handlers which accept the given event class, ordered by priority, name and event type
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public Handler[] getHandlers(@Nonnull Class<?> eventClass) {
+		Handler[] handlers = handlersByEvent.get(eventClass);
+		if (handlers == null)
+			handlers = handlersByEvent.computeIfAbsent(eventClass, this::resolve);
+		return handlers;
+	}
+
+	@Nonnull
+	private Handler[] resolve(@Nonnull Class<?> eventClass) {
+		List<Handler> matching = new ArrayList<>();
+		for (Handler handler : handlers) {
+			if (handler.eventType.isAssignableFrom(eventClass))
+				matching.add(handler);
+		}
+		return matching.isEmpty() ? EMPTY : matching.toArray(EMPTY);
+	}
+
+	/**
+	 * @return All handlers of the listener class, ordered by priority, name and event type
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public List<Handler> getHandlers() {
+		return Collections.unmodifiableList(Arrays.asList(handlers));
+	}
+
+	@CheckReturnValue
+	public boolean isEmpty() {
+		return handlers.length == 0;
+	}
+
+	/**
+	 * Calls every method of the given listener which accepts the event
+	 */
+	public void dispatch(@Nonnull Object listener, @Nonnull GenericEvent event) {
+		for (Handler handler : getHandlers(event.getClass())) {
+			try {
+				handler.invoker.invoke(listener, event);
+			} catch (Throwable ex) {
+				Utils.handleException(ex);
+			}
+		}
+	}
+
+}
@@ -5,6 +5,10 @@ import net.codingarea.engine.sql.helper.PreparedDeletion;
 import net.codingarea.engine.sql.helper.PreparedInsertion;
 import net.codingarea.engine.sql.helper.PreparedQuery;
 import net.codingarea.engine.sql.helper.PreparedUpdate;
+import net.codingarea.engine.sql.helper.ResultSnapshot;
+import net.codingarea.engine.sql.pool.ConnectionPool;
+import net.codingarea.engine.sql.pool.DelegatingConnection;
+import net.codingarea.engine.sql.pool.StatementCache;
 import net.codingarea.engine.sql.source.DataSource;
 import net.codingarea.engine.utils.Action;
 import net.codingarea.engine.utils.Bindable;
@@ -15,7 +19,6 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.sql.rowset.CachedRowSet;
-import javax.sql.rowset.RowSetProvider;
 import java.io.Serializable;
 import java.sql.*;
 import java.util.logging.Logger;
@@ -40,19 +43,17 @@ public abstract class SQL implements Bindable {
 
 	/**
 	 * @param result The {@link ResultSet} which should be stored into the {@link CachedRowSet}
-	 * @return A new {@link CachedRowSet} using {@link RowSetProvider#newFactory()} as factory
+	 * @return A compact {@link ResultSnapshot snapshot} of the remaining rows, exposed as {@link CachedRowSet}
 	 *
 	 * @throws SQLException
-	 *         If a {@link SQLException} is thrown while creating the {@link CachedRowSet}
+	 *         If a {@link SQLException} is thrown while reading the result
 	 *
-	 * @see CachedRowSet#populate(ResultSet)
+	 * @see ResultSnapshot#of(ResultSet)
 	 */
 	@Nonnull
 	@CheckReturnValue
 	public static CachedRowSet cache(@Nonnull ResultSet result) throws SQLException {
-		CachedRowSet cachedRowSet = RowSetProvider.newFactory().createCachedRowSet();
-		cachedRowSet.populate(result);
-		return cachedRowSet;
+		return ResultSnapshot.of(result);
 	}
 
 
@@ -88,6 +89,9 @@ public abstract class SQL implements Bindable {
 
 	protected final DataSource dataSource;
 	protected volatile Connection connection;
+	protected volatile ConnectionPool pool;
+	protected volatile StatementCache statementCache;
+	protected volatile int statementCacheSize;
 	protected volatile Logger logger = new DefaultLogger(this);
 
 	public SQL(@Nonnull DataSource dataSource) {
@@ -99,8 +103,88 @@ public abstract class SQL implements Bindable {
 		this.logger = logger;
 	}
 
+	/**
+	 * Switches to the given {@link ConnectionPool}: every statement borrows its own connection from the pool,
+	 * instead of all statements sharing the single connection. The single connection is closed,
+	 * so {@link #getConnection()} cannot be used anymore, connections have to be borrowed using {@link #borrowConnection()}.
+	 * A pool which was used before is closed.
+	 *
+	 * @throws SQLException
+	 *         If the pool could not open its {@link ConnectionPool#getMinSize() minimum} amount of connections
+	 */
+	@Nonnull
+	public <T extends SQL> T usePool(@Nonnull ConnectionPool pool) throws SQLException {
+		if (statementCacheSize > 0 && pool.getStatementCacheSize() == 0)
+			pool.setStatementCacheSize(statementCacheSize);
+		pool.fill();
+		ConnectionPool previous = this.pool;
+		if (previous == null && connectionIsOpened())
+			disconnectSafely();
+		this.pool = pool;
+		if (previous != null && previous != pool)
+			previous.close();
+		Action.ifPresent(logger, l -> l.log(LogLevel.STATUS, "Using a connection pool of up to " + pool.getMaxSize() + " connections"));
+		return (T) this;
+	}
+
+	/**
+	 * @see #usePool(ConnectionPool)
+	 */
+	@Nonnull
+	public <T extends SQL> T usePool(int minSize, int maxSize) throws SQLException {
+		return usePool(new ConnectionPool(dataSource, minSize, maxSize).setLogger(logger));
+	}
+
+	/**
+	 * Caches up to the given amount of statements prepared by {@link #prepare(String)} for each connection,
+	 * so statements which are executed often are not prepared again every time.
+	 * Closing a cached statement gives it back to the cache.
+	 *
+	 * @param size The amount of statements to cache for each connection, {@code 0} to disable
+	 *
+	 * @see StatementCache
+	 * @see net.codingarea.engine.sql.source.LinkAttachment#STATEMENT_CACHE
+	 */
+	@Nonnull
+	public <T extends SQL> T useStatementCache(int size) {
+		if (size < 0) throw new IllegalArgumentException("Statement cache size cannot be negative");
+		statementCacheSize = size;
+
+		ConnectionPool pool = this.pool;
+		if (pool != null) {
+			pool.setStatementCacheSize(size);
+			return (T) this;
+		}
+
+		StatementCache previous = statementCache;
+		Connection connection = this.connection;
+		statementCache = size > 0 && connection != null ? new StatementCache(connection, size) : null;
+		if (previous != null) previous.close();
+		return (T) this;
+	}
+
+	/**
+	 * @return The statement cache of the shared connection, {@code null} if disabled or a {@link ConnectionPool} is used
+	 */
+	@Nullable
+	@CheckReturnValue
+	public StatementCache getStatementCache() {
+		return statementCache;
+	}
+
+	/**
+	 * @return The pool used, {@code null} if a single connection is shared
+	 */
+	@Nullable
+	@CheckReturnValue
+	public ConnectionPool getPool() {
+		return pool;
+	}
+
 	@CheckReturnValue
 	public boolean connectionIsOpened() {
+		ConnectionPool pool = this.pool;
+		if (pool != null) return !pool.isClosed();
 		try {
 			return connection != null && !connection.isClosed();
 		} catch (Exception ignored) {
@@ -112,24 +196,57 @@ public abstract class SQL implements Bindable {
 	 * Terminates the existing connection, using {@link #disconnect()}
 	 * Then it creates a new connection using {@link DataSource#createConnection()}
 	 *
+	 * If a {@link ConnectionPool} is used, it is filled instead. A pool closed by {@link #disconnect()}
+	 * is replaced by a {@link ConnectionPool#copy() new pool} with the same settings.
+	 *
 	 * @throws SQLException
 	 *         If a {@link SQLException} is thrown while disconnection or creating a new connection to the sql server
 	 */
 	public void connect() throws SQLException {
+		ConnectionPool pool = this.pool;
+		if (pool != null) {
+			if (!pool.isClosed()) {
+				pool.fill();
+				return;
+			}
+			ConnectionPool reopened = pool.copy();
+			try {
+				reopened.fill();
+			} catch (SQLException | RuntimeException ex) {
+				reopened.close();
+				throw ex;
+			}
+			this.pool = reopened;
+			Action.ifPresent(logger, l -> l.log(LogLevel.STATUS, "Connection pool reopened"));
+			return;
+		}
 		if (connectionIsOpened()) {
 			disconnect();
 		}
 		connection = dataSource.createConnection();
+		StatementCache previous = statementCache;
+		statementCache = statementCacheSize > 0 ? new StatementCache(connection, statementCacheSize) : null;
+		if (previous != null) previous.close();
 		Action.ifPresent(logger, l -> l.log(LogLevel.STATUS, "Connection to database successfully created"));
 	}
 
 	/**
-	 * Closes the the connection ({@link #getConnection()}) to the sql server using {@link Connection#close()}
+	 * Closes the the connection ({@link #getConnection()}) to the sql server using {@link Connection#close()},
+	 * or the {@link ConnectionPool} if one is used
 	 *
 	 * @throws SQLException
 	 *         If a {@link SQLException} is thrown while closing the connection
 	 */
 	public void disconnect() throws SQLException {
+		ConnectionPool pool = this.pool;
+		if (pool != null) {
+			pool.close();
+			Action.ifPresent(logger, l -> l.log(LogLevel.STATUS, "Connection pool closed"));
+			return;
+		}
+		StatementCache statementCache = this.statementCache;
+		this.statementCache = null;
+		if (statementCache != null) statementCache.close();
 		connection.close();
 		Action.ifPresent(logger, l -> l.log(LogLevel.STATUS, "Connection to database closed"));
 	}
@@ -149,6 +266,7 @@ public abstract class SQL implements Bindable {
 	 *         If a {@link SQLException} is thrown while connecting to the server
 	 */
 	public void verifyConnection() throws SQLException {
+		// Connections of a pool are validated when they are borrowed, only a closed pool has to be replaced
 		if (!connectionIsOpened()) {
 			connect();
 		}
@@ -157,7 +275,8 @@ public abstract class SQL implements Bindable {
 	@Nonnull
 	@CheckReturnValue
 	public Statement createStatement() throws SQLException {
-		return connection.createStatement();
+		ConnectionPool pool = this.pool;
+		return pool != null ? pool.createStatement() : connection.createStatement();
 	}
 
 	/**
@@ -175,16 +294,21 @@ public abstract class SQL implements Bindable {
 	public int executeUpdate(final @Nonnull String sql) throws SQLException {
 		verifyConnection();
 		Statement statement = createStatement();
-		int result = statement.executeUpdate(sql);
-		statement.close();
-		return result;
+		try {
+			return statement.executeUpdate(sql);
+		} finally {
+			statement.close();
+		}
 	}
 
 	@Nonnull
 	@CheckReturnValue
 	public PreparedStatement prepare(final @Nonnull String sql) throws SQLException {
+		ConnectionPool pool = this.pool;
+		if (pool != null) return pool.prepare(sql);
 		verifyConnection();
-		return connection.prepareStatement(sql);
+		StatementCache statementCache = this.statementCache;
+		return statementCache != null ? statementCache.prepare(sql) : connection.prepareStatement(sql);
 	}
 
 	/**
@@ -202,7 +326,12 @@ public abstract class SQL implements Bindable {
 	@CheckReturnValue
 	public PreparedStatement prepare(final @Nonnull String sql, final @Nonnull Object... params) throws SQLException {
 		PreparedStatement statement = prepare(sql);
-		fillParams(statement, params);
+		try {
+			fillParams(statement, params);
+		} catch (SQLException | RuntimeException ex) {
+			statement.close();
+			throw ex;
+		}
 		return statement;
 	}
 
@@ -246,18 +375,20 @@ public abstract class SQL implements Bindable {
 	public CachedRowSet executeQuery(final @Nonnull String sql) throws SQLException {
 		verifyConnection();
 		Statement statement = createStatement();
-		ResultSet resultSet = statement.executeQuery(sql);
-		CachedRowSet cachedRowSet = cache(resultSet);
-		statement.close();
-		return cachedRowSet;
+		try {
+			return cache(statement.executeQuery(sql));
+		} finally {
+			statement.close();
+		}
 	}
 
 	@Nonnull
 	public CachedRowSet executeQuery(final @Nonnull PreparedStatement statement) throws SQLException {
-		ResultSet resultSet = statement.executeQuery();
-		CachedRowSet cachedRowSet = cache(resultSet);
-		statement.close();
-		return cachedRowSet;
+		try {
+			return cache(statement.executeQuery());
+		} finally {
+			statement.close();
+		}
 	}
 
 	public int update(final @Nonnull String sql, final @Nonnull Object... params) throws SQLException {
@@ -266,9 +397,11 @@ public abstract class SQL implements Bindable {
 	}
 
 	public int executeUpdate(final @Nonnull PreparedStatement statement) throws SQLException {
-		int result = statement.executeUpdate();
-		statement.close();
-		return result;
+		try {
+			return statement.executeUpdate();
+		} finally {
+			statement.close();
+		}
 	}
 
 	public boolean isSet(final @Nonnull String sql, final @Nonnull Object... params) throws SQLException {
@@ -292,17 +425,65 @@ public abstract class SQL implements Bindable {
 		return set;
 	}
 
+	/**
+	 * Switches the database of the shared connection, or of every connection if a {@link ConnectionPool} is used
+	 *
+	 * @see ConnectionPool#setCatalog(String)
+	 */
 	public void switchDatabase(final @Nonnull String database) throws SQLException {
-		executeUpdate("use " + database);
+		ConnectionPool pool = this.pool;
+		if (pool != null) {
+			pool.setCatalog(database);
+		} else {
+			executeUpdate("use " + database);
+			StatementCache statementCache = this.statementCache;
+			if (statementCache != null) statementCache.clear();
+		}
 		Action.ifPresent(logger, l -> l.log(LogLevel.INFO, "Switched database to \"" + database + "\""));
 	}
 
+	/**
+	 * @return The shared connection, which must not be closed
+	 *
+	 * @throws IllegalStateException
+	 *         If a {@link ConnectionPool} is used, because there is no shared connection.
+	 *         Use {@link #borrowConnection()} instead
+	 */
 	@Nonnull
 	@CheckReturnValue
 	public Connection getConnection() {
+		if (pool != null) throw new IllegalStateException("There is no shared connection when a connection pool is used, use borrowConnection()");
 		return connection;
 	}
 
+	/**
+	 * Borrows a connection from the {@link ConnectionPool}, or returns the shared connection if no pool is used.
+	 * The connection has to be closed after it was used, preferably using try-with-resources:
+	 * this gives it back to the pool, the shared connection is not closed.
+	 *
+	 * @throws SQLException
+	 *         If no connection could be borrowed from the pool in time
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public Connection borrowConnection() throws SQLException {
+		ConnectionPool pool = this.pool;
+		if (pool != null) return pool.borrow();
+
+		verifyConnection();
+		Connection connection = this.connection;
+		return new DelegatingConnection() {
+			@Nonnull
+			@Override
+			protected Connection delegate() {
+				return connection;
+			}
+
+			@Override
+			public void close() { }
+		};
+	}
+
 	@Nonnull
 	@CheckReturnValue
 	public DataSource getDataSource() {
@@ -330,7 +511,7 @@ public abstract class SQL implements Bindable {
 		return "SQL{" +
 				"class=" + this.getClass().getSimpleName() +
 				", dataSource=" + dataSource +
-				", connection=" + connection +
+				", connection=" + (pool != null ? pool : connection) +
 				'}';
 	}
 }
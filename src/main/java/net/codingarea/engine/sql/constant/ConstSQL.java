@@ -237,12 +237,24 @@ public final class ConstSQL {
 		return instance.paramIsSet(sql, param, params);
 	}
 
+	/**
+	 * @see SQL#getConnection()
+	 */
 	@Nonnull
 	@CheckReturnValue
 	public static Connection getConnection() {
 		return instance.getConnection();
 	}
 
+	/**
+	 * @see SQL#borrowConnection()
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static Connection borrowConnection() throws SQLException {
+		return instance.borrowConnection();
+	}
+
 	@Nonnull
 	@CheckReturnValue
 	public static DataSource getDataSource() {
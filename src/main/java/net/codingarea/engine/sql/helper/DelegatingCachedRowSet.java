@@ -0,0 +1,1863 @@
+package net.codingarea.engine.sql.helper;
+
+import javax.annotation.Nonnull;
+import javax.sql.RowSet;
+import javax.sql.RowSetEvent;
+import javax.sql.RowSetListener;
+import javax.sql.RowSetMetaData;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetWarning;
+import javax.sql.rowset.spi.SyncProvider;
+import javax.sql.rowset.spi.SyncProviderException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.*;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A {@link CachedRowSet} passing every call to the row set returned by {@link #delegate()}.
+ * Subclasses only override the methods they change, everything else is a plain method call.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ */
+abstract class DelegatingCachedRowSet implements CachedRowSet {
+
+	/**
+	 * @return The row set to which the calls are passed
+	 *
+	 * @throws SQLException
+	 *         If the row set could not be created
+	 */
+	@Nonnull
+	protected abstract CachedRowSet delegate() throws SQLException;
+
+	/**
+	 * Used by the methods which cannot throw an {@link SQLException}
+	 *
+	 * @throws IllegalStateException
+	 *         If the row set could not be created
+	 */
+	@Nonnull
+	private CachedRowSet uncheckedDelegate() {
+		try {
+			return delegate();
+		} catch (SQLException ex) {
+			throw new IllegalStateException(ex.getMessage(), ex);
+		}
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		return delegate().next();
+	}
+
+	@Override
+	public void close() throws SQLException {
+		delegate().close();
+	}
+
+	@Override
+	public boolean wasNull() throws SQLException {
+		return delegate().wasNull();
+	}
+
+	@Override
+	public String getString(int columnIndex) throws SQLException {
+		return delegate().getString(columnIndex);
+	}
+
+	@Override
+	public boolean getBoolean(int columnIndex) throws SQLException {
+		return delegate().getBoolean(columnIndex);
+	}
+
+	@Override
+	public byte getByte(int columnIndex) throws SQLException {
+		return delegate().getByte(columnIndex);
+	}
+
+	@Override
+	public short getShort(int columnIndex) throws SQLException {
+		return delegate().getShort(columnIndex);
+	}
+
+	@Override
+	public int getInt(int columnIndex) throws SQLException {
+		return delegate().getInt(columnIndex);
+	}
+
+	@Override
+	public long getLong(int columnIndex) throws SQLException {
+		return delegate().getLong(columnIndex);
+	}
+
+	@Override
+	public float getFloat(int columnIndex) throws SQLException {
+		return delegate().getFloat(columnIndex);
+	}
+
+	@Override
+	public double getDouble(int columnIndex) throws SQLException {
+		return delegate().getDouble(columnIndex);
+	}
+
+	@Deprecated
+	@Override
+	public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+		return delegate().getBigDecimal(columnIndex, scale);
+	}
+
+	@Override
+	public byte[] getBytes(int columnIndex) throws SQLException {
+		return delegate().getBytes(columnIndex);
+	}
+
+	@Override
+	public java.sql.Date getDate(int columnIndex) throws SQLException {
+		return delegate().getDate(columnIndex);
+	}
+
+	@Override
+	public Time getTime(int columnIndex) throws SQLException {
+		return delegate().getTime(columnIndex);
+	}
+
+	@Override
+	public Timestamp getTimestamp(int columnIndex) throws SQLException {
+		return delegate().getTimestamp(columnIndex);
+	}
+
+	@Override
+	public InputStream getAsciiStream(int columnIndex) throws SQLException {
+		return delegate().getAsciiStream(columnIndex);
+	}
+
+	@Deprecated
+	@Override
+	public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+		return delegate().getUnicodeStream(columnIndex);
+	}
+
+	@Override
+	public InputStream getBinaryStream(int columnIndex) throws SQLException {
+		return delegate().getBinaryStream(columnIndex);
+	}
+
+	@Override
+	public String getString(String columnLabel) throws SQLException {
+		return delegate().getString(columnLabel);
+	}
+
+	@Override
+	public boolean getBoolean(String columnLabel) throws SQLException {
+		return delegate().getBoolean(columnLabel);
+	}
+
+	@Override
+	public byte getByte(String columnLabel) throws SQLException {
+		return delegate().getByte(columnLabel);
+	}
+
+	@Override
+	public short getShort(String columnLabel) throws SQLException {
+		return delegate().getShort(columnLabel);
+	}
+
+	@Override
+	public int getInt(String columnLabel) throws SQLException {
+		return delegate().getInt(columnLabel);
+	}
+
+	@Override
+	public long getLong(String columnLabel) throws SQLException {
+		return delegate().getLong(columnLabel);
+	}
+
+	@Override
+	public float getFloat(String columnLabel) throws SQLException {
+		return delegate().getFloat(columnLabel);
+	}
+
+	@Override
+	public double getDouble(String columnLabel) throws SQLException {
+		return delegate().getDouble(columnLabel);
+	}
+
+	@Deprecated
+	@Override
+	public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+		return delegate().getBigDecimal(columnLabel, scale);
+	}
+
+	@Override
+	public byte[] getBytes(String columnLabel) throws SQLException {
+		return delegate().getBytes(columnLabel);
+	}
+
+	@Override
+	public java.sql.Date getDate(String columnLabel) throws SQLException {
+		return delegate().getDate(columnLabel);
+	}
+
+	@Override
+	public Time getTime(String columnLabel) throws SQLException {
+		return delegate().getTime(columnLabel);
+	}
+
+	@Override
+	public Timestamp getTimestamp(String columnLabel) throws SQLException {
+		return delegate().getTimestamp(columnLabel);
+	}
+
+	@Override
+	public InputStream getAsciiStream(String columnLabel) throws SQLException {
+		return delegate().getAsciiStream(columnLabel);
+	}
+
+	@Deprecated
+	@Override
+	public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+		return delegate().getUnicodeStream(columnLabel);
+	}
+
+	@Override
+	public InputStream getBinaryStream(String columnLabel) throws SQLException {
+		return delegate().getBinaryStream(columnLabel);
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return delegate().getWarnings();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		delegate().clearWarnings();
+	}
+
+	@Override
+	public String getCursorName() throws SQLException {
+		return delegate().getCursorName();
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		return delegate().getMetaData();
+	}
+
+	@Override
+	public Object getObject(int columnIndex) throws SQLException {
+		return delegate().getObject(columnIndex);
+	}
+
+	@Override
+	public Object getObject(String columnLabel) throws SQLException {
+		return delegate().getObject(columnLabel);
+	}
+
+	@Override
+	public int findColumn(String columnLabel) throws SQLException {
+		return delegate().findColumn(columnLabel);
+	}
+
+	@Override
+	public Reader getCharacterStream(int columnIndex) throws SQLException {
+		return delegate().getCharacterStream(columnIndex);
+	}
+
+	@Override
+	public Reader getCharacterStream(String columnLabel) throws SQLException {
+		return delegate().getCharacterStream(columnLabel);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+		return delegate().getBigDecimal(columnIndex);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+		return delegate().getBigDecimal(columnLabel);
+	}
+
+	@Override
+	public boolean isBeforeFirst() throws SQLException {
+		return delegate().isBeforeFirst();
+	}
+
+	@Override
+	public boolean isAfterLast() throws SQLException {
+		return delegate().isAfterLast();
+	}
+
+	@Override
+	public boolean isFirst() throws SQLException {
+		return delegate().isFirst();
+	}
+
+	@Override
+	public boolean isLast() throws SQLException {
+		return delegate().isLast();
+	}
+
+	@Override
+	public void beforeFirst() throws SQLException {
+		delegate().beforeFirst();
+	}
+
+	@Override
+	public void afterLast() throws SQLException {
+		delegate().afterLast();
+	}
+
+	@Override
+	public boolean first() throws SQLException {
+		return delegate().first();
+	}
+
+	@Override
+	public boolean last() throws SQLException {
+		return delegate().last();
+	}
+
+	@Override
+	public int getRow() throws SQLException {
+		return delegate().getRow();
+	}
+
+	@Override
+	public boolean absolute(int row) throws SQLException {
+		return delegate().absolute(row);
+	}
+
+	@Override
+	public boolean relative(int rows) throws SQLException {
+		return delegate().relative(rows);
+	}
+
+	@Override
+	public boolean previous() throws SQLException {
+		return delegate().previous();
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		delegate().setFetchDirection(direction);
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		return delegate().getFetchDirection();
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		delegate().setFetchSize(rows);
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		return delegate().getFetchSize();
+	}
+
+	@Override
+	public int getType() throws SQLException {
+		return delegate().getType();
+	}
+
+	@Override
+	public int getConcurrency() throws SQLException {
+		return delegate().getConcurrency();
+	}
+
+	@Override
+	public boolean rowUpdated() throws SQLException {
+		return delegate().rowUpdated();
+	}
+
+	@Override
+	public boolean rowInserted() throws SQLException {
+		return delegate().rowInserted();
+	}
+
+	@Override
+	public boolean rowDeleted() throws SQLException {
+		return delegate().rowDeleted();
+	}
+
+	@Override
+	public void updateNull(int columnIndex) throws SQLException {
+		delegate().updateNull(columnIndex);
+	}
+
+	@Override
+	public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+		delegate().updateBoolean(columnIndex, x);
+	}
+
+	@Override
+	public void updateByte(int columnIndex, byte x) throws SQLException {
+		delegate().updateByte(columnIndex, x);
+	}
+
+	@Override
+	public void updateShort(int columnIndex, short x) throws SQLException {
+		delegate().updateShort(columnIndex, x);
+	}
+
+	@Override
+	public void updateInt(int columnIndex, int x) throws SQLException {
+		delegate().updateInt(columnIndex, x);
+	}
+
+	@Override
+	public void updateLong(int columnIndex, long x) throws SQLException {
+		delegate().updateLong(columnIndex, x);
+	}
+
+	@Override
+	public void updateFloat(int columnIndex, float x) throws SQLException {
+		delegate().updateFloat(columnIndex, x);
+	}
+
+	@Override
+	public void updateDouble(int columnIndex, double x) throws SQLException {
+		delegate().updateDouble(columnIndex, x);
+	}
+
+	@Override
+	public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+		delegate().updateBigDecimal(columnIndex, x);
+	}
+
+	@Override
+	public void updateString(int columnIndex, String x) throws SQLException {
+		delegate().updateString(columnIndex, x);
+	}
+
+	@Override
+	public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+		delegate().updateBytes(columnIndex, x);
+	}
+
+	@Override
+	public void updateDate(int columnIndex, java.sql.Date x) throws SQLException {
+		delegate().updateDate(columnIndex, x);
+	}
+
+	@Override
+	public void updateTime(int columnIndex, Time x) throws SQLException {
+		delegate().updateTime(columnIndex, x);
+	}
+
+	@Override
+	public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+		delegate().updateTimestamp(columnIndex, x);
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+		delegate().updateAsciiStream(columnIndex, x, length);
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+		delegate().updateBinaryStream(columnIndex, x, length);
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+		delegate().updateCharacterStream(columnIndex, x, length);
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+		delegate().updateObject(columnIndex, x, scaleOrLength);
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x) throws SQLException {
+		delegate().updateObject(columnIndex, x);
+	}
+
+	@Override
+	public void updateNull(String columnLabel) throws SQLException {
+		delegate().updateNull(columnLabel);
+	}
+
+	@Override
+	public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+		delegate().updateBoolean(columnLabel, x);
+	}
+
+	@Override
+	public void updateByte(String columnLabel, byte x) throws SQLException {
+		delegate().updateByte(columnLabel, x);
+	}
+
+	@Override
+	public void updateShort(String columnLabel, short x) throws SQLException {
+		delegate().updateShort(columnLabel, x);
+	}
+
+	@Override
+	public void updateInt(String columnLabel, int x) throws SQLException {
+		delegate().updateInt(columnLabel, x);
+	}
+
+	@Override
+	public void updateLong(String columnLabel, long x) throws SQLException {
+		delegate().updateLong(columnLabel, x);
+	}
+
+	@Override
+	public void updateFloat(String columnLabel, float x) throws SQLException {
+		delegate().updateFloat(columnLabel, x);
+	}
+
+	@Override
+	public void updateDouble(String columnLabel, double x) throws SQLException {
+		delegate().updateDouble(columnLabel, x);
+	}
+
+	@Override
+	public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+		delegate().updateBigDecimal(columnLabel, x);
+	}
+
+	@Override
+	public void updateString(String columnLabel, String x) throws SQLException {
+		delegate().updateString(columnLabel, x);
+	}
+
+	@Override
+	public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+		delegate().updateBytes(columnLabel, x);
+	}
+
+	@Override
+	public void updateDate(String columnLabel, java.sql.Date x) throws SQLException {
+		delegate().updateDate(columnLabel, x);
+	}
+
+	@Override
+	public void updateTime(String columnLabel, Time x) throws SQLException {
+		delegate().updateTime(columnLabel, x);
+	}
+
+	@Override
+	public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+		delegate().updateTimestamp(columnLabel, x);
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+		delegate().updateAsciiStream(columnLabel, x, length);
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+		delegate().updateBinaryStream(columnLabel, x, length);
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+		delegate().updateCharacterStream(columnLabel, reader, length);
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+		delegate().updateObject(columnLabel, x, scaleOrLength);
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x) throws SQLException {
+		delegate().updateObject(columnLabel, x);
+	}
+
+	@Override
+	public void insertRow() throws SQLException {
+		delegate().insertRow();
+	}
+
+	@Override
+	public void updateRow() throws SQLException {
+		delegate().updateRow();
+	}
+
+	@Override
+	public void deleteRow() throws SQLException {
+		delegate().deleteRow();
+	}
+
+	@Override
+	public void refreshRow() throws SQLException {
+		delegate().refreshRow();
+	}
+
+	@Override
+	public void cancelRowUpdates() throws SQLException {
+		delegate().cancelRowUpdates();
+	}
+
+	@Override
+	public void moveToInsertRow() throws SQLException {
+		delegate().moveToInsertRow();
+	}
+
+	@Override
+	public void moveToCurrentRow() throws SQLException {
+		delegate().moveToCurrentRow();
+	}
+
+	@Override
+	public Statement getStatement() throws SQLException {
+		return delegate().getStatement();
+	}
+
+	@Override
+	public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+		return delegate().getObject(columnIndex, map);
+	}
+
+	@Override
+	public Ref getRef(int columnIndex) throws SQLException {
+		return delegate().getRef(columnIndex);
+	}
+
+	@Override
+	public Blob getBlob(int columnIndex) throws SQLException {
+		return delegate().getBlob(columnIndex);
+	}
+
+	@Override
+	public Clob getClob(int columnIndex) throws SQLException {
+		return delegate().getClob(columnIndex);
+	}
+
+	@Override
+	public Array getArray(int columnIndex) throws SQLException {
+		return delegate().getArray(columnIndex);
+	}
+
+	@Override
+	public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+		return delegate().getObject(columnLabel, map);
+	}
+
+	@Override
+	public Ref getRef(String columnLabel) throws SQLException {
+		return delegate().getRef(columnLabel);
+	}
+
+	@Override
+	public Blob getBlob(String columnLabel) throws SQLException {
+		return delegate().getBlob(columnLabel);
+	}
+
+	@Override
+	public Clob getClob(String columnLabel) throws SQLException {
+		return delegate().getClob(columnLabel);
+	}
+
+	@Override
+	public Array getArray(String columnLabel) throws SQLException {
+		return delegate().getArray(columnLabel);
+	}
+
+	@Override
+	public java.sql.Date getDate(int columnIndex, Calendar cal) throws SQLException {
+		return delegate().getDate(columnIndex, cal);
+	}
+
+	@Override
+	public java.sql.Date getDate(String columnLabel, Calendar cal) throws SQLException {
+		return delegate().getDate(columnLabel, cal);
+	}
+
+	@Override
+	public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+		return delegate().getTime(columnIndex, cal);
+	}
+
+	@Override
+	public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+		return delegate().getTime(columnLabel, cal);
+	}
+
+	@Override
+	public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+		return delegate().getTimestamp(columnIndex, cal);
+	}
+
+	@Override
+	public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+		return delegate().getTimestamp(columnLabel, cal);
+	}
+
+	@Override
+	public URL getURL(int columnIndex) throws SQLException {
+		return delegate().getURL(columnIndex);
+	}
+
+	@Override
+	public URL getURL(String columnLabel) throws SQLException {
+		return delegate().getURL(columnLabel);
+	}
+
+	@Override
+	public void updateRef(int columnIndex, Ref x) throws SQLException {
+		delegate().updateRef(columnIndex, x);
+	}
+
+	@Override
+	public void updateRef(String columnLabel, Ref x) throws SQLException {
+		delegate().updateRef(columnLabel, x);
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, Blob x) throws SQLException {
+		delegate().updateBlob(columnIndex, x);
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, Blob x) throws SQLException {
+		delegate().updateBlob(columnLabel, x);
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Clob x) throws SQLException {
+		delegate().updateClob(columnIndex, x);
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Clob x) throws SQLException {
+		delegate().updateClob(columnLabel, x);
+	}
+
+	@Override
+	public void updateArray(int columnIndex, Array x) throws SQLException {
+		delegate().updateArray(columnIndex, x);
+	}
+
+	@Override
+	public void updateArray(String columnLabel, Array x) throws SQLException {
+		delegate().updateArray(columnLabel, x);
+	}
+
+	@Override
+	public RowId getRowId(int columnIndex) throws SQLException {
+		return delegate().getRowId(columnIndex);
+	}
+
+	@Override
+	public RowId getRowId(String columnLabel) throws SQLException {
+		return delegate().getRowId(columnLabel);
+	}
+
+	@Override
+	public void updateRowId(int columnIndex, RowId x) throws SQLException {
+		delegate().updateRowId(columnIndex, x);
+	}
+
+	@Override
+	public void updateRowId(String columnLabel, RowId x) throws SQLException {
+		delegate().updateRowId(columnLabel, x);
+	}
+
+	@Override
+	public int getHoldability() throws SQLException {
+		return delegate().getHoldability();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return delegate().isClosed();
+	}
+
+	@Override
+	public void updateNString(int columnIndex, String nString) throws SQLException {
+		delegate().updateNString(columnIndex, nString);
+	}
+
+	@Override
+	public void updateNString(String columnLabel, String nString) throws SQLException {
+		delegate().updateNString(columnLabel, nString);
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+		delegate().updateNClob(columnIndex, nClob);
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+		delegate().updateNClob(columnLabel, nClob);
+	}
+
+	@Override
+	public NClob getNClob(int columnIndex) throws SQLException {
+		return delegate().getNClob(columnIndex);
+	}
+
+	@Override
+	public NClob getNClob(String columnLabel) throws SQLException {
+		return delegate().getNClob(columnLabel);
+	}
+
+	@Override
+	public SQLXML getSQLXML(int columnIndex) throws SQLException {
+		return delegate().getSQLXML(columnIndex);
+	}
+
+	@Override
+	public SQLXML getSQLXML(String columnLabel) throws SQLException {
+		return delegate().getSQLXML(columnLabel);
+	}
+
+	@Override
+	public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+		delegate().updateSQLXML(columnIndex, xmlObject);
+	}
+
+	@Override
+	public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+		delegate().updateSQLXML(columnLabel, xmlObject);
+	}
+
+	@Override
+	public String getNString(int columnIndex) throws SQLException {
+		return delegate().getNString(columnIndex);
+	}
+
+	@Override
+	public String getNString(String columnLabel) throws SQLException {
+		return delegate().getNString(columnLabel);
+	}
+
+	@Override
+	public Reader getNCharacterStream(int columnIndex) throws SQLException {
+		return delegate().getNCharacterStream(columnIndex);
+	}
+
+	@Override
+	public Reader getNCharacterStream(String columnLabel) throws SQLException {
+		return delegate().getNCharacterStream(columnLabel);
+	}
+
+	@Override
+	public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		delegate().updateNCharacterStream(columnIndex, x, length);
+	}
+
+	@Override
+	public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		delegate().updateNCharacterStream(columnLabel, reader, length);
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+		delegate().updateAsciiStream(columnIndex, x, length);
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+		delegate().updateBinaryStream(columnIndex, x, length);
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		delegate().updateCharacterStream(columnIndex, x, length);
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+		delegate().updateAsciiStream(columnLabel, x, length);
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+		delegate().updateBinaryStream(columnLabel, x, length);
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		delegate().updateCharacterStream(columnLabel, reader, length);
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+		delegate().updateBlob(columnIndex, inputStream, length);
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+		delegate().updateBlob(columnLabel, inputStream, length);
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+		delegate().updateClob(columnIndex, reader, length);
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+		delegate().updateClob(columnLabel, reader, length);
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+		delegate().updateNClob(columnIndex, reader, length);
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+		delegate().updateNClob(columnLabel, reader, length);
+	}
+
+	@Override
+	public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+		delegate().updateNCharacterStream(columnIndex, x);
+	}
+
+	@Override
+	public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		delegate().updateNCharacterStream(columnLabel, reader);
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+		delegate().updateAsciiStream(columnIndex, x);
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+		delegate().updateBinaryStream(columnIndex, x);
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+		delegate().updateCharacterStream(columnIndex, x);
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+		delegate().updateAsciiStream(columnLabel, x);
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+		delegate().updateBinaryStream(columnLabel, x);
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		delegate().updateCharacterStream(columnLabel, reader);
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+		delegate().updateBlob(columnIndex, inputStream);
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+		delegate().updateBlob(columnLabel, inputStream);
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Reader reader) throws SQLException {
+		delegate().updateClob(columnIndex, reader);
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Reader reader) throws SQLException {
+		delegate().updateClob(columnLabel, reader);
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+		delegate().updateNClob(columnIndex, reader);
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+		delegate().updateNClob(columnLabel, reader);
+	}
+
+	@Override
+	public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+		return delegate().getObject(columnIndex, type);
+	}
+
+	@Override
+	public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+		return delegate().getObject(columnLabel, type);
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+		delegate().updateObject(columnIndex, x, targetSqlType, scaleOrLength);
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+		delegate().updateObject(columnLabel, x, targetSqlType, scaleOrLength);
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x, SQLType targetSqlType) throws SQLException {
+		delegate().updateObject(columnIndex, x, targetSqlType);
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x, SQLType targetSqlType) throws SQLException {
+		delegate().updateObject(columnLabel, x, targetSqlType);
+	}
+
+	@Override
+	public String getUrl() throws SQLException {
+		return delegate().getUrl();
+	}
+
+	@Override
+	public void setUrl(String url) throws SQLException {
+		delegate().setUrl(url);
+	}
+
+	@Override
+	public String getDataSourceName() {
+		return uncheckedDelegate().getDataSourceName();
+	}
+
+	@Override
+	public void setDataSourceName(String name) throws SQLException {
+		delegate().setDataSourceName(name);
+	}
+
+	@Override
+	public String getUsername() {
+		return uncheckedDelegate().getUsername();
+	}
+
+	@Override
+	public void setUsername(String name) throws SQLException {
+		delegate().setUsername(name);
+	}
+
+	@Override
+	public String getPassword() {
+		return uncheckedDelegate().getPassword();
+	}
+
+	@Override
+	public void setPassword(String password) throws SQLException {
+		delegate().setPassword(password);
+	}
+
+	@Override
+	public int getTransactionIsolation() {
+		return uncheckedDelegate().getTransactionIsolation();
+	}
+
+	@Override
+	public void setTransactionIsolation(int level) throws SQLException {
+		delegate().setTransactionIsolation(level);
+	}
+
+	@Override
+	public Map<String, Class<?>> getTypeMap() throws SQLException {
+		return delegate().getTypeMap();
+	}
+
+	@Override
+	public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		delegate().setTypeMap(map);
+	}
+
+	@Override
+	public String getCommand() {
+		return uncheckedDelegate().getCommand();
+	}
+
+	@Override
+	public void setCommand(String cmd) throws SQLException {
+		delegate().setCommand(cmd);
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return uncheckedDelegate().isReadOnly();
+	}
+
+	@Override
+	public void setReadOnly(boolean value) throws SQLException {
+		delegate().setReadOnly(value);
+	}
+
+	@Override
+	public int getMaxFieldSize() throws SQLException {
+		return delegate().getMaxFieldSize();
+	}
+
+	@Override
+	public void setMaxFieldSize(int max) throws SQLException {
+		delegate().setMaxFieldSize(max);
+	}
+
+	@Override
+	public int getMaxRows() throws SQLException {
+		return delegate().getMaxRows();
+	}
+
+	@Override
+	public void setMaxRows(int max) throws SQLException {
+		delegate().setMaxRows(max);
+	}
+
+	@Override
+	public boolean getEscapeProcessing() throws SQLException {
+		return delegate().getEscapeProcessing();
+	}
+
+	@Override
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		delegate().setEscapeProcessing(enable);
+	}
+
+	@Override
+	public int getQueryTimeout() throws SQLException {
+		return delegate().getQueryTimeout();
+	}
+
+	@Override
+	public void setQueryTimeout(int seconds) throws SQLException {
+		delegate().setQueryTimeout(seconds);
+	}
+
+	@Override
+	public void setType(int type) throws SQLException {
+		delegate().setType(type);
+	}
+
+	@Override
+	public void setConcurrency(int concurrency) throws SQLException {
+		delegate().setConcurrency(concurrency);
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType) throws SQLException {
+		delegate().setNull(parameterIndex, sqlType);
+	}
+
+	@Override
+	public void setNull(String parameterName, int sqlType) throws SQLException {
+		delegate().setNull(parameterName, sqlType);
+	}
+
+	@Override
+	public void setNull(int paramIndex, int sqlType, String typeName) throws SQLException {
+		delegate().setNull(paramIndex, sqlType, typeName);
+	}
+
+	@Override
+	public void setNull(String parameterName, int sqlType, String typeName) throws SQLException {
+		delegate().setNull(parameterName, sqlType, typeName);
+	}
+
+	@Override
+	public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+		delegate().setBoolean(parameterIndex, x);
+	}
+
+	@Override
+	public void setBoolean(String parameterName, boolean x) throws SQLException {
+		delegate().setBoolean(parameterName, x);
+	}
+
+	@Override
+	public void setByte(int parameterIndex, byte x) throws SQLException {
+		delegate().setByte(parameterIndex, x);
+	}
+
+	@Override
+	public void setByte(String parameterName, byte x) throws SQLException {
+		delegate().setByte(parameterName, x);
+	}
+
+	@Override
+	public void setShort(int parameterIndex, short x) throws SQLException {
+		delegate().setShort(parameterIndex, x);
+	}
+
+	@Override
+	public void setShort(String parameterName, short x) throws SQLException {
+		delegate().setShort(parameterName, x);
+	}
+
+	@Override
+	public void setInt(int parameterIndex, int x) throws SQLException {
+		delegate().setInt(parameterIndex, x);
+	}
+
+	@Override
+	public void setInt(String parameterName, int x) throws SQLException {
+		delegate().setInt(parameterName, x);
+	}
+
+	@Override
+	public void setLong(int parameterIndex, long x) throws SQLException {
+		delegate().setLong(parameterIndex, x);
+	}
+
+	@Override
+	public void setLong(String parameterName, long x) throws SQLException {
+		delegate().setLong(parameterName, x);
+	}
+
+	@Override
+	public void setFloat(int parameterIndex, float x) throws SQLException {
+		delegate().setFloat(parameterIndex, x);
+	}
+
+	@Override
+	public void setFloat(String parameterName, float x) throws SQLException {
+		delegate().setFloat(parameterName, x);
+	}
+
+	@Override
+	public void setDouble(int parameterIndex, double x) throws SQLException {
+		delegate().setDouble(parameterIndex, x);
+	}
+
+	@Override
+	public void setDouble(String parameterName, double x) throws SQLException {
+		delegate().setDouble(parameterName, x);
+	}
+
+	@Override
+	public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+		delegate().setBigDecimal(parameterIndex, x);
+	}
+
+	@Override
+	public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException {
+		delegate().setBigDecimal(parameterName, x);
+	}
+
+	@Override
+	public void setString(int parameterIndex, String x) throws SQLException {
+		delegate().setString(parameterIndex, x);
+	}
+
+	@Override
+	public void setString(String parameterName, String x) throws SQLException {
+		delegate().setString(parameterName, x);
+	}
+
+	@Override
+	public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+		delegate().setBytes(parameterIndex, x);
+	}
+
+	@Override
+	public void setBytes(String parameterName, byte[] x) throws SQLException {
+		delegate().setBytes(parameterName, x);
+	}
+
+	@Override
+	public void setDate(int parameterIndex, java.sql.Date x) throws SQLException {
+		delegate().setDate(parameterIndex, x);
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x) throws SQLException {
+		delegate().setTime(parameterIndex, x);
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+		delegate().setTimestamp(parameterIndex, x);
+	}
+
+	@Override
+	public void setTimestamp(String parameterName, Timestamp x) throws SQLException {
+		delegate().setTimestamp(parameterName, x);
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		delegate().setAsciiStream(parameterIndex, x, length);
+	}
+
+	@Override
+	public void setAsciiStream(String parameterName, InputStream x, int length) throws SQLException {
+		delegate().setAsciiStream(parameterName, x, length);
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		delegate().setBinaryStream(parameterIndex, x, length);
+	}
+
+	@Override
+	public void setBinaryStream(String parameterName, InputStream x, int length) throws SQLException {
+		delegate().setBinaryStream(parameterName, x, length);
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+		delegate().setCharacterStream(parameterIndex, reader, length);
+	}
+
+	@Override
+	public void setCharacterStream(String parameterName, Reader reader, int length) throws SQLException {
+		delegate().setCharacterStream(parameterName, reader, length);
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+		delegate().setAsciiStream(parameterIndex, x);
+	}
+
+	@Override
+	public void setAsciiStream(String parameterName, InputStream x) throws SQLException {
+		delegate().setAsciiStream(parameterName, x);
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+		delegate().setBinaryStream(parameterIndex, x);
+	}
+
+	@Override
+	public void setBinaryStream(String parameterName, InputStream x) throws SQLException {
+		delegate().setBinaryStream(parameterName, x);
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+		delegate().setCharacterStream(parameterIndex, reader);
+	}
+
+	@Override
+	public void setCharacterStream(String parameterName, Reader reader) throws SQLException {
+		delegate().setCharacterStream(parameterName, reader);
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+		delegate().setNCharacterStream(parameterIndex, value);
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+		delegate().setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+	}
+
+	@Override
+	public void setObject(String parameterName, Object x, int targetSqlType, int scale) throws SQLException {
+		delegate().setObject(parameterName, x, targetSqlType, scale);
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+		delegate().setObject(parameterIndex, x, targetSqlType);
+	}
+
+	@Override
+	public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException {
+		delegate().setObject(parameterName, x, targetSqlType);
+	}
+
+	@Override
+	public void setObject(String parameterName, Object x) throws SQLException {
+		delegate().setObject(parameterName, x);
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x) throws SQLException {
+		delegate().setObject(parameterIndex, x);
+	}
+
+	@Override
+	public void setRef(int i, Ref x) throws SQLException {
+		delegate().setRef(i, x);
+	}
+
+	@Override
+	public void setBlob(int i, Blob x) throws SQLException {
+		delegate().setBlob(i, x);
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+		delegate().setBlob(parameterIndex, inputStream, length);
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+		delegate().setBlob(parameterIndex, inputStream);
+	}
+
+	@Override
+	public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
+		delegate().setBlob(parameterName, inputStream, length);
+	}
+
+	@Override
+	public void setBlob(String parameterName, Blob x) throws SQLException {
+		delegate().setBlob(parameterName, x);
+	}
+
+	@Override
+	public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
+		delegate().setBlob(parameterName, inputStream);
+	}
+
+	@Override
+	public void setClob(int i, Clob x) throws SQLException {
+		delegate().setClob(i, x);
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		delegate().setClob(parameterIndex, reader, length);
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader) throws SQLException {
+		delegate().setClob(parameterIndex, reader);
+	}
+
+	@Override
+	public void setClob(String parameterName, Reader reader, long length) throws SQLException {
+		delegate().setClob(parameterName, reader, length);
+	}
+
+	@Override
+	public void setClob(String parameterName, Clob x) throws SQLException {
+		delegate().setClob(parameterName, x);
+	}
+
+	@Override
+	public void setClob(String parameterName, Reader reader) throws SQLException {
+		delegate().setClob(parameterName, reader);
+	}
+
+	@Override
+	public void setArray(int i, Array x) throws SQLException {
+		delegate().setArray(i, x);
+	}
+
+	@Override
+	public void setDate(int parameterIndex, java.sql.Date x, Calendar cal) throws SQLException {
+		delegate().setDate(parameterIndex, x, cal);
+	}
+
+	@Override
+	public void setDate(String parameterName, java.sql.Date x) throws SQLException {
+		delegate().setDate(parameterName, x);
+	}
+
+	@Override
+	public void setDate(String parameterName, java.sql.Date x, Calendar cal) throws SQLException {
+		delegate().setDate(parameterName, x, cal);
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+		delegate().setTime(parameterIndex, x, cal);
+	}
+
+	@Override
+	public void setTime(String parameterName, Time x) throws SQLException {
+		delegate().setTime(parameterName, x);
+	}
+
+	@Override
+	public void setTime(String parameterName, Time x, Calendar cal) throws SQLException {
+		delegate().setTime(parameterName, x, cal);
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+		delegate().setTimestamp(parameterIndex, x, cal);
+	}
+
+	@Override
+	public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException {
+		delegate().setTimestamp(parameterName, x, cal);
+	}
+
+	@Override
+	public void clearParameters() throws SQLException {
+		delegate().clearParameters();
+	}
+
+	@Override
+	public void execute() throws SQLException {
+		delegate().execute();
+	}
+
+	@Override
+	public void addRowSetListener(RowSetListener listener) {
+		uncheckedDelegate().addRowSetListener(listener);
+	}
+
+	@Override
+	public void removeRowSetListener(RowSetListener listener) {
+		uncheckedDelegate().removeRowSetListener(listener);
+	}
+
+	@Override
+	public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+		delegate().setSQLXML(parameterIndex, xmlObject);
+	}
+
+	@Override
+	public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
+		delegate().setSQLXML(parameterName, xmlObject);
+	}
+
+	@Override
+	public void setRowId(int parameterIndex, RowId x) throws SQLException {
+		delegate().setRowId(parameterIndex, x);
+	}
+
+	@Override
+	public void setRowId(String parameterName, RowId x) throws SQLException {
+		delegate().setRowId(parameterName, x);
+	}
+
+	@Override
+	public void setNString(int parameterIndex, String value) throws SQLException {
+		delegate().setNString(parameterIndex, value);
+	}
+
+	@Override
+	public void setNString(String parameterName, String value) throws SQLException {
+		delegate().setNString(parameterName, value);
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+		delegate().setNCharacterStream(parameterIndex, value, length);
+	}
+
+	@Override
+	public void setNCharacterStream(String parameterName, Reader value, long length) throws SQLException {
+		delegate().setNCharacterStream(parameterName, value, length);
+	}
+
+	@Override
+	public void setNCharacterStream(String parameterName, Reader value) throws SQLException {
+		delegate().setNCharacterStream(parameterName, value);
+	}
+
+	@Override
+	public void setNClob(String parameterName, NClob value) throws SQLException {
+		delegate().setNClob(parameterName, value);
+	}
+
+	@Override
+	public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
+		delegate().setNClob(parameterName, reader, length);
+	}
+
+	@Override
+	public void setNClob(String parameterName, Reader reader) throws SQLException {
+		delegate().setNClob(parameterName, reader);
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		delegate().setNClob(parameterIndex, reader, length);
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, NClob value) throws SQLException {
+		delegate().setNClob(parameterIndex, value);
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+		delegate().setNClob(parameterIndex, reader);
+	}
+
+	@Override
+	public void setURL(int parameterIndex, URL x) throws SQLException {
+		delegate().setURL(parameterIndex, x);
+	}
+
+	@Override
+	public void populate(ResultSet data) throws SQLException {
+		delegate().populate(data);
+	}
+
+	@Override
+	public void execute(Connection conn) throws SQLException {
+		delegate().execute(conn);
+	}
+
+	@Override
+	public void acceptChanges() throws SyncProviderException {
+		uncheckedDelegate().acceptChanges();
+	}
+
+	@Override
+	public void acceptChanges(Connection con) throws SyncProviderException {
+		uncheckedDelegate().acceptChanges(con);
+	}
+
+	@Override
+	public void restoreOriginal() throws SQLException {
+		delegate().restoreOriginal();
+	}
+
+	@Override
+	public void release() throws SQLException {
+		delegate().release();
+	}
+
+	@Override
+	public void undoDelete() throws SQLException {
+		delegate().undoDelete();
+	}
+
+	@Override
+	public void undoInsert() throws SQLException {
+		delegate().undoInsert();
+	}
+
+	@Override
+	public void undoUpdate() throws SQLException {
+		delegate().undoUpdate();
+	}
+
+	@Override
+	public boolean columnUpdated(int idx) throws SQLException {
+		return delegate().columnUpdated(idx);
+	}
+
+	@Override
+	public boolean columnUpdated(String columnName) throws SQLException {
+		return delegate().columnUpdated(columnName);
+	}
+
+	@Override
+	public Collection<?> toCollection() throws SQLException {
+		return delegate().toCollection();
+	}
+
+	@Override
+	public Collection<?> toCollection(int column) throws SQLException {
+		return delegate().toCollection(column);
+	}
+
+	@Override
+	public Collection<?> toCollection(String column) throws SQLException {
+		return delegate().toCollection(column);
+	}
+
+	@Override
+	public SyncProvider getSyncProvider() throws SQLException {
+		return delegate().getSyncProvider();
+	}
+
+	@Override
+	public void setSyncProvider(String provider) throws SQLException {
+		delegate().setSyncProvider(provider);
+	}
+
+	@Override
+	public int size() {
+		return uncheckedDelegate().size();
+	}
+
+	@Override
+	public void setMetaData(RowSetMetaData md) throws SQLException {
+		delegate().setMetaData(md);
+	}
+
+	@Override
+	public ResultSet getOriginal() throws SQLException {
+		return delegate().getOriginal();
+	}
+
+	@Override
+	public ResultSet getOriginalRow() throws SQLException {
+		return delegate().getOriginalRow();
+	}
+
+	@Override
+	public void setOriginalRow() throws SQLException {
+		delegate().setOriginalRow();
+	}
+
+	@Override
+	public String getTableName() throws SQLException {
+		return delegate().getTableName();
+	}
+
+	@Override
+	public void setTableName(String tabName) throws SQLException {
+		delegate().setTableName(tabName);
+	}
+
+	@Override
+	public int[] getKeyColumns() throws SQLException {
+		return delegate().getKeyColumns();
+	}
+
+	@Override
+	public void setKeyColumns(int[] keys) throws SQLException {
+		delegate().setKeyColumns(keys);
+	}
+
+	@Override
+	public RowSet createShared() throws SQLException {
+		return delegate().createShared();
+	}
+
+	@Override
+	public CachedRowSet createCopy() throws SQLException {
+		return delegate().createCopy();
+	}
+
+	@Override
+	public CachedRowSet createCopySchema() throws SQLException {
+		return delegate().createCopySchema();
+	}
+
+	@Override
+	public CachedRowSet createCopyNoConstraints() throws SQLException {
+		return delegate().createCopyNoConstraints();
+	}
+
+	@Override
+	public RowSetWarning getRowSetWarnings() throws SQLException {
+		return delegate().getRowSetWarnings();
+	}
+
+	@Override
+	public boolean getShowDeleted() throws SQLException {
+		return delegate().getShowDeleted();
+	}
+
+	@Override
+	public void setShowDeleted(boolean b) throws SQLException {
+		delegate().setShowDeleted(b);
+	}
+
+	@Override
+	public void commit() throws SQLException {
+		delegate().commit();
+	}
+
+	@Override
+	public void rollback() throws SQLException {
+		delegate().rollback();
+	}
+
+	@Override
+	public void rollback(Savepoint s) throws SQLException {
+		delegate().rollback(s);
+	}
+
+	@Override
+	public void rowSetPopulated(RowSetEvent event, int numRows) throws SQLException {
+		delegate().rowSetPopulated(event, numRows);
+	}
+
+	@Override
+	public void populate(ResultSet rs, int startRow) throws SQLException {
+		delegate().populate(rs, startRow);
+	}
+
+	@Override
+	public void setPageSize(int size) throws SQLException {
+		delegate().setPageSize(size);
+	}
+
+	@Override
+	public int getPageSize() {
+		return uncheckedDelegate().getPageSize();
+	}
+
+	@Override
+	public boolean nextPage() throws SQLException {
+		return delegate().nextPage();
+	}
+
+	@Override
+	public boolean previousPage() throws SQLException {
+		return delegate().previousPage();
+	}
+
+	@Override
+	public void setMatchColumn(int columnIdx) throws SQLException {
+		delegate().setMatchColumn(columnIdx);
+	}
+
+	@Override
+	public void setMatchColumn(int[] columnIdxes) throws SQLException {
+		delegate().setMatchColumn(columnIdxes);
+	}
+
+	@Override
+	public void setMatchColumn(String columnName) throws SQLException {
+		delegate().setMatchColumn(columnName);
+	}
+
+	@Override
+	public void setMatchColumn(String[] columnNames) throws SQLException {
+		delegate().setMatchColumn(columnNames);
+	}
+
+	@Override
+	public int[] getMatchColumnIndexes() throws SQLException {
+		return delegate().getMatchColumnIndexes();
+	}
+
+	@Override
+	public String[] getMatchColumnNames() throws SQLException {
+		return delegate().getMatchColumnNames();
+	}
+
+	@Override
+	public void unsetMatchColumn(int columnIdx) throws SQLException {
+		delegate().unsetMatchColumn(columnIdx);
+	}
+
+	@Override
+	public void unsetMatchColumn(int[] columnIdxes) throws SQLException {
+		delegate().unsetMatchColumn(columnIdxes);
+	}
+
+	@Override
+	public void unsetMatchColumn(String columnName) throws SQLException {
+		delegate().unsetMatchColumn(columnName);
+	}
+
+	@Override
+	public void unsetMatchColumn(String[] columnName) throws SQLException {
+		delegate().unsetMatchColumn(columnName);
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return delegate().unwrap(iface);
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return delegate().isWrapperFor(iface);
+	}
+
+}
@@ -28,6 +28,13 @@ import java.util.stream.Stream;
  */
 public final class PreparedQuery extends AbstractPreparedAccess {
 
+	/**
+	 * The fetch size which lets the MySQL driver read the rows one by one, instead of loading the whole result
+	 *
+	 * @see #fetchSize(int)
+	 */
+	public static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
 	private String[] with = null;
 	private String[] select = {"*"};
 	private String[] as = null;
@@ -36,6 +43,7 @@ public final class PreparedQuery extends AbstractPreparedAccess {
 	private String group;
 	private Integer limit = null;
 	private boolean distinct = false;
+	private Integer fetchSize = null;
 
 	@CheckReturnValue
 	public PreparedQuery(@Nonnull SQL sql) {
@@ -196,6 +204,27 @@ public final class PreparedQuery extends AbstractPreparedAccess {
 		return this;
 	}
 
+	/**
+	 * Sets how many rows the driver should fetch from the server at once, see {@link PreparedStatement#setFetchSize(int)}.
+	 * Use {@link #STREAMING_FETCH_SIZE} for MySQL to read the rows one by one,
+	 * a positive fetch size is only used by MySQL if {@code useCursorFetch} is enabled.
+	 *
+	 * @see #cursor(Function)
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public PreparedQuery fetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+		return this;
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public PreparedQuery resetFetchSize() {
+		this.fetchSize = null;
+		return this;
+	}
+
 	@Nonnull
 	@CheckReturnValue
 	public PreparedQuery with(@Nonnull String... with) {
@@ -324,7 +353,16 @@ public final class PreparedQuery extends AbstractPreparedAccess {
 		}
 
 		String finalQuery = query.toString();
-		return sql.prepare(finalQuery, ListFactory.list(Where::getValue, where.values()).toArray());
+		PreparedStatement statement = sql.prepare(finalQuery, ListFactory.list(Where::getValue, where.values()).toArray());
+		if (fetchSize != null) {
+			try {
+				statement.setFetchSize(fetchSize);
+			} catch (SQLException | RuntimeException ex) {
+				statement.close();
+				throw ex;
+			}
+		}
+		return statement;
 
 	}
 
@@ -411,12 +449,59 @@ public final class PreparedQuery extends AbstractPreparedAccess {
 		return list((Function<? super CachedRowSet, ? extends T>) mapper);
 	}
 
+	/**
+	 * Loads the whole result before it is streamed, use {@link #lazyStream(Function)} for large results
+	 */
 	@Nonnull
 	@CheckReturnValue
 	public <T> Stream<T> stream(final @Nonnull Function<? super CachedRowSet, ? extends T> mapper) throws SQLException {
 		return this.<T>list(mapper).stream();
 	}
 
+	/**
+	 * Executes the query and reads the rows while the returned cursor is iterated,
+	 * so only the rows of the current {@link #fetchSize(int) fetch} are held in memory.
+	 * The cursor has to be closed if it is not iterated until its end.
+	 * Note that MySQL cannot execute other statements on the same connection while a result is streamed,
+	 * so a {@link net.codingarea.engine.sql.pool.ConnectionPool} should be used.
+	 *
+	 * @param mapper Maps the current row, rows mapped to {@code null} are skipped
+	 *
+	 * @throws SQLException
+	 *         If a database error occurs
+	 *
+	 * @see QueryCursor
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public <T> QueryCursor<T> cursor(final @Nonnull Function<? super ResultSet, ? extends T> mapper) throws SQLException {
+		return new QueryCursor<>(prepare(), mapper);
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public <T> QueryCursor<T> cursor(final @Nonnull ThrowingFunction<? super ResultSet, ? extends T> mapper) throws SQLException {
+		return cursor((Function<? super ResultSet, ? extends T>) mapper);
+	}
+
+	/**
+	 * The returned stream has to be closed if it is not consumed completely, preferably using try-with-resources
+	 *
+	 * @see #cursor(Function)
+	 * @see QueryCursor#stream()
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public <T> Stream<T> lazyStream(final @Nonnull Function<? super ResultSet, ? extends T> mapper) throws SQLException {
+		return this.<T>cursor(mapper).stream();
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public <T> Stream<T> lazyStream(final @Nonnull ThrowingFunction<? super ResultSet, ? extends T> mapper) throws SQLException {
+		return lazyStream((Function<? super ResultSet, ? extends T>) mapper);
+	}
+
 	/**
 	 * @return The number of the rows the result has
 	 *
@@ -518,6 +603,12 @@ public final class PreparedQuery extends AbstractPreparedAccess {
 		return limit;
 	}
 
+	@Nullable
+	@CheckReturnValue
+	public Integer getFetchSize() {
+		return fetchSize;
+	}
+
 	@Nullable
 	@CheckReturnValue
 	public Order getOrder() {
@@ -558,6 +649,7 @@ public final class PreparedQuery extends AbstractPreparedAccess {
 		if (as != null) clone.as(as);
 		if (orderBy != null) clone.order(orderBy, order);
 		if (limit != null) clone.limit(limit);
+		if (fetchSize != null) clone.fetchSize(fetchSize);
 		return clone;
 	}
 
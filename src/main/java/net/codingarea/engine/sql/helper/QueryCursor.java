@@ -0,0 +1,136 @@
+package net.codingarea.engine.sql.helper;
+
+import net.codingarea.engine.exceptions.UnexpectedExecutionException;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the rows of a query one by one while they are iterated, instead of loading the whole result first.
+ * How many rows are held in memory at the same time depends on the {@link PreparedQuery#fetchSize(int) fetch size}.
+ *
+ * The statement is closed when the last row was read, when the mapper throws an exception or when the cursor is closed.
+ * A cursor which is not iterated until its end has to be closed, preferably using try-with-resources.
+ * Rows for which the mapper returns {@code null} are skipped.
+ *
+ * @param <T> The type the rows are mapped to
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see PreparedQuery#cursor(Function)
+ */
+public final class QueryCursor<T> implements Iterator<T>, AutoCloseable {
+
+	private final PreparedStatement statement;
+	private final ResultSet result;
+	private final Function<? super ResultSet, ? extends T> mapper;
+	private T next;
+	private boolean closed;
+
+	/**
+	 * Executes the statement. The statement is closed if it fails
+	 *
+	 * @throws SQLException
+	 *         If a database error occurs
+	 */
+	public QueryCursor(@Nonnull PreparedStatement statement, @Nonnull Function<? super ResultSet, ? extends T> mapper) throws SQLException {
+		this.statement = statement;
+		this.mapper = mapper;
+		try {
+			this.result = statement.executeQuery();
+		} catch (SQLException | RuntimeException ex) {
+			statement.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * @throws UnexpectedExecutionException
+	 *         If a database error occurs while reading the next row
+	 */
+	@Override
+	public boolean hasNext() {
+		try {
+			while (next == null && !closed) {
+				if (!result.next()) {
+					close();
+					break;
+				}
+				next = mapper.apply(result);
+			}
+		} catch (SQLException ex) {
+			closeAfter(ex);
+			throw new UnexpectedExecutionException(ex);
+		} catch (RuntimeException | Error ex) {
+			closeAfter(ex);
+			throw ex;
+		}
+		return next != null;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) throw new NoSuchElementException();
+		T value = next;
+		next = null;
+		return value;
+	}
+
+	/**
+	 * @return A sequential stream of the remaining rows, which closes this cursor when it is closed
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(this::closeSafely);
+	}
+
+	/**
+	 * Closes the result and the statement, which gives back the connection if it was borrowed from a pool
+	 */
+	@Override
+	public void close() throws SQLException {
+		if (closed) return;
+		closed = true;
+		next = null;
+		try {
+			result.close();
+		} finally {
+			statement.close();
+		}
+	}
+
+	private void closeAfter(@Nonnull Throwable cause) {
+		try {
+			close();
+		} catch (SQLException | RuntimeException ex) {
+			cause.addSuppressed(ex);
+		}
+	}
+
+	private void closeSafely() {
+		try {
+			close();
+		} catch (SQLException ex) {
+			throw new UnexpectedExecutionException(ex);
+		}
+	}
+
+	@CheckReturnValue
+	public boolean isClosed() {
+		return closed;
+	}
+
+}
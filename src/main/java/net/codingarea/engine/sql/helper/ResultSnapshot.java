@@ -0,0 +1,698 @@
+package net.codingarea.engine.sql.helper;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetFactory;
+import javax.sql.rowset.RowSetProvider;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * A compact copy of a {@link ResultSet}: the values are stored in one array per row
+ * and the indices of the column labels are mapped once, when the snapshot is created.
+ *
+ * The snapshot is exposed as {@link CachedRowSet}, so it can be used wherever a {@link CachedRowSet} was returned before.
+ * Moving the cursor and reading values (like {@link ResultSet#getString(String)} or {@link ResultSet#getInt(int)})
+ * is served by the snapshot itself. Calling any other method, for example to update a row,
+ * copies the snapshot into a regular {@link CachedRowSet} once, to which all further calls are passed.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see net.codingarea.engine.sql.SQL#cache(ResultSet)
+ */
+public final class ResultSnapshot {
+
+	private ResultSnapshot() { }
+
+	private static volatile RowSetFactory factory;
+
+	/**
+	 * @return The factory of {@link RowSetProvider#newFactory()}, which is only looked up once
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static RowSetFactory getRowSetFactory() throws SQLException {
+		RowSetFactory factory = ResultSnapshot.factory;
+		if (factory == null)
+			ResultSnapshot.factory = factory = RowSetProvider.newFactory();
+		return factory;
+	}
+
+	/**
+	 * Reads all remaining rows of the given result, the result is not closed
+	 *
+	 * @throws SQLException
+	 *         If a database error occurs while reading the result
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static CachedRowSet of(@Nonnull ResultSet result) throws SQLException {
+		Columns columns = new Columns(result.getMetaData());
+		int count = columns.labels.length;
+
+		List<Object[]> rows = new ArrayList<>();
+		while (result.next()) {
+			Object[] row = new Object[count];
+			for (int i = 0; i < count; i++)
+				row[i] = result.getObject(i + 1);
+			rows.add(row);
+		}
+
+		return new Snapshot(columns, rows.toArray(new Object[0][]), false);
+	}
+
+	/**
+	 * The metadata of the columns and the index of their labels
+	 */
+	private static final class Columns implements ResultSetMetaData {
+
+		private final String[] labels, names, tables, typeNames, classNames;
+		private final int[] types;
+		private final Map<String, Integer> indices;
+
+		private Columns(@Nonnull ResultSetMetaData data) throws SQLException {
+			int count = data.getColumnCount();
+			labels = new String[count];
+			names = new String[count];
+			tables = new String[count];
+			typeNames = new String[count];
+			classNames = new String[count];
+			types = new int[count];
+			indices = new HashMap<>(count * 4);
+
+			for (int i = 0; i < count; i++) {
+				labels[i] = data.getColumnLabel(i + 1);
+				names[i] = data.getColumnName(i + 1);
+				tables[i] = data.getTableName(i + 1);
+				typeNames[i] = data.getColumnTypeName(i + 1);
+				classNames[i] = data.getColumnClassName(i + 1);
+				types[i] = data.getColumnType(i + 1);
+			}
+
+			// Labels are preferred over names, the exact case over any other case
+			for (int i = 0; i < count; i++) index(labels[i], i + 1);
+			for (int i = 0; i < count; i++) index(names[i], i + 1);
+		}
+
+		private void index(@Nullable String name, int index) {
+			if (name == null) return;
+			indices.putIfAbsent(name, index);
+			indices.putIfAbsent(name.toLowerCase(Locale.ROOT), index);
+		}
+
+		private int find(@Nonnull String label) throws SQLException {
+			Integer index = indices.get(label);
+			if (index == null) index = indices.get(label.toLowerCase(Locale.ROOT));
+			if (index == null) throw new SQLException("Invalid column name: " + label);
+			return index;
+		}
+
+		private int check(int column) throws SQLException {
+			if (column < 1 || column > labels.length) throw new SQLException("Invalid column index: " + column);
+			return column - 1;
+		}
+
+		@Override
+		public int getColumnCount() {
+			return labels.length;
+		}
+
+		@Override
+		public String getColumnLabel(int column) throws SQLException {
+			return labels[check(column)];
+		}
+
+		@Override
+		public String getColumnName(int column) throws SQLException {
+			return names[check(column)];
+		}
+
+		@Override
+		public String getTableName(int column) throws SQLException {
+			return tables[check(column)];
+		}
+
+		@Override
+		public int getColumnType(int column) throws SQLException {
+			return types[check(column)];
+		}
+
+		@Override
+		public String getColumnTypeName(int column) throws SQLException {
+			return typeNames[check(column)];
+		}
+
+		@Override
+		public String getColumnClassName(int column) throws SQLException {
+			return classNames[check(column)];
+		}
+
+		@Override
+		public int isNullable(int column) throws SQLException {
+			check(column);
+			return columnNullableUnknown;
+		}
+
+		@Override
+		public String getSchemaName(int column) throws SQLException {
+			check(column);
+			return "";
+		}
+
+		@Override
+		public String getCatalogName(int column) throws SQLException {
+			check(column);
+			return "";
+		}
+
+		@Override
+		public boolean isReadOnly(int column) throws SQLException {
+			check(column);
+			return true;
+		}
+
+		// Everything else was not copied
+
+		@Override
+		public boolean isAutoIncrement(int column) throws SQLException {
+			check(column);
+			return false;
+		}
+
+		@Override
+		public boolean isCaseSensitive(int column) throws SQLException {
+			check(column);
+			return false;
+		}
+
+		@Override
+		public boolean isSearchable(int column) throws SQLException {
+			check(column);
+			return false;
+		}
+
+		@Override
+		public boolean isCurrency(int column) throws SQLException {
+			check(column);
+			return false;
+		}
+
+		@Override
+		public boolean isSigned(int column) throws SQLException {
+			check(column);
+			return false;
+		}
+
+		@Override
+		public int getColumnDisplaySize(int column) throws SQLException {
+			check(column);
+			return 0;
+		}
+
+		@Override
+		public int getPrecision(int column) throws SQLException {
+			check(column);
+			return 0;
+		}
+
+		@Override
+		public int getScale(int column) throws SQLException {
+			check(column);
+			return 0;
+		}
+
+		@Override
+		public boolean isWritable(int column) throws SQLException {
+			check(column);
+			return false;
+		}
+
+		@Override
+		public boolean isDefinitelyWritable(int column) throws SQLException {
+			check(column);
+			return false;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> iface) throws SQLException {
+			if (iface.isInstance(this)) return iface.cast(this);
+			throw new SQLException("Not a wrapper for " + iface.getName());
+		}
+
+		@Override
+		public boolean isWrapperFor(Class<?> iface) {
+			return iface.isInstance(this);
+		}
+
+		@Override
+		public String toString() {
+			return "ResultSnapshot.Columns{labels=" + Arrays.toString(labels) + '}';
+		}
+
+	}
+
+	/**
+	 * Moving the cursor and the getters of the common types are served by the snapshot itself,
+	 * all other calls are passed to the {@link CachedRowSet} created by {@link #upgrade()}
+	 */
+	private static final class Snapshot extends DelegatingCachedRowSet {
+
+		private final Columns columns;
+		private final Object[][] rows;
+		private final boolean source;
+		private int row;
+		private boolean wasNull, closed;
+		private CachedRowSet upgraded;
+
+		/**
+		 * @param source Whether this snapshot is only read to populate a {@link CachedRowSet}, so it cannot be copied itself
+		 */
+		private Snapshot(@Nonnull Columns columns, @Nonnull Object[][] rows, boolean source) {
+			this.columns = columns;
+			this.rows = rows;
+			this.source = source;
+		}
+
+		@Nonnull
+		@Override
+		protected CachedRowSet delegate() throws SQLException {
+			CachedRowSet upgraded = this.upgraded;
+			return upgraded != null ? upgraded : upgrade();
+		}
+
+		/**
+		 * Copies this snapshot into a regular {@link CachedRowSet} at the same position, which is used from now on
+		 */
+		@Nonnull
+		private CachedRowSet upgrade() throws SQLException {
+			if (source) throw new SQLFeatureNotSupportedException("Not supported while populating a CachedRowSet");
+
+			CachedRowSet upgraded = getRowSetFactory().createCachedRowSet();
+			upgraded.populate(new Snapshot(columns, rows, true));
+			if (row == 0) {
+				upgraded.beforeFirst();
+			} else if (row > rows.length) {
+				upgraded.afterLast();
+			} else {
+				upgraded.absolute(row);
+			}
+			if (closed) upgraded.close();
+			return this.upgraded = upgraded;
+		}
+
+		private boolean move(int row) {
+			this.row = Math.max(0, Math.min(row, rows.length + 1));
+			return this.row >= 1 && this.row <= rows.length;
+		}
+
+		@Nullable
+		private Object value(int column) throws SQLException {
+			if (closed) throw new SQLException("Result was already closed");
+			if (row < 1 || row > rows.length) throw new SQLException("Invalid cursor position");
+			if (column < 1 || column > columns.labels.length) throw new SQLException("Invalid column index: " + column);
+
+			Object value = rows[row - 1][column - 1];
+			wasNull = value == null;
+			return value;
+		}
+
+		@Nullable
+		private Object value(@Nonnull String column) throws SQLException {
+			if (closed) throw new SQLException("Result was already closed");
+			return value(columns.find(column));
+		}
+
+		@Override
+		public boolean next() throws SQLException {
+			return upgraded != null ? upgraded.next() : move(row + 1);
+		}
+
+		@Override
+		public boolean previous() throws SQLException {
+			return upgraded != null ? upgraded.previous() : move(row - 1);
+		}
+
+		@Override
+		public boolean first() throws SQLException {
+			return upgraded != null ? upgraded.first() : move(1);
+		}
+
+		@Override
+		public boolean last() throws SQLException {
+			return upgraded != null ? upgraded.last() : move(rows.length);
+		}
+
+		@Override
+		public void beforeFirst() throws SQLException {
+			if (upgraded != null) upgraded.beforeFirst();
+			else move(0);
+		}
+
+		@Override
+		public void afterLast() throws SQLException {
+			if (upgraded != null) upgraded.afterLast();
+			else move(rows.length + 1);
+		}
+
+		@Override
+		public boolean absolute(int row) throws SQLException {
+			return upgraded != null ? upgraded.absolute(row) : move(row >= 0 ? row : rows.length + 1 + row);
+		}
+
+		@Override
+		public boolean relative(int rows) throws SQLException {
+			return upgraded != null ? upgraded.relative(rows) : move(row + rows);
+		}
+
+		@Override
+		public boolean isBeforeFirst() throws SQLException {
+			return upgraded != null ? upgraded.isBeforeFirst() : rows.length > 0 && row == 0;
+		}
+
+		@Override
+		public boolean isAfterLast() throws SQLException {
+			return upgraded != null ? upgraded.isAfterLast() : rows.length > 0 && row > rows.length;
+		}
+
+		@Override
+		public boolean isFirst() throws SQLException {
+			return upgraded != null ? upgraded.isFirst() : rows.length > 0 && row == 1;
+		}
+
+		@Override
+		public boolean isLast() throws SQLException {
+			return upgraded != null ? upgraded.isLast() : rows.length > 0 && row == rows.length;
+		}
+
+		@Override
+		public int getRow() throws SQLException {
+			return upgraded != null ? upgraded.getRow() : row >= 1 && row <= rows.length ? row : 0;
+		}
+
+		@Override
+		public int size() {
+			return upgraded != null ? upgraded.size() : rows.length;
+		}
+
+		@Override
+		public void close() throws SQLException {
+			if (upgraded != null) upgraded.close();
+			closed = true;
+		}
+
+		@Override
+		public boolean isClosed() throws SQLException {
+			return upgraded != null ? upgraded.isClosed() : closed;
+		}
+
+		@Override
+		public boolean wasNull() throws SQLException {
+			return upgraded != null ? upgraded.wasNull() : wasNull;
+		}
+
+		@Override
+		public int findColumn(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.findColumn(columnLabel) : columns.find(columnLabel);
+		}
+
+		@Override
+		public ResultSetMetaData getMetaData() throws SQLException {
+			return upgraded != null ? upgraded.getMetaData() : columns;
+		}
+
+		@Override
+		public int getType() throws SQLException {
+			return upgraded != null ? upgraded.getType() : ResultSet.TYPE_SCROLL_INSENSITIVE;
+		}
+
+		@Override
+		public int getConcurrency() throws SQLException {
+			return upgraded != null ? upgraded.getConcurrency() : ResultSet.CONCUR_UPDATABLE;
+		}
+
+		@Override
+		public int getFetchDirection() throws SQLException {
+			return upgraded != null ? upgraded.getFetchDirection() : ResultSet.FETCH_FORWARD;
+		}
+
+		@Override
+		public Statement getStatement() throws SQLException {
+			return upgraded != null ? upgraded.getStatement() : null;
+		}
+
+		@Override
+		public SQLWarning getWarnings() throws SQLException {
+			return upgraded != null ? upgraded.getWarnings() : null;
+		}
+
+		@Override
+		public void clearWarnings() throws SQLException {
+			if (upgraded != null) upgraded.clearWarnings();
+		}
+
+		@Override
+		public Object getObject(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getObject(columnIndex) : value(columnIndex);
+		}
+
+		@Override
+		public Object getObject(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getObject(columnLabel) : value(columnLabel);
+		}
+
+		@Override
+		public String getString(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getString(columnIndex) : asString(value(columnIndex));
+		}
+
+		@Override
+		public String getString(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getString(columnLabel) : asString(value(columnLabel));
+		}
+
+		@Override
+		public boolean getBoolean(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getBoolean(columnIndex) : toBoolean(value(columnIndex));
+		}
+
+		@Override
+		public boolean getBoolean(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getBoolean(columnLabel) : toBoolean(value(columnLabel));
+		}
+
+		@Override
+		public byte getByte(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getByte(columnIndex) : (byte) toLong(value(columnIndex));
+		}
+
+		@Override
+		public byte getByte(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getByte(columnLabel) : (byte) toLong(value(columnLabel));
+		}
+
+		@Override
+		public short getShort(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getShort(columnIndex) : (short) toLong(value(columnIndex));
+		}
+
+		@Override
+		public short getShort(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getShort(columnLabel) : (short) toLong(value(columnLabel));
+		}
+
+		@Override
+		public int getInt(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getInt(columnIndex) : (int) toLong(value(columnIndex));
+		}
+
+		@Override
+		public int getInt(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getInt(columnLabel) : (int) toLong(value(columnLabel));
+		}
+
+		@Override
+		public long getLong(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getLong(columnIndex) : toLong(value(columnIndex));
+		}
+
+		@Override
+		public long getLong(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getLong(columnLabel) : toLong(value(columnLabel));
+		}
+
+		@Override
+		public float getFloat(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getFloat(columnIndex) : (float) toDouble(value(columnIndex));
+		}
+
+		@Override
+		public float getFloat(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getFloat(columnLabel) : (float) toDouble(value(columnLabel));
+		}
+
+		@Override
+		public double getDouble(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getDouble(columnIndex) : toDouble(value(columnIndex));
+		}
+
+		@Override
+		public double getDouble(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getDouble(columnLabel) : toDouble(value(columnLabel));
+		}
+
+		@Override
+		public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getBigDecimal(columnIndex) : toBigDecimal(value(columnIndex));
+		}
+
+		@Override
+		public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getBigDecimal(columnLabel) : toBigDecimal(value(columnLabel));
+		}
+
+		@Override
+		public byte[] getBytes(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getBytes(columnIndex) : toBytes(value(columnIndex));
+		}
+
+		@Override
+		public byte[] getBytes(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getBytes(columnLabel) : toBytes(value(columnLabel));
+		}
+
+		@Override
+		public java.sql.Date getDate(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getDate(columnIndex) : toDate(value(columnIndex));
+		}
+
+		@Override
+		public java.sql.Date getDate(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getDate(columnLabel) : toDate(value(columnLabel));
+		}
+
+		@Override
+		public Time getTime(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getTime(columnIndex) : toTime(value(columnIndex));
+		}
+
+		@Override
+		public Time getTime(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getTime(columnLabel) : toTime(value(columnLabel));
+		}
+
+		@Override
+		public Timestamp getTimestamp(int columnIndex) throws SQLException {
+			return upgraded != null ? upgraded.getTimestamp(columnIndex) : toTimestamp(value(columnIndex));
+		}
+
+		@Override
+		public Timestamp getTimestamp(String columnLabel) throws SQLException {
+			return upgraded != null ? upgraded.getTimestamp(columnLabel) : toTimestamp(value(columnLabel));
+		}
+
+		@Override
+		public String toString() {
+			return "ResultSnapshot{columns=" + Arrays.toString(columns.labels) + ", rows=" + rows.length + '}';
+		}
+
+	}
+
+	@Nonnull
+	private static <T> T cast(@Nonnull Object value, @Nonnull Class<T> type) throws SQLException {
+		if (!type.isInstance(value))
+			throw new SQLException("Data type mismatch: " + value.getClass().getName() + " cannot be read as " + type.getSimpleName());
+		return type.cast(value);
+	}
+
+	@Nullable
+	private static String asString(@Nullable Object value) {
+		return value == null ? null : value.toString();
+	}
+
+	private static boolean toBoolean(@Nullable Object value) throws SQLException {
+		if (value == null) return false;
+		if (value instanceof Boolean) return (Boolean) value;
+		if (value instanceof Number) return ((Number) value).doubleValue() != 0;
+		String string = value.toString().trim();
+		if (string.equalsIgnoreCase("true")) return true;
+		if (string.equalsIgnoreCase("false")) return false;
+		return toDouble(value) != 0;
+	}
+
+	private static long toLong(@Nullable Object value) throws SQLException {
+		if (value == null) return 0;
+		if (value instanceof Number) return ((Number) value).longValue();
+		if (value instanceof Boolean) return (Boolean) value ? 1 : 0;
+		String string = value.toString().trim();
+		try {
+			return Long.parseLong(string);
+		} catch (NumberFormatException ex) {
+			return (long) toDouble(string);
+		}
+	}
+
+	private static double toDouble(@Nullable Object value) throws SQLException {
+		if (value == null) return 0;
+		if (value instanceof Number) return ((Number) value).doubleValue();
+		if (value instanceof Boolean) return (Boolean) value ? 1 : 0;
+		try {
+			return Double.parseDouble(value.toString().trim());
+		} catch (NumberFormatException ex) {
+			throw new SQLException("Data type mismatch: '" + value + "' is not a number", ex);
+		}
+	}
+
+	@Nullable
+	private static BigDecimal toBigDecimal(@Nullable Object value) throws SQLException {
+		if (value == null) return null;
+		if (value instanceof BigDecimal) return (BigDecimal) value;
+		try {
+			return new BigDecimal(value.toString().trim());
+		} catch (NumberFormatException ex) {
+			throw new SQLException("Data type mismatch: '" + value + "' is not a number", ex);
+		}
+	}
+
+	@Nullable
+	private static byte[] toBytes(@Nullable Object value) throws SQLException {
+		return value == null ? null : cast(value, byte[].class);
+	}
+
+	@Nullable
+	private static java.sql.Date toDate(@Nullable Object value) throws SQLException {
+		if (value == null) return null;
+		if (value instanceof java.sql.Date) return (java.sql.Date) value;
+		if (value instanceof java.util.Date) return new java.sql.Date(((java.util.Date) value).getTime());
+		if (value instanceof LocalDate) return java.sql.Date.valueOf((LocalDate) value);
+		if (value instanceof LocalDateTime) return java.sql.Date.valueOf(((LocalDateTime) value).toLocalDate());
+		return cast(value, java.sql.Date.class);
+	}
+
+	@Nullable
+	private static Time toTime(@Nullable Object value) throws SQLException {
+		if (value == null) return null;
+		if (value instanceof Time) return (Time) value;
+		if (value instanceof java.util.Date) return new Time(((java.util.Date) value).getTime());
+		if (value instanceof LocalTime) return Time.valueOf((LocalTime) value);
+		if (value instanceof LocalDateTime) return Time.valueOf(((LocalDateTime) value).toLocalTime());
+		return cast(value, Time.class);
+	}
+
+	@Nullable
+	private static Timestamp toTimestamp(@Nullable Object value) throws SQLException {
+		if (value == null) return null;
+		if (value instanceof Timestamp) return (Timestamp) value;
+		if (value instanceof java.util.Date) return new Timestamp(((java.util.Date) value).getTime());
+		if (value instanceof LocalDateTime) return Timestamp.valueOf((LocalDateTime) value);
+		if (value instanceof LocalDate) return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+		return cast(value, Timestamp.class);
+	}
+
+}
@@ -0,0 +1,611 @@
+package net.codingarea.engine.sql.pool;
+
+import net.codingarea.engine.sql.source.DataSource;
+import net.codingarea.engine.utils.Action;
+import net.codingarea.engine.utils.DaemonThreadFactory;
+import net.codingarea.engine.utils.LatencyHistogram;
+import net.codingarea.engine.utils.log.DefaultLogger;
+import net.codingarea.engine.utils.log.LogLevel;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * A pool of connections created by a {@link DataSource}.
+ *
+ * Connections are borrowed using {@link #borrow()} and given back by closing them.
+ * At most {@link #getMaxSize()} connections are borrowed at the same time, further threads wait up to
+ * the {@link #getBorrowTimeout() borrow timeout}. A connection which was idle for a while is validated before it is borrowed.
+ * A background task closes connections which were idle longer than the {@link #getIdleTimeout() idle timeout},
+ * keeps at least {@link #getMinSize()} connections opened and reports connections which were borrowed
+ * longer than the {@link #getLeakDetectionThreshold() leak detection threshold}.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see net.codingarea.engine.sql.SQL#usePool(ConnectionPool)
+ */
+public class ConnectionPool implements AutoCloseable {
+
+	public static final int DEFAULT_MIN_SIZE = 1;
+	public static final int DEFAULT_MAX_SIZE = 10;
+
+	/** Connections given back more recently than this are not validated again */
+	private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+	private static final long HOUSEKEEPING_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+	static final class Entry {
+
+		final Connection connection;
+		volatile StatementCache statements;
+		private volatile long lastUsed = System.nanoTime();
+		private volatile long borrowedAt;
+		private volatile Throwable borrowTrace;
+		private volatile boolean leakReported;
+		private String catalog;
+
+		private Entry(@Nonnull Connection connection, int statementCacheSize) {
+			this.connection = connection;
+			this.statements = statementCacheSize > 0 ? new StatementCache(connection, statementCacheSize) : null;
+		}
+
+		/**
+		 * Replaces the statement cache if the size of the pool changed, statements of the old cache which are in use are closed when they are closed
+		 */
+		private void resizeStatementCache(int size) {
+			StatementCache statements = this.statements;
+			if (statements == null ? size == 0 : statements.getMaxSize() == size) return;
+			this.statements = size > 0 ? new StatementCache(connection, size) : null;
+			if (statements != null) statements.close();
+		}
+
+	}
+
+	private final DataSource dataSource;
+	private final int maxSize;
+	private final Semaphore permits;
+	private final LinkedBlockingDeque<Entry> idle = new LinkedBlockingDeque<>();
+	private final Set<Entry> borrowed = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger size = new AtomicInteger();
+	private final ScheduledExecutorService housekeeper;
+
+	private final LatencyHistogram waitTime = new LatencyHistogram();
+	private final LongAdder borrows = new LongAdder(), timeouts = new LongAdder(), created = new LongAdder(),
+	                        evicted = new LongAdder(), invalidated = new LongAdder(), leaks = new LongAdder();
+
+	private volatile int minSize;
+	private volatile long idleTimeout = TimeUnit.MINUTES.toMillis(10);
+	private volatile long borrowTimeout = TimeUnit.SECONDS.toMillis(30);
+	private volatile int validationTimeout = 5;
+	private volatile long leakDetectionThreshold;
+	private volatile int statementCacheSize;
+	private volatile String catalog;
+	private volatile Logger logger = new DefaultLogger(this);
+	private volatile boolean closed;
+
+	public ConnectionPool(@Nonnull DataSource dataSource) {
+		this(dataSource, DEFAULT_MIN_SIZE, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param minSize The amount of connections which are kept opened, even if they are idle
+	 * @param maxSize The maximum amount of connections which can be borrowed at the same time
+	 */
+	public ConnectionPool(@Nonnull DataSource dataSource, int minSize, int maxSize) {
+		if (maxSize < 1) throw new IllegalArgumentException("Max size must be at least 1");
+		if (minSize < 0 || minSize > maxSize) throw new IllegalArgumentException("Min size must be between 0 and " + maxSize);
+		this.dataSource = dataSource;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.permits = new Semaphore(maxSize, true);
+		this.housekeeper = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("connection-pool"));
+		this.housekeeper.scheduleWithFixedDelay(this::housekeeping, HOUSEKEEPING_INTERVAL_MILLIS, HOUSEKEEPING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Opens connections until {@link #getMinSize()} connections are opened
+	 *
+	 * @throws SQLException
+	 *         If a connection could not be created
+	 */
+	public void fill() throws SQLException {
+		while (!closed && size.get() < minSize) {
+			if (size.incrementAndGet() > minSize) {
+				size.decrementAndGet();
+				break;
+			}
+			Connection connection;
+			try {
+				connection = dataSource.createConnection();
+			} catch (SQLException | RuntimeException ex) {
+				size.decrementAndGet();
+				throw ex;
+			}
+			created.increment();
+			idle.offerLast(new Entry(connection, statementCacheSize));
+		}
+	}
+
+	/**
+	 * Borrows a connection, waiting up to the {@link #getBorrowTimeout() borrow timeout} if all connections are in use.
+	 * Closing the returned connection gives it back to the pool, the connection itself stays opened.
+	 *
+	 * @throws SQLTransientConnectionException
+	 *         If no connection became available in time
+	 * @throws SQLException
+	 *         If the pool was closed or a new connection could not be created
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public Connection borrow() throws SQLException {
+		return borrow(false);
+	}
+
+	/**
+	 * @param statementOwned Whether closing the first statement created should also give back the connection
+	 */
+	@Nonnull
+	private Connection borrow(boolean statementOwned) throws SQLException {
+		if (closed) throw new SQLException("Connection pool was closed");
+
+		long start = System.nanoTime();
+		try {
+			if (!permits.tryAcquire(borrowTimeout, TimeUnit.MILLISECONDS)) {
+				timeouts.increment();
+				throw new SQLTransientConnectionException("Timed out after " + borrowTimeout + "ms waiting for a connection, " + borrowed.size() + " of " + maxSize + " are in use");
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a connection", ex);
+		}
+
+		try {
+			Entry entry;
+			while ((entry = idle.pollFirst()) != null && !isUsable(entry)) {
+				invalidated.increment();
+				discard(entry);
+			}
+			if (entry == null) entry = create();
+			applyCatalog(entry);
+			entry.resizeStatementCache(statementCacheSize);
+
+			long now = System.nanoTime();
+			waitTime.record(now - start);
+			borrows.increment();
+			entry.borrowedAt = now;
+			entry.leakReported = false;
+			entry.borrowTrace = leakDetectionThreshold > 0 ? new Throwable("Connection borrowed here") : null;
+			borrowed.add(entry);
+			return new PooledConnection(this, entry, statementOwned);
+		} catch (SQLException | RuntimeException ex) {
+			permits.release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Prepares a statement on a borrowed connection.
+	 * The connection is given back to the pool when the statement is closed.
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public PreparedStatement prepare(@Nonnull String sql) throws SQLException {
+		Connection connection = borrow(true);
+		try {
+			return connection.prepareStatement(sql);
+		} catch (SQLException | RuntimeException ex) {
+			connection.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Creates a statement on a borrowed connection.
+	 * The connection is given back to the pool when the statement is closed.
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public Statement createStatement() throws SQLException {
+		Connection connection = borrow(true);
+		try {
+			return connection.createStatement();
+		} catch (SQLException | RuntimeException ex) {
+			connection.close();
+			throw ex;
+		}
+	}
+
+	@Nonnull
+	private Entry create() throws SQLException {
+		Connection connection = dataSource.createConnection();
+		size.incrementAndGet();
+		created.increment();
+		return new Entry(connection, statementCacheSize);
+	}
+
+	/**
+	 * Switches the connection to the {@link #getCatalog() catalog} of this pool, if it uses another one
+	 */
+	private void applyCatalog(@Nonnull Entry entry) throws SQLException {
+		String catalog = this.catalog;
+		if (catalog == null || catalog.equals(entry.catalog)) return;
+		try {
+			entry.connection.setCatalog(catalog);
+			entry.catalog = catalog;
+			StatementCache statements = entry.statements;
+			if (statements != null) statements.clear();
+		} catch (SQLException | RuntimeException ex) {
+			discard(entry);
+			throw ex;
+		}
+	}
+
+	private boolean isUsable(@Nonnull Entry entry) {
+		if (System.nanoTime() - entry.lastUsed < VALIDATION_BYPASS_NANOS) return true;
+		try {
+			return entry.connection.isValid(validationTimeout);
+		} catch (SQLException ex) {
+			return false;
+		}
+	}
+
+	void release(@Nonnull Entry entry, boolean broken) {
+		if (!borrowed.remove(entry)) return;
+		try {
+			if (!broken && !closed && !entry.connection.getAutoCommit()) {
+				// Do not leak an unfinished transaction to the next borrower
+				entry.connection.rollback();
+				entry.connection.setAutoCommit(true);
+			}
+		} catch (SQLException ex) {
+			broken = true;
+		}
+
+		if (broken || closed || size.get() > maxSize) {
+			discard(entry);
+		} else {
+			entry.lastUsed = System.nanoTime();
+			idle.offerFirst(entry);
+		}
+		permits.release();
+	}
+
+	private void discard(@Nonnull Entry entry) {
+		size.decrementAndGet();
+		StatementCache statements = entry.statements;
+		if (statements != null) statements.close();
+		try {
+			entry.connection.close();
+		} catch (SQLException | RuntimeException ignored) { }
+	}
+
+	private void housekeeping() {
+		try {
+			long now = System.nanoTime();
+
+			// The least recently used connections are at the end of the deque
+			long idleTimeout = TimeUnit.MILLISECONDS.toNanos(this.idleTimeout);
+			Iterator<Entry> iterator = idle.descendingIterator();
+			while (iterator.hasNext() && size.get() > minSize) {
+				Entry entry = iterator.next();
+				if (now - entry.lastUsed > idleTimeout && idle.removeLastOccurrence(entry)) {
+					evicted.increment();
+					discard(entry);
+				}
+			}
+
+			long threshold = TimeUnit.MILLISECONDS.toNanos(leakDetectionThreshold);
+			if (threshold > 0) {
+				for (Entry entry : borrowed) {
+					if (entry.leakReported || now - entry.borrowedAt < threshold) continue;
+					entry.leakReported = true;
+					leaks.increment();
+					Throwable trace = entry.borrowTrace;
+					Action.ifPresent(logger, l -> l.log(LogLevel.WARNING, "Connection was borrowed " + TimeUnit.NANOSECONDS.toMillis(now - entry.borrowedAt) + "ms ago and not given back, it may have leaked", trace));
+				}
+			}
+
+			fill();
+		} catch (Throwable ex) {
+			Action.ifPresent(logger, l -> l.log(LogLevel.WARNING, "Exception during connection pool housekeeping", ex));
+		}
+	}
+
+	/**
+	 * Closes all idle connections and stops the background task.
+	 * Borrowed connections are closed when they are given back.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		housekeeper.shutdownNow();
+		Entry entry;
+		while ((entry = idle.pollFirst()) != null)
+			discard(entry);
+	}
+
+	@CheckReturnValue
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * A closed pool cannot be opened again, this creates a new one instead.
+	 *
+	 * @return A new pool using the same {@link DataSource} and settings, without any connection opened yet
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public ConnectionPool copy() {
+		ConnectionPool pool = new ConnectionPool(dataSource, minSize, maxSize);
+		pool.idleTimeout = idleTimeout;
+		pool.borrowTimeout = borrowTimeout;
+		pool.validationTimeout = validationTimeout;
+		pool.leakDetectionThreshold = leakDetectionThreshold;
+		pool.statementCacheSize = statementCacheSize;
+		pool.catalog = catalog;
+		pool.logger = logger;
+		return pool;
+	}
+
+	@CheckReturnValue
+	public int getMinSize() {
+		return minSize;
+	}
+
+	@Nonnull
+	public ConnectionPool setMinSize(int minSize) {
+		if (minSize < 0 || minSize > maxSize) throw new IllegalArgumentException("Min size must be between 0 and " + maxSize);
+		this.minSize = minSize;
+		return this;
+	}
+
+	@CheckReturnValue
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return The time in milliseconds after which an idle connection is closed, as long as more than {@link #getMinSize()} connections are opened
+	 */
+	@CheckReturnValue
+	public long getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	@Nonnull
+	public ConnectionPool setIdleTimeout(long idleTimeout, @Nonnull TimeUnit unit) {
+		this.idleTimeout = unit.toMillis(idleTimeout);
+		return this;
+	}
+
+	/**
+	 * @return The time in milliseconds a thread waits for a connection before {@link #borrow()} fails
+	 */
+	@CheckReturnValue
+	public long getBorrowTimeout() {
+		return borrowTimeout;
+	}
+
+	@Nonnull
+	public ConnectionPool setBorrowTimeout(long borrowTimeout, @Nonnull TimeUnit unit) {
+		this.borrowTimeout = unit.toMillis(borrowTimeout);
+		return this;
+	}
+
+	/**
+	 * @return The time in seconds passed to {@link Connection#isValid(int)} when an idle connection is validated
+	 */
+	@CheckReturnValue
+	public int getValidationTimeout() {
+		return validationTimeout;
+	}
+
+	@Nonnull
+	public ConnectionPool setValidationTimeout(int seconds) {
+		this.validationTimeout = seconds;
+		return this;
+	}
+
+	/**
+	 * @return The time in milliseconds after which a borrowed connection is reported as possible leak, {@code 0} if disabled
+	 */
+	@CheckReturnValue
+	public long getLeakDetectionThreshold() {
+		return leakDetectionThreshold;
+	}
+
+	/**
+	 * When enabled, the stack trace of every {@link #borrow()} call is recorded, so the leak can be located
+	 */
+	@Nonnull
+	public ConnectionPool setLeakDetectionThreshold(long threshold, @Nonnull TimeUnit unit) {
+		this.leakDetectionThreshold = unit.toMillis(threshold);
+		return this;
+	}
+
+	/**
+	 * @return The catalog (database) every borrowed connection uses, {@code null} if the one of the {@link DataSource} is used
+	 */
+	@Nullable
+	@CheckReturnValue
+	public String getCatalog() {
+		return catalog;
+	}
+
+	/**
+	 * Lets every connection use the given catalog (database). Idle connections are switched when they are borrowed next,
+	 * connections which are currently borrowed keep their catalog until they are given back.
+	 *
+	 * @see Connection#setCatalog(String)
+	 */
+	@Nonnull
+	public ConnectionPool setCatalog(@Nullable String catalog) {
+		this.catalog = catalog;
+		return this;
+	}
+
+	/**
+	 * @return The amount of prepared statements cached for each connection, {@code 0} if disabled
+	 */
+	@CheckReturnValue
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	/**
+	 * Enables a {@link StatementCache} of the given size for each connection, which is used by {@link Connection#prepareStatement(String)}.
+	 * Connections which are already opened get a cache of the new size the next time they are borrowed.
+	 *
+	 * @param size The amount of statements to cache for each connection, {@code 0} to disable
+	 */
+	@Nonnull
+	public ConnectionPool setStatementCacheSize(int size) {
+		if (size < 0) throw new IllegalArgumentException("Statement cache size cannot be negative");
+		this.statementCacheSize = size;
+		return this;
+	}
+
+	@Nullable
+	public Logger getLogger() {
+		return logger;
+	}
+
+	@Nonnull
+	public ConnectionPool setLogger(@Nullable Logger logger) {
+		this.logger = logger;
+		return this;
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public DataSource getDataSource() {
+		return dataSource;
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public Metrics getMetrics() {
+		return new Metrics(this);
+	}
+
+	/**
+	 * A snapshot of the state and the counters of a {@link ConnectionPool}
+	 */
+	public static final class Metrics {
+
+		private final int active, idle, size, waiting;
+		private final long borrows, timeouts, created, evicted, invalidated, leaks;
+		private final LatencyHistogram.Snapshot waitTime;
+
+		private Metrics(@Nonnull ConnectionPool pool) {
+			this.active = pool.borrowed.size();
+			this.idle = pool.idle.size();
+			this.size = pool.size.get();
+			this.waiting = pool.permits.getQueueLength();
+			this.borrows = pool.borrows.sum();
+			this.timeouts = pool.timeouts.sum();
+			this.created = pool.created.sum();
+			this.evicted = pool.evicted.sum();
+			this.invalidated = pool.invalidated.sum();
+			this.leaks = pool.leaks.sum();
+			this.waitTime = pool.waitTime.snapshot();
+		}
+
+		/**
+		 * @return The amount of connections which are currently borrowed
+		 */
+		@CheckReturnValue
+		public int getActive() {
+			return active;
+		}
+
+		@CheckReturnValue
+		public int getIdle() {
+			return idle;
+		}
+
+		/**
+		 * @return The amount of opened connections, borrowed or idle
+		 */
+		@CheckReturnValue
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * @return An estimate of the amount of threads waiting for a connection
+		 */
+		@CheckReturnValue
+		public int getWaiting() {
+			return waiting;
+		}
+
+		@CheckReturnValue
+		public long getBorrows() {
+			return borrows;
+		}
+
+		@CheckReturnValue
+		public long getTimeouts() {
+			return timeouts;
+		}
+
+		@CheckReturnValue
+		public long getCreated() {
+			return created;
+		}
+
+		/**
+		 * @return The amount of connections closed because they were idle for too long
+		 */
+		@CheckReturnValue
+		public long getEvicted() {
+			return evicted;
+		}
+
+		/**
+		 * @return The amount of connections closed because their validation failed
+		 */
+		@CheckReturnValue
+		public long getInvalidated() {
+			return invalidated;
+		}
+
+		@CheckReturnValue
+		public long getLeaks() {
+			return leaks;
+		}
+
+		/**
+		 * @return The time threads waited in {@link ConnectionPool#borrow()}, in nanoseconds
+		 */
+		@Nonnull
+		@CheckReturnValue
+		public LatencyHistogram.Snapshot getWaitTime() {
+			return waitTime;
+		}
+
+		@Override
+		public String toString() {
+			return "ConnectionPool.Metrics{" +
+					"active=" + active +
+					", idle=" + idle +
+					", size=" + size +
+					", waiting=" + waiting +
+					", borrows=" + borrows +
+					", timeouts=" + timeouts +
+					", leaks=" + leaks +
+					'}';
+		}
+
+	}
+
+}
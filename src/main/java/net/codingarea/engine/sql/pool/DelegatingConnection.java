@@ -0,0 +1,528 @@
+package net.codingarea.engine.sql.pool;
+
+import javax.annotation.Nonnull;
+import java.sql.*;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link Connection} passing every call to the connection returned by {@link #delegate()}.
+ * Subclasses only override the methods they change, everything else is a plain method call.
+ * Every {@link SQLException} thrown by the delegate is passed to {@link #failed(SQLException)} before it is rethrown.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ */
+public abstract class DelegatingConnection implements Connection {
+
+	/**
+	 * @return The connection to which the calls are passed
+	 *
+	 * @throws SQLException
+	 *         If the connection cannot be used anymore
+	 */
+	@Nonnull
+	protected abstract Connection delegate() throws SQLException;
+
+	/**
+	 * Called with every exception thrown by a call of this connection, for example to find out if the connection broke
+	 *
+	 * @return The exception which is thrown
+	 */
+	@Nonnull
+	protected <T extends SQLException> T failed(@Nonnull T exception) {
+		return exception;
+	}
+
+	@Override
+	public Statement createStatement() throws SQLException {
+		try {
+			return delegate().createStatement();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		try {
+			return delegate().prepareStatement(sql);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql) throws SQLException {
+		try {
+			return delegate().prepareCall(sql);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public String nativeSQL(String sql) throws SQLException {
+		try {
+			return delegate().nativeSQL(sql);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setAutoCommit(boolean autoCommit) throws SQLException {
+		try {
+			delegate().setAutoCommit(autoCommit);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public boolean getAutoCommit() throws SQLException {
+		try {
+			return delegate().getAutoCommit();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void commit() throws SQLException {
+		try {
+			delegate().commit();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void rollback() throws SQLException {
+		try {
+			delegate().rollback();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void close() throws SQLException {
+		try {
+			delegate().close();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		try {
+			return delegate().isClosed();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public DatabaseMetaData getMetaData() throws SQLException {
+		try {
+			return delegate().getMetaData();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly) throws SQLException {
+		try {
+			delegate().setReadOnly(readOnly);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public boolean isReadOnly() throws SQLException {
+		try {
+			return delegate().isReadOnly();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setCatalog(String catalog) throws SQLException {
+		try {
+			delegate().setCatalog(catalog);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public String getCatalog() throws SQLException {
+		try {
+			return delegate().getCatalog();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setTransactionIsolation(int level) throws SQLException {
+		try {
+			delegate().setTransactionIsolation(level);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public int getTransactionIsolation() throws SQLException {
+		try {
+			return delegate().getTransactionIsolation();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		try {
+			return delegate().getWarnings();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		try {
+			delegate().clearWarnings();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		try {
+			return delegate().createStatement(resultSetType, resultSetConcurrency);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		try {
+			return delegate().prepareStatement(sql, resultSetType, resultSetConcurrency);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		try {
+			return delegate().prepareCall(sql, resultSetType, resultSetConcurrency);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Map<String, Class<?>> getTypeMap() throws SQLException {
+		try {
+			return delegate().getTypeMap();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		try {
+			delegate().setTypeMap(map);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setHoldability(int holdability) throws SQLException {
+		try {
+			delegate().setHoldability(holdability);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public int getHoldability() throws SQLException {
+		try {
+			return delegate().getHoldability();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Savepoint setSavepoint() throws SQLException {
+		try {
+			return delegate().setSavepoint();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Savepoint setSavepoint(String name) throws SQLException {
+		try {
+			return delegate().setSavepoint(name);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void rollback(Savepoint savepoint) throws SQLException {
+		try {
+			delegate().rollback(savepoint);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+		try {
+			delegate().releaseSavepoint(savepoint);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		try {
+			return delegate().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		try {
+			return delegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		try {
+			return delegate().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		try {
+			return delegate().prepareStatement(sql, autoGeneratedKeys);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		try {
+			return delegate().prepareStatement(sql, columnIndexes);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		try {
+			return delegate().prepareStatement(sql, columnNames);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Clob createClob() throws SQLException {
+		try {
+			return delegate().createClob();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Blob createBlob() throws SQLException {
+		try {
+			return delegate().createBlob();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public NClob createNClob() throws SQLException {
+		try {
+			return delegate().createNClob();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public SQLXML createSQLXML() throws SQLException {
+		try {
+			return delegate().createSQLXML();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public boolean isValid(int timeout) throws SQLException {
+		try {
+			return delegate().isValid(timeout);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setClientInfo(String name, String value) throws SQLClientInfoException {
+		try {
+			delegate().setClientInfo(name, value);
+		} catch (SQLClientInfoException ex) {
+			throw failed(ex);
+		} catch (SQLException ex) {
+			throw new SQLClientInfoException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), null, failed(ex));
+		}
+	}
+
+	@Override
+	public void setClientInfo(Properties properties) throws SQLClientInfoException {
+		try {
+			delegate().setClientInfo(properties);
+		} catch (SQLClientInfoException ex) {
+			throw failed(ex);
+		} catch (SQLException ex) {
+			throw new SQLClientInfoException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), null, failed(ex));
+		}
+	}
+
+	@Override
+	public String getClientInfo(String name) throws SQLException {
+		try {
+			return delegate().getClientInfo(name);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Properties getClientInfo() throws SQLException {
+		try {
+			return delegate().getClientInfo();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+		try {
+			return delegate().createArrayOf(typeName, elements);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+		try {
+			return delegate().createStruct(typeName, attributes);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setSchema(String schema) throws SQLException {
+		try {
+			delegate().setSchema(schema);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public String getSchema() throws SQLException {
+		try {
+			return delegate().getSchema();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void abort(Executor executor) throws SQLException {
+		try {
+			delegate().abort(executor);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+		try {
+			delegate().setNetworkTimeout(executor, milliseconds);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public int getNetworkTimeout() throws SQLException {
+		try {
+			return delegate().getNetworkTimeout();
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		try {
+			return delegate().unwrap(iface);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		try {
+			return delegate().isWrapperFor(iface);
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+}
@@ -0,0 +1,294 @@
+package net.codingarea.engine.sql.pool;
+
+import javax.annotation.Nonnull;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A connection borrowed from a {@link ConnectionPool}. Closing it gives the physical connection back to the pool.
+ *
+ * Statements are wrapped, so {@link Statement#getConnection()} returns this connection instead of the physical one.
+ * For statements created by {@link ConnectionPool#prepare(String)} or {@link ConnectionPool#createStatement()},
+ * closing the statement also gives the connection back.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ */
+final class PooledConnection extends DelegatingConnection {
+
+	private final ConnectionPool pool;
+	private final ConnectionPool.Entry entry;
+	private final List<Statement> statements = new ArrayList<>(2);
+	private volatile boolean closed;
+	private boolean broken, statementOwned;
+
+	/**
+	 * @param statementOwned Whether closing the first statement created should also give back the connection
+	 */
+	PooledConnection(@Nonnull ConnectionPool pool, @Nonnull ConnectionPool.Entry entry, boolean statementOwned) {
+		this.pool = pool;
+		this.entry = entry;
+		this.statementOwned = statementOwned;
+	}
+
+	@Nonnull
+	@Override
+	protected Connection delegate() throws SQLException {
+		if (closed) throw new SQLException("Connection was already given back to the pool");
+		return entry.connection;
+	}
+
+	@Nonnull
+	@Override
+	protected <T extends SQLException> T failed(@Nonnull T exception) {
+		// SQL state class 08 means the connection itself failed, it should not be used again
+		String state = exception.getSQLState();
+		if (state != null && state.startsWith("08"))
+			broken = true;
+		return exception;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (closed) return;
+		closed = true;
+		for (Statement statement : statements) {
+			try {
+				statement.close();
+			} catch (SQLException ignored) { }
+		}
+		statements.clear();
+		pool.release(entry, broken);
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return closed || entry.connection.isClosed();
+	}
+
+	@Override
+	public Statement createStatement() throws SQLException {
+		return wrap(super.createStatement());
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		return wrap(super.createStatement(resultSetType, resultSetConcurrency));
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return wrap(super.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		StatementCache statements = entry.statements;
+		if (statements == null || closed) return wrap(super.prepareStatement(sql));
+
+		try {
+			return wrap(statements.prepare(sql));
+		} catch (SQLException ex) {
+			throw failed(ex);
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		return wrap(super.prepareStatement(sql, resultSetType, resultSetConcurrency));
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return wrap(super.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		return wrap(super.prepareStatement(sql, autoGeneratedKeys));
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		return wrap(super.prepareStatement(sql, columnIndexes));
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		return wrap(super.prepareStatement(sql, columnNames));
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql) throws SQLException {
+		return wrap(super.prepareCall(sql));
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		return wrap(super.prepareCall(sql, resultSetType, resultSetConcurrency));
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return wrap(super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+	}
+
+	@Nonnull
+	private Statement wrap(@Nonnull Statement statement) {
+		return new PooledStatement(this, track(statement), takeOwnership());
+	}
+
+	@Nonnull
+	private PreparedStatement wrap(@Nonnull PreparedStatement statement) {
+		return new PooledPreparedStatement(this, track(statement), takeOwnership());
+	}
+
+	@Nonnull
+	private CallableStatement wrap(@Nonnull CallableStatement statement) {
+		return new PooledCallableStatement(this, track(statement), takeOwnership());
+	}
+
+	private synchronized boolean takeOwnership() {
+		boolean owner = statementOwned;
+		statementOwned = false;
+		return owner;
+	}
+
+	/**
+	 * Statements which were not closed are closed when the connection is given back
+	 */
+	@Nonnull
+	private synchronized <S extends Statement> S track(@Nonnull S statement) {
+		if (statements.size() >= 16) {
+			statements.removeIf(current -> {
+				try {
+					return current.isClosed();
+				} catch (SQLException ex) {
+					return true;
+				}
+			});
+		}
+		statements.add(statement);
+		return statement;
+	}
+
+	private void closeStatement(@Nonnull Statement statement, boolean owner) throws SQLException {
+		try {
+			statement.close();
+		} finally {
+			if (owner) close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PooledConnection{connection=" + entry.connection + ", closed=" + closed + '}';
+	}
+
+	private static final class PooledStatement extends DelegatingStatement<Statement> {
+
+		private final PooledConnection connection;
+		private final Statement statement;
+		private final boolean owner;
+
+		private PooledStatement(@Nonnull PooledConnection connection, @Nonnull Statement statement, boolean owner) {
+			this.connection = connection;
+			this.statement = statement;
+			this.owner = owner;
+		}
+
+		@Nonnull
+		@Override
+		protected Statement delegate() {
+			return statement;
+		}
+
+		@Override
+		public Connection getConnection() {
+			return connection;
+		}
+
+		@Override
+		public void close() throws SQLException {
+			connection.closeStatement(statement, owner);
+		}
+
+		@Override
+		public String toString() {
+			return statement.toString();
+		}
+
+	}
+
+	private static final class PooledPreparedStatement extends DelegatingPreparedStatement<PreparedStatement> {
+
+		private final PooledConnection connection;
+		private final PreparedStatement statement;
+		private final boolean owner;
+
+		private PooledPreparedStatement(@Nonnull PooledConnection connection, @Nonnull PreparedStatement statement, boolean owner) {
+			this.connection = connection;
+			this.statement = statement;
+			this.owner = owner;
+		}
+
+		@Nonnull
+		@Override
+		protected PreparedStatement delegate() {
+			return statement;
+		}
+
+		@Override
+		public Connection getConnection() {
+			return connection;
+		}
+
+		@Override
+		public void close() throws SQLException {
+			connection.closeStatement(statement, owner);
+		}
+
+		@Override
+		public String toString() {
+			return statement.toString();
+		}
+
+	}
+
+	private static final class PooledCallableStatement extends DelegatingCallableStatement {
+
+		private final PooledConnection connection;
+		private final CallableStatement statement;
+		private final boolean owner;
+
+		private PooledCallableStatement(@Nonnull PooledConnection connection, @Nonnull CallableStatement statement, boolean owner) {
+			this.connection = connection;
+			this.statement = statement;
+			this.owner = owner;
+		}
+
+		@Nonnull
+		@Override
+		protected CallableStatement delegate() {
+			return statement;
+		}
+
+		@Override
+		public Connection getConnection() {
+			return connection;
+		}
+
+		@Override
+		public void close() throws SQLException {
+			connection.closeStatement(statement, owner);
+		}
+
+		@Override
+		public String toString() {
+			return statement.toString();
+		}
+
+	}
+
+}
@@ -0,0 +1,310 @@
+package net.codingarea.engine.sql.pool;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A least recently used cache of the {@link PreparedStatement}s of a single {@link Connection}, keyed by their sql.
+ *
+ * A statement returned by {@link #prepare(String)} is taken out of the cache until it is closed.
+ * Closing it clears its parameters and puts it back instead of closing it, so the next {@link #prepare(String)}
+ * of the same sql does not prepare it again. While a statement is in use, other callers get a new one.
+ * Statements whose settings were changed (like {@link PreparedStatement#setFetchSize(int)}) are not reused.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see net.codingarea.engine.sql.SQL#useStatementCache(int)
+ * @see ConnectionPool#setStatementCacheSize(int)
+ */
+public final class StatementCache {
+
+	private final Connection connection;
+	private final int maxSize;
+	private final LinkedHashMap<String, PreparedStatement> statements;
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
+	private boolean closed;
+
+	/**
+	 * @param maxSize The maximum amount of idle statements which are kept prepared
+	 */
+	public StatementCache(@Nonnull Connection connection, int maxSize) {
+		if (maxSize < 1) throw new IllegalArgumentException("Max size must be at least 1");
+		this.connection = connection;
+		this.maxSize = maxSize;
+		this.statements = new LinkedHashMap<String, PreparedStatement>(Math.min(maxSize, 64), 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+				if (size() <= StatementCache.this.maxSize) return false;
+				evictions.increment();
+				closeQuietly(eldest.getValue());
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * @return A cached statement for the given sql, or a new one if none is cached or the cached one is in use
+	 *
+	 * @throws SQLException
+	 *         If the statement had to be prepared and {@link Connection#prepareStatement(String)} failed
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public PreparedStatement prepare(@Nonnull String sql) throws SQLException {
+		PreparedStatement statement;
+		synchronized (this) {
+			statement = closed ? null : statements.remove(sql);
+		}
+		if (statement != null) {
+			hits.increment();
+		} else {
+			misses.increment();
+			statement = connection.prepareStatement(sql);
+		}
+		return new CachedStatement(sql, statement);
+	}
+
+	private void release(@Nonnull String sql, @Nonnull PreparedStatement statement, boolean reusable) {
+		if (reusable) {
+			try {
+				statement.clearParameters();
+				statement.clearWarnings();
+			} catch (SQLException ex) {
+				reusable = false;
+			}
+		}
+
+		PreparedStatement replaced;
+		synchronized (this) {
+			if (reusable && !closed) {
+				// If another statement of the same sql was given back in the meantime, only one of them is kept
+				replaced = statements.put(sql, statement);
+			} else {
+				replaced = statement;
+			}
+		}
+		if (replaced != null) closeQuietly(replaced);
+	}
+
+	private static void closeQuietly(@Nonnull PreparedStatement statement) {
+		try {
+			statement.close();
+		} catch (SQLException | RuntimeException ignored) { }
+	}
+
+	/**
+	 * Closes all idle statements, for example because the database was switched and they could refer to the old one.
+	 * Statements which are in use are still given back.
+	 */
+	public void clear() {
+		clear(false);
+	}
+
+	/**
+	 * Closes all idle statements. Statements which are in use are closed when they are closed by their user
+	 */
+	public void close() {
+		clear(true);
+	}
+
+	private void clear(boolean close) {
+		List<PreparedStatement> statements;
+		synchronized (this) {
+			if (close) closed = true;
+			statements = new ArrayList<>(this.statements.values());
+			this.statements.clear();
+		}
+		statements.forEach(StatementCache::closeQuietly);
+	}
+
+	@CheckReturnValue
+	public synchronized boolean isClosed() {
+		return closed;
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public Connection getConnection() {
+		return connection;
+	}
+
+	@CheckReturnValue
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return The amount of idle statements cached
+	 */
+	@CheckReturnValue
+	public synchronized int size() {
+		return statements.size();
+	}
+
+	/**
+	 * @return The amount of {@link #prepare(String)} calls which reused a cached statement
+	 */
+	@CheckReturnValue
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return The amount of {@link #prepare(String)} calls which had to prepare a new statement
+	 */
+	@CheckReturnValue
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return The amount of statements closed because the cache was full
+	 */
+	@CheckReturnValue
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "StatementCache{" +
+				"size=" + size() +
+				", maxSize=" + maxSize +
+				", hits=" + hits +
+				", misses=" + misses +
+				'}';
+	}
+
+	/**
+	 * Gives the statement back to the cache instead of closing it.
+	 * Only closing is synchronized, so calls like {@link PreparedStatement#cancel()} are not blocked by a running query.
+	 * Changing one of the settings of the statement would leak into its next use, so it is not reused then.
+	 */
+	private final class CachedStatement extends DelegatingPreparedStatement<PreparedStatement> {
+
+		private final String sql;
+		private final PreparedStatement statement;
+		private volatile boolean closed, reusable = true, batched;
+
+		private CachedStatement(@Nonnull String sql, @Nonnull PreparedStatement statement) {
+			this.sql = sql;
+			this.statement = statement;
+		}
+
+		@Nonnull
+		@Override
+		protected PreparedStatement delegate() throws SQLException {
+			if (closed) throw new SQLException("Statement was already closed");
+			return statement;
+		}
+
+		@Override
+		public void close() {
+			synchronized (this) {
+				if (closed) return;
+				closed = true;
+			}
+			boolean reusable = this.reusable;
+			try {
+				if (batched) statement.clearBatch();
+				// Closing the statement would close its last result, reusing it has to do the same
+				ResultSet result = statement.getResultSet();
+				if (result != null) result.close();
+			} catch (SQLException | RuntimeException ex) {
+				reusable = false;
+			}
+			release(sql, statement, reusable);
+		}
+
+		@Override
+		public boolean isClosed() throws SQLException {
+			return closed || statement.isClosed();
+		}
+
+		@Override
+		public void addBatch() throws SQLException {
+			delegate().addBatch();
+			batched = true;
+		}
+
+		@Override
+		public void addBatch(String sql) throws SQLException {
+			delegate().addBatch(sql);
+			batched = true;
+		}
+
+		@Override
+		public void setFetchSize(int rows) throws SQLException {
+			reusable = false;
+			super.setFetchSize(rows);
+		}
+
+		@Override
+		public void setFetchDirection(int direction) throws SQLException {
+			reusable = false;
+			super.setFetchDirection(direction);
+		}
+
+		@Override
+		public void setMaxRows(int max) throws SQLException {
+			reusable = false;
+			super.setMaxRows(max);
+		}
+
+		@Override
+		public void setLargeMaxRows(long max) throws SQLException {
+			reusable = false;
+			super.setLargeMaxRows(max);
+		}
+
+		@Override
+		public void setMaxFieldSize(int max) throws SQLException {
+			reusable = false;
+			super.setMaxFieldSize(max);
+		}
+
+		@Override
+		public void setQueryTimeout(int seconds) throws SQLException {
+			reusable = false;
+			super.setQueryTimeout(seconds);
+		}
+
+		@Override
+		public void setEscapeProcessing(boolean enable) throws SQLException {
+			reusable = false;
+			super.setEscapeProcessing(enable);
+		}
+
+		@Override
+		public void setCursorName(String name) throws SQLException {
+			reusable = false;
+			super.setCursorName(name);
+		}
+
+		@Override
+		public void setPoolable(boolean poolable) throws SQLException {
+			reusable = false;
+			super.setPoolable(poolable);
+		}
+
+		@Override
+		public void closeOnCompletion() throws SQLException {
+			reusable = false;
+			super.closeOnCompletion();
+		}
+
+		@Override
+		public String toString() {
+			return statement.toString();
+		}
+
+	}
+
+}
@@ -18,6 +18,19 @@ public final class LinkAttachment extends NamedValue {
 		new LinkAttachment("useLegacyDatetimeCode", true)
 	};
 
+	/**
+	 * Lets the MySQL driver prepare statements on the server and cache them for each connection,
+	 * so the server does not parse statements which are executed often again.
+	 *
+	 * @see net.codingarea.engine.sql.SQL#useStatementCache(int)
+	 */
+	public static final LinkAttachment[] STATEMENT_CACHE = {
+		new LinkAttachment("useServerPrepStmts", true),
+		new LinkAttachment("cachePrepStmts", true),
+		new LinkAttachment("prepStmtCacheSize", "250"),
+		new LinkAttachment("prepStmtCacheSqlLimit", "2048")
+	};
+
 	public LinkAttachment(@Nonnull String label, boolean value) {
 		this(label, String.valueOf(value));
 	}
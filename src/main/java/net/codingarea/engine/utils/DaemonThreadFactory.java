@@ -0,0 +1,30 @@
+package net.codingarea.engine.utils;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates daemon threads named {@code name-number}
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ */
+public final class DaemonThreadFactory implements ThreadFactory {
+
+	private final String name;
+	private final AtomicInteger counter = new AtomicInteger();
+
+	public DaemonThreadFactory(@Nonnull String name) {
+		this.name = name;
+	}
+
+	@Nonnull
+	@Override
+	public Thread newThread(@Nonnull Runnable runnable) {
+		Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}
+
+}
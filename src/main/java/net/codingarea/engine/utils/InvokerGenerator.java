@@ -0,0 +1,138 @@
+package net.codingarea.engine.utils;
+
+import javassist.*;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates classes implementing a functional interface which call a {@link Method} directly, using javassist.
+ * Calling a generated invoker does not box arguments, does not allocate an argument array and skips the access checks of
+ * {@link Method#invoke(Object, Object...)}, which also allows the JIT to inline the called method.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ */
+public final class InvokerGenerator {
+
+	private static final AtomicInteger counter = new AtomicInteger();
+
+	private InvokerGenerator() { }
+
+	/**
+	 * @return {@code true} if an invoker can be generated for the given method,
+	 *         which requires the method, its declaring class and all types in its signature to be public
+	 */
+	@CheckReturnValue
+	public static boolean canGenerate(@Nonnull Method method) {
+		Class<?> declaring = method.getDeclaringClass();
+		if (!Modifier.isPublic(method.getModifiers()) || !isPublic(declaring) || !isPublic(method.getReturnType())) return false;
+		if (declaring.getClassLoader() == null || declaring.getName().startsWith("java.")) return false;
+		for (Class<?> parameter : method.getParameterTypes()) {
+			if (!isPublic(parameter)) return false;
+		}
+		return true;
+	}
+
+	private static boolean isPublic(@Nonnull Class<?> type) {
+		while (type.isArray())
+			type = type.getComponentType();
+		return type.isPrimitive() || Modifier.isPublic(type.getModifiers());
+	}
+
+	/**
+	 * Generates an implementation of the given functional interface.
+	 * The body is javassist source code, the parameters of the interface method can be accessed using {@code $1}, {@code $2}, ...
+	 *
+	 * @param type The functional interface to implement
+	 * @param target The method which is called by the body, used to define the invoker next to its declaring class
+	 * @param body The body of the implemented method, without braces
+	 * @return The generated invoker, {@code null} if it {@link #canGenerate(Method) cannot be generated} or the generation failed
+	 */
+	@Nullable
+	@CheckReturnValue
+	public static <T> T generate(@Nonnull Class<T> type, @Nonnull Method target, @Nonnull String body) {
+		if (!canGenerate(target)) return null;
+
+		Method implemented = findAbstractMethod(type);
+		Class<?> neighbor = target.getDeclaringClass();
+
+		try {
+			ClassPool pool = new ClassPool(true);
+			pool.appendClassPath(new LoaderClassPath(neighbor.getClassLoader()));
+			pool.appendClassPath(new ClassClassPath(type));
+
+			CtClass generated = pool.makeClass(neighbor.getName() + "$Invoker$" + target.getName() + "$" + counter.incrementAndGet());
+			generated.addInterface(pool.get(type.getName()));
+			generated.addConstructor(CtNewConstructor.defaultConstructor(generated));
+			generated.addMethod(CtNewMethod.make(signatureOf(implemented) + " {" + body + "}", generated));
+
+			Class<?> clazz;
+			try {
+				clazz = generated.toClass(neighbor);
+			} catch (NoSuchMethodError ex) {
+				// Java 8 does not support defining classes next to a neighbor using lookups
+				clazz = generated.toClass(neighbor.getClassLoader(), neighbor.getProtectionDomain());
+			}
+			generated.detach();
+
+			return type.cast(clazz.getConstructor().newInstance());
+		} catch (Exception | LinkageError ex) {
+			return null;
+		}
+	}
+
+	@Nonnull
+	private static Method findAbstractMethod(@Nonnull Class<?> type) {
+		for (Method method : type.getMethods()) {
+			if (Modifier.isAbstract(method.getModifiers()))
+				return method;
+		}
+		throw new IllegalArgumentException(type.getName() + " is not a functional interface");
+	}
+
+	@Nonnull
+	private static String signatureOf(@Nonnull Method method) {
+		StringBuilder builder = new StringBuilder("public ").append(method.getReturnType().getTypeName()).append(' ').append(method.getName()).append('(');
+		Class<?>[] parameters = method.getParameterTypes();
+		for (int i = 0; i < parameters.length; i++) {
+			if (i > 0) builder.append(", ");
+			builder.append(parameters[i].getTypeName()).append(" arg").append(i);
+		}
+		return builder.append(") throws java.lang.Throwable").toString();
+	}
+
+	/**
+	 * @param type The type the expression should be converted to
+	 * @param expression The source of an expression of the type {@link Object}
+	 * @return The source of the expression casted or unboxed to the given type
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static String cast(@Nonnull Class<?> type, @Nonnull String expression) {
+		if (!type.isPrimitive())
+			return "((" + type.getTypeName() + ") " + expression + ")";
+
+		Class<?> wrapper = wrap(type);
+		return "((" + wrapper.getName() + ") " + expression + ")." + type.getName() + "Value()";
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public static Class<?> wrap(@Nonnull Class<?> type) {
+		if (type == int.class)      return Integer.class;
+		if (type == long.class)     return Long.class;
+		if (type == boolean.class)  return Boolean.class;
+		if (type == double.class)   return Double.class;
+		if (type == float.class)    return Float.class;
+		if (type == short.class)    return Short.class;
+		if (type == byte.class)     return Byte.class;
+		if (type == char.class)     return Character.class;
+		return type;
+	}
+
+}
@@ -0,0 +1,132 @@
+package net.codingarea.engine.utils;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ * Values are counted in logarithmic buckets: every power of two is split into {@value #SUB_BUCKETS} linear buckets,
+ * so percentiles have a relative error of at most 25%.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see net.codingarea.engine.discord.commandmanager.metrics.CommandMetrics
+ * @see net.codingarea.engine.sql.pool.ConnectionPool
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder(), sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	public void record(long nanos) {
+		if (nanos < 0) nanos = 0;
+		buckets.incrementAndGet(indexOf(nanos));
+		count.increment();
+		sum.add(nanos);
+
+		long current;
+		while (nanos > (current = max.get()) && !max.compareAndSet(current, nanos));
+	}
+
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKETS) return (int) value;
+		int exponent = 63 - Long.numberOfLeadingZeros(value); // >= SUB_BUCKET_BITS
+		int shift = exponent - SUB_BUCKET_BITS;
+		int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * @return The highest value counted in the bucket with the given index
+	 */
+	private static long upperBoundOf(int index) {
+		if (index < SUB_BUCKETS) return index;
+		int shift = index / SUB_BUCKETS - 1;
+		long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+		return lower + (1L << shift) - 1;
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++)
+			total += counts[i] = buckets.get(i);
+		return new Snapshot(counts, total, sum.sum(), max.get());
+	}
+
+	/**
+	 * An immutable copy of a {@link LatencyHistogram}, all values are in nanoseconds
+	 */
+	public static final class Snapshot {
+
+		private final long[] counts;
+		private final long count, sum, max;
+
+		private Snapshot(@Nonnull long[] counts, long count, long sum, long max) {
+			this.counts = counts;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		@CheckReturnValue
+		public long getCount() {
+			return count;
+		}
+
+		@CheckReturnValue
+		public long getMax() {
+			return max;
+		}
+
+		@CheckReturnValue
+		public double getMean() {
+			return count == 0 ? 0 : (double) sum / count;
+		}
+
+		/**
+		 * @param percentile The percentile between {@code 0} and {@code 100}, for example {@code 99}
+		 * @return The upper bound of the bucket containing the given percentile, {@code 0} if nothing was recorded
+		 */
+		@CheckReturnValue
+		public long getPercentile(double percentile) {
+			if (count == 0) return 0;
+			long rank = (long) Math.ceil(percentile / 100 * count);
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank && counts[i] > 0)
+					return Math.min(upperBoundOf(i), max);
+			}
+			return max;
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + count +
+					", mean=" + format(getMean()) +
+					", p50=" + format(getPercentile(50)) +
+					", p99=" + format(getPercentile(99)) +
+					", max=" + format(max);
+		}
+
+		@Nonnull
+		private static String format(double nanos) {
+			return String.format("%.3fms", nanos / TimeUnit.MILLISECONDS.toNanos(1));
+		}
+
+	}
+
+}
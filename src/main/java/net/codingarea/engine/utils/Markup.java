@@ -0,0 +1,305 @@
+package net.codingarea.engine.utils;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A lexer for the markup of discord messages.
+ * The input is split into {@link Type tokens} in a single pass: plain text, markdown characters, code spans,
+ * mentions of users, roles and channels and custom emotes.
+ * Escaping and mention detection are built on top of it.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ */
+public final class Markup {
+
+	private Markup() { }
+
+	public enum Type {
+
+		/** Text without any special meaning */
+		TEXT,
+		/** A single character used for formatting: {@code * _ ~ | \ `} */
+		MARKDOWN,
+		/** A single {@code @} which is not part of a mention, for example in {@code @everyone} */
+		AT_SIGN,
+		/** A code span like {@code `code`} or {@code ```code```}, including the backticks. Nothing inside is formatted */
+		CODE,
+		/** {@code <@id>} or {@code <@!id>} */
+		USER_MENTION,
+		/** {@code <@&id>} */
+		ROLE_MENTION,
+		/** {@code <#id>} */
+		CHANNEL_MENTION,
+		/** {@code <:name:id>} or {@code <a:name:id>} */
+		EMOTE;
+
+		/**
+		 * @return {@code true} for mentions and emotes, which are only rendered outside of code spans
+		 */
+		@CheckReturnValue
+		public boolean isMention() {
+			return this.ordinal() >= USER_MENTION.ordinal();
+		}
+
+	}
+
+	@FunctionalInterface
+	public interface Visitor {
+
+		/**
+		 * @param type The type of the token
+		 * @param start The index of the first character of the token
+		 * @param end The index after the last character of the token
+		 * @return {@code false} to stop lexing
+		 */
+		boolean visit(@Nonnull Type type, int start, int end);
+
+	}
+
+	/**
+	 * Splits the input into tokens and passes them to the visitor in order.
+	 * Adjacent text is passed as one token, markdown characters are passed one by one.
+	 *
+	 * @return {@code false} if the visitor stopped lexing, {@code true} if the end of the input was reached
+	 */
+	public static boolean lex(@Nonnull CharSequence input, @Nonnull Visitor visitor) {
+		int length = input.length();
+		int text = 0;
+		int index = 0;
+		while (index < length) {
+			char c = input.charAt(index);
+
+			Type type = null;
+			int end = index + 1;
+			if (c == '`') {
+				int closing = findCodeEnd(input, index);
+				if (closing != -1) {
+					type = Type.CODE;
+					end = closing;
+				} else {
+					type = Type.MARKDOWN;
+				}
+			} else if (c == '<') {
+				int close = findClosingBracket(input, index);
+				if (close != -1 && (type = mentionType(input, index, close + 1)) != null)
+					end = close + 1;
+			} else if (c == '@') {
+				type = Type.AT_SIGN;
+			} else if (isMarkdown(c)) {
+				type = Type.MARKDOWN;
+			}
+
+			if (type == null) {
+				index++;
+				continue;
+			}
+
+			if (text < index && !visitor.visit(Type.TEXT, text, index)) return false;
+			if (!visitor.visit(type, index, end)) return false;
+			index = text = end;
+		}
+
+		return text >= length || visitor.visit(Type.TEXT, text, length);
+	}
+
+	/**
+	 * @return The index after the closing backticks, {@code -1} if the code span is not closed
+	 */
+	private static int findCodeEnd(@Nonnull CharSequence input, int start) {
+		int ticks = 0;
+		while (start + ticks < input.length() && input.charAt(start + ticks) == '`')
+			ticks++;
+
+		int run = 0;
+		for (int i = start + ticks; i < input.length(); i++) {
+			if (input.charAt(i) == '`') {
+				if (++run == ticks) return i + 1;
+			} else {
+				run = 0;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return The index of the {@code >} closing a possible mention, {@code -1} if there is none
+	 */
+	private static int findClosingBracket(@Nonnull CharSequence input, int start) {
+		for (int i = start + 1, limit = Math.min(input.length(), start + 64); i < limit; i++) {
+			char c = input.charAt(i);
+			if (c == '>') return i;
+			if (c == '<' || Character.isWhitespace(c)) return -1;
+		}
+		return -1;
+	}
+
+	@Nullable
+	private static Type mentionType(@Nonnull CharSequence input, int start, int end) {
+		if (Parsing.parseMention(input, start, end, "@!") != 0) return Type.USER_MENTION;
+		if (Parsing.parseMention(input, start, end, "@&") != 0) return Type.ROLE_MENTION;
+		if (Parsing.parseMention(input, start, end, "@") != 0) return Type.USER_MENTION;
+		if (Parsing.parseMention(input, start, end, "#") != 0) return Type.CHANNEL_MENTION;
+		return isEmote(input, start, end) ? Type.EMOTE : null;
+	}
+
+	private static boolean isEmote(@Nonnull CharSequence input, int start, int end) {
+		int index = start + 1;
+		if (index < end && input.charAt(index) == 'a') index++;
+		if (index >= end || input.charAt(index) != ':') return false;
+
+		int nameStart = ++index;
+		while (index < end && isEmoteNameChar(input.charAt(index)))
+			index++;
+		int nameLength = index - nameStart;
+		if (nameLength < 2 || nameLength > 32 || index >= end || input.charAt(index) != ':') return false;
+
+		return Parsing.parseSnowflake(input, index + 1, end - 1) != 0;
+	}
+
+	private static boolean isEmoteNameChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+	}
+
+	private static boolean isMarkdown(char c) {
+		return c == '*' || c == '_' || c == '~' || c == '|' || c == '\\';
+	}
+
+	/**
+	 * @return {@code true} if the input contains a mention of one of the given types outside of code spans
+	 */
+	@CheckReturnValue
+	public static boolean containsMention(@Nonnull CharSequence input, @Nonnull Type... types) {
+		return !lex(input, (type, start, end) -> {
+			for (Type current : types) {
+				if (current == type) return false;
+			}
+			return true;
+		});
+	}
+
+	/**
+	 * @return {@code true} if the input contains a mention or an emote outside of code spans
+	 */
+	@CheckReturnValue
+	public static boolean containsMention(@Nonnull CharSequence input) {
+		return !lex(input, (type, start, end) -> !type.isMention());
+	}
+
+	/**
+	 * Escapes all markdown characters, so the input is displayed as it is.
+	 * {@code @} signs are removed, so the input cannot mention anyone. Channel mentions and emotes are kept.
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static String escape(@Nonnull CharSequence input) {
+		StringBuilder builder = new StringBuilder(input.length() + 16);
+		lex(input, (type, start, end) -> {
+			switch (type) {
+				case TEXT:
+				case CHANNEL_MENTION:
+				case EMOTE:
+					builder.append(input, start, end);
+					break;
+				case USER_MENTION:
+				case ROLE_MENTION:
+					builder.append('<').append(input, start + 2, end);
+					break;
+				case AT_SIGN:
+					break;
+				default:
+					// Markdown characters and every character of a code span
+					for (int i = start; i < end; i++) {
+						char c = input.charAt(i);
+						if (c == '@') continue;
+						if (c == '`' || isMarkdown(c)) builder.append('\\');
+						builder.append(c);
+					}
+			}
+			return true;
+		});
+		return builder.toString();
+	}
+
+	/**
+	 * Prepares the input to be placed inside of a code span.
+	 * Markdown is not rendered there, but backticks cannot be escaped, so they are removed.
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static String escapeForCode(@Nonnull CharSequence input) {
+		StringBuilder builder = new StringBuilder(input.length());
+		for (int i = 0; i < input.length(); i++) {
+			char c = input.charAt(i);
+			if (c != '`') builder.append(c);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Removes all markdown characters and the backticks of code spans, keeping the text and mentions
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static String strip(@Nonnull CharSequence input) {
+		StringBuilder builder = new StringBuilder(input.length());
+		lex(input, (type, start, end) -> {
+			if (type == Type.CODE) {
+				int ticks = 0;
+				while (input.charAt(start + ticks) == '`') ticks++;
+				builder.append(input, start + ticks, end - ticks);
+			} else if (type != Type.MARKDOWN) {
+				builder.append(input, start, end);
+			}
+			return true;
+		});
+		return builder.toString();
+	}
+
+	/**
+	 * Highlights the input as inline code.
+	 * If the input contains mentions or emotes, they would not be rendered in code.
+	 * In that case the input is displayed in italics, with all markdown escaped.
+	 * Like in {@link #escape(CharSequence)} the {@code @} signs are removed there, so the input cannot mention anyone.
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public static String highlight(@Nonnull CharSequence input) {
+		StringBuilder code = new StringBuilder(input.length() + 2).append('`');
+		StringBuilder italic = new StringBuilder(input.length() + 16).append('*');
+		boolean[] mention = { false };
+		lex(input, (type, start, end) -> {
+			mention[0] |= type.isMention();
+			switch (type) {
+				case TEXT:
+				case CHANNEL_MENTION:
+				case EMOTE:
+					code.append(input, start, end);
+					italic.append(input, start, end);
+					break;
+				case USER_MENTION:
+				case ROLE_MENTION:
+					code.append(input, start, end);
+					italic.append('<').append(input, start + 2, end);
+					break;
+				case AT_SIGN:
+					// Mentions are not resolved inside of code spans, so only the italic form drops the @
+					code.append('@');
+					break;
+				default:
+					for (int i = start; i < end; i++) {
+						char c = input.charAt(i);
+						if (c != '`') code.append(c);
+						if (c == '@') continue;
+						if (c == '`' || isMarkdown(c)) italic.append('\\');
+						italic.append(c);
+					}
+			}
+			return true;
+		});
+		return mention[0] ? italic.append('*').toString() : code.append('`').toString();
+	}
+
+}
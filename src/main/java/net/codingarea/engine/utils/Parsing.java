@@ -0,0 +1,309 @@
+package net.codingarea.engine.utils;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Parsers for numbers, snowflake ids, mentions and durations working on any {@link CharSequence}.
+ * Invalid input never throws an exception, the methods return a fallback value or {@code null} instead.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ */
+public final class Parsing {
+
+	public static final int MIN_SNOWFLAKE_LENGTH = 17;
+	public static final int MAX_SNOWFLAKE_LENGTH = 20;
+
+	private Parsing() { }
+
+	/**
+	 * Parses a number like {@link Long#parseLong(String)}: an optional sign followed by decimal digits
+	 *
+	 * @return The parsed number, or the fallback if the input is not a valid {@code long}
+	 */
+	@CheckReturnValue
+	public static long parseLong(@Nonnull CharSequence sequence, int start, int end, long fallback) {
+		return parse(sequence, start, end, Long.MIN_VALUE, Long.MAX_VALUE, fallback);
+	}
+
+	@CheckReturnValue
+	public static long parseLong(@Nonnull CharSequence sequence, long fallback) {
+		return parse(sequence, 0, sequence.length(), Long.MIN_VALUE, Long.MAX_VALUE, fallback);
+	}
+
+	@CheckReturnValue
+	public static int parseInt(@Nonnull CharSequence sequence, int fallback) {
+		long value = parse(sequence, 0, sequence.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE);
+		return value == Long.MIN_VALUE ? fallback : (int) value;
+	}
+
+	@CheckReturnValue
+	public static boolean isLong(@Nonnull CharSequence sequence) {
+		long value = parse(sequence, 0, sequence.length(), Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE);
+		return value != Long.MIN_VALUE || isMinLong(sequence);
+	}
+
+	@CheckReturnValue
+	public static boolean isInt(@Nonnull CharSequence sequence) {
+		return parse(sequence, 0, sequence.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE) != Long.MIN_VALUE;
+	}
+
+	/**
+	 * @return The parsed number, {@code null} if the input is not a valid {@code long}
+	 */
+	@Nullable
+	@CheckReturnValue
+	public static Long toLong(@Nonnull CharSequence sequence) {
+		long value = parse(sequence, 0, sequence.length(), Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE);
+		return value != Long.MIN_VALUE || isMinLong(sequence) ? value : null;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public static Integer toInteger(@Nonnull CharSequence sequence) {
+		long value = parse(sequence, 0, sequence.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE);
+		return value == Long.MIN_VALUE ? null : (int) value;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public static Short toShort(@Nonnull CharSequence sequence) {
+		long value = parse(sequence, 0, sequence.length(), Short.MIN_VALUE, Short.MAX_VALUE, Long.MIN_VALUE);
+		return value == Long.MIN_VALUE ? null : (short) value;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public static Byte toByte(@Nonnull CharSequence sequence) {
+		long value = parse(sequence, 0, sequence.length(), Byte.MIN_VALUE, Byte.MAX_VALUE, Long.MIN_VALUE);
+		return value == Long.MIN_VALUE ? null : (byte) value;
+	}
+
+	/**
+	 * Parses the number in a single pass, checking for overflow of the given bounds
+	 *
+	 * @return The parsed number, or the fallback if the input is no number between min and max
+	 */
+	private static long parse(@Nonnull CharSequence sequence, int start, int end, long min, long max, long fallback) {
+		if (start >= end) return fallback;
+
+		boolean negative = false;
+		long limit = -max;
+		char first = sequence.charAt(start);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			if (negative) limit = min;
+			if (++start == end) return fallback;
+		}
+
+		// Accumulating negatively like Long.parseLong, so Long.MIN_VALUE can be parsed
+		long multiplicationLimit = limit / 10;
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			int digit = Character.digit(sequence.charAt(i), 10);
+			if (digit < 0 || result < multiplicationLimit) return fallback;
+			result *= 10;
+			if (result < limit + digit) return fallback;
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * {@link Long#MIN_VALUE} is used as fallback to detect invalid input, this tells if the input really was that value
+	 */
+	private static boolean isMinLong(@Nonnull CharSequence sequence) {
+		int length = sequence.length();
+		if (length == 0 || sequence.charAt(0) != '-') return false;
+		int index = 1;
+		while (index < length - 1 && sequence.charAt(index) == '0') index++;
+		return length - index == 19 && regionEquals(sequence, index, "9223372036854775808");
+	}
+
+	/**
+	 * Checks if the input is a decimal floating point number accepted by {@link Double#parseDouble(String)}:
+	 * an optional sign, digits with an optional fraction, an optional exponent and an optional type suffix,
+	 * or {@code NaN} and {@code Infinity}. Hexadecimal notation is not supported.
+	 */
+	@CheckReturnValue
+	public static boolean isDecimal(@Nonnull CharSequence sequence) {
+		int length = sequence.length();
+		int index = 0;
+		if (index < length && (sequence.charAt(index) == '-' || sequence.charAt(index) == '+')) index++;
+		if (regionEquals(sequence, index, "NaN")) return index + 3 == length;
+		if (regionEquals(sequence, index, "Infinity")) return index + 8 == length;
+
+		int digits = 0;
+		while (index < length && isAsciiDigit(sequence.charAt(index))) { index++; digits++; }
+		if (index < length && sequence.charAt(index) == '.') {
+			index++;
+			while (index < length && isAsciiDigit(sequence.charAt(index))) { index++; digits++; }
+		}
+		if (digits == 0) return false;
+
+		if (index < length && (sequence.charAt(index) == 'e' || sequence.charAt(index) == 'E')) {
+			index++;
+			if (index < length && (sequence.charAt(index) == '-' || sequence.charAt(index) == '+')) index++;
+			int exponent = index;
+			while (index < length && isAsciiDigit(sequence.charAt(index))) index++;
+			if (exponent == index) return false;
+		}
+
+		if (index < length && "fFdD".indexOf(sequence.charAt(index)) >= 0) index++;
+		return index == length;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public static Double toDouble(@Nonnull CharSequence sequence) {
+		return isDecimal(sequence) ? Double.parseDouble(sequence.toString()) : null;
+	}
+
+	@Nullable
+	@CheckReturnValue
+	public static Float toFloat(@Nonnull CharSequence sequence) {
+		return isDecimal(sequence) ? Float.parseFloat(sequence.toString()) : null;
+	}
+
+	@CheckReturnValue
+	public static double parseDouble(@Nonnull CharSequence sequence, double fallback) {
+		return isDecimal(sequence) ? Double.parseDouble(sequence.toString()) : fallback;
+	}
+
+	/**
+	 * Parses a snowflake id, which consists of {@value #MIN_SNOWFLAKE_LENGTH} to {@value #MAX_SNOWFLAKE_LENGTH} digits
+	 *
+	 * @return The id, or {@code 0} if the given range is no valid snowflake
+	 */
+	@CheckReturnValue
+	public static long parseSnowflake(@Nonnull CharSequence sequence, int start, int end) {
+		int length = end - start;
+		if (length < MIN_SNOWFLAKE_LENGTH || length > MAX_SNOWFLAKE_LENGTH) return 0;
+
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			char c = sequence.charAt(i);
+			if (!isAsciiDigit(c)) return 0;
+			int digit = c - '0';
+			if (result > (Long.MAX_VALUE - digit) / 10) return 0;
+			result = result * 10 + digit;
+		}
+		return result;
+	}
+
+	@CheckReturnValue
+	public static long parseSnowflake(@Nonnull CharSequence sequence) {
+		return parseSnowflake(sequence, 0, sequence.length());
+	}
+
+	@CheckReturnValue
+	public static boolean isSnowflake(@Nullable CharSequence sequence) {
+		return sequence != null && parseSnowflake(sequence) != 0;
+	}
+
+	/**
+	 * Parses a mention like {@code <@id>}, {@code <@!id>}, {@code <@&id>} or {@code <#id>}.
+	 *
+	 * @param prefix The characters between {@code <} and the id, for example {@code "@!"}
+	 * @return The id of the mention, or {@code 0} if the given range is no mention using the prefix
+	 */
+	@CheckReturnValue
+	public static long parseMention(@Nonnull CharSequence sequence, int start, int end, @Nonnull String prefix) {
+		if (end - start < prefix.length() + 2) return 0;
+		if (sequence.charAt(start) != '<' || sequence.charAt(end - 1) != '>') return 0;
+		if (!regionEquals(sequence, start + 1, prefix)) return 0;
+		return parseSnowflake(sequence, start + 1 + prefix.length(), end - 1);
+	}
+
+	/**
+	 * @return The id of the user mention, in the {@code <@id>} or the {@code <@!id>} form, or {@code 0} if there is no mention
+	 */
+	@CheckReturnValue
+	public static long parseUserMention(@Nonnull CharSequence sequence) {
+		long id = parseMention(sequence, 0, sequence.length(), "@!");
+		return id != 0 ? id : parseMention(sequence, 0, sequence.length(), "@");
+	}
+
+	@CheckReturnValue
+	public static long parseRoleMention(@Nonnull CharSequence sequence) {
+		return parseMention(sequence, 0, sequence.length(), "@&");
+	}
+
+	@CheckReturnValue
+	public static long parseChannelMention(@Nonnull CharSequence sequence) {
+		return parseMention(sequence, 0, sequence.length(), "#");
+	}
+
+	/**
+	 * Parses a user, role or channel mention or a raw id, ignoring leading and trailing whitespaces
+	 *
+	 * @return The id, or {@code 0} if the input is neither a mention nor an id
+	 */
+	@CheckReturnValue
+	public static long parseMentionOrId(@Nonnull CharSequence sequence) {
+		int start = 0, end = sequence.length();
+		while (start < end && Character.isWhitespace(sequence.charAt(start))) start++;
+		while (end > start && Character.isWhitespace(sequence.charAt(end - 1))) end--;
+
+		if (end - start > 0 && sequence.charAt(start) == '<') {
+			long id;
+			if ((id = parseMention(sequence, start, end, "@!")) != 0) return id;
+			if ((id = parseMention(sequence, start, end, "@&")) != 0) return id;
+			if ((id = parseMention(sequence, start, end, "@")) != 0) return id;
+			return parseMention(sequence, start, end, "#");
+		}
+		return parseSnowflake(sequence, start, end);
+	}
+
+	/**
+	 * Parses a duration like {@code 1d12h} or {@code 2w}.
+	 * Digits are collected until a unit follows: {@code m} (minutes), {@code h} (hours), {@code d} (days),
+	 * {@code w} (weeks) or {@code y} (years). Any other character ends a number in seconds.
+	 *
+	 * @return The duration in seconds
+	 */
+	@CheckReturnValue
+	public static long parseDuration(@Nonnull CharSequence sequence) {
+		long current = 0;
+		long seconds = 0;
+		for (int i = 0; i < sequence.length(); i++) {
+			char c = sequence.charAt(i);
+			int digit = Character.digit(c, 10);
+			if (digit >= 0) {
+				current = current * 10 + digit;
+				continue;
+			}
+
+			seconds += current * unitOf(c);
+			current = 0;
+		}
+		return seconds + current;
+	}
+
+	private static long unitOf(char unit) {
+		switch (Character.toLowerCase(unit)) {
+			case 'm':	return 60;
+			case 'h':	return 60*60;
+			case 'd':	return 24*60*60;
+			case 'w':	return 7*24*60*60;
+			case 'y':	return 365*24*60*60;
+			default:	return 1;
+		}
+	}
+
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean regionEquals(@Nonnull CharSequence sequence, int offset, @Nonnull String other) {
+		if (offset + other.length() > sequence.length()) return false;
+		for (int i = 0; i < other.length(); i++) {
+			if (sequence.charAt(offset + i) != other.charAt(i))
+				return false;
+		}
+		return true;
+	}
+
+}
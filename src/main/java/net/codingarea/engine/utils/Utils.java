@@ -236,45 +236,12 @@ public final class Utils {
 		return content;
 	}
 
+	/**
+	 * @see Parsing#parseDuration(CharSequence)
+	 */
 	@CheckReturnValue
 	public static long parseTime(@Nonnull String string) {
-		long current = 0;
-		long seconds = 0;
-		for (String c : string.split("")) {
-			try {
-
-				int i = Integer.parseInt(c);
-				current *= 10;
-				current += i;
-
-			} catch (Exception ignored) {
-
-				int multiplier = 1;
-				switch (c.toLowerCase()) {
-					case "m":
-						multiplier = 60;
-						break;
-					case "h":
-						multiplier = 60*60;
-						break;
-					case "d":
-						multiplier = 24*60*60;
-						break;
-					case "w":
-						multiplier = 7*24*60*60;
-						break;
-					case "y":
-						multiplier = 365*24*60*60;
-						break;
-				}
-
-				seconds += current * multiplier;
-				current = 0;
-
-			}
-		}
-		seconds += current;
-		return seconds;
+		return Parsing.parseDuration(string);
 	}
 
 	@Nonnull
@@ -0,0 +1,36 @@
+package net.codingarea.engine.discord.commandmanager;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads, used when running on Java 21 or newer.
+ *
+ * Virtual threads only help with blocking calls which unmount them from their carrier thread.
+ * The {@code mysql-connector-java 8.0.21} driver used by {@link net.codingarea.engine.sql.SQL} reads from its socket inside
+ * {@code synchronized} blocks, which pins the carrier thread on Java 21 to 23, so a command blocking on a query occupies
+ * one of the few carrier threads just like a platform thread would.
+ *
+ * @author anweisen | https://github.com/anweisen
+ * @since 2.9
+ *
+ * @see CommandExecutors#newVirtualThreadExecutor(String)
+ */
+final class VirtualThreads {
+
+	private VirtualThreads() { }
+
+	@CheckReturnValue
+	static boolean isSupported() {
+		return true;
+	}
+
+	@Nonnull
+	@CheckReturnValue
+	static ExecutorService newExecutor(@Nonnull String name) {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+	}
+
+}
@@ -0,0 +1,149 @@
+import net.codingarea.engine.discord.commandmanager.CommandArguments;
+import net.codingarea.engine.discord.commandmanager.ParsedMessage;
+import net.codingarea.engine.discord.commandmanager.SelfMention;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.SelfUser;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+/**
+ * Checks that a {@link ParsedMessage} finds the prefix and the command name
+ * and that {@link CommandArguments} splits the arguments at whitespaces and quotes.
+ * <pre>java -cp target/classes:target/test-classes CommandArgumentsTest</pre>
+ */
+public class CommandArgumentsTest {
+
+	private static final String ID = "123456789012345678";
+
+	public static void main(String[] args) {
+		whitespaces();
+		quotes();
+		join();
+		bounds();
+		prefix();
+		mention();
+		System.out.println("OK");
+	}
+
+	private static CommandArguments arguments(String content) {
+		return new CommandArguments(content, 0, content.length());
+	}
+
+	private static void whitespaces() {
+		check(arguments("").isEmpty() && arguments(" \n\t ").isEmpty(), "no arguments");
+		check(arguments("").toArray().length == 0, "empty array");
+		check(equal(arguments("a b c"), "a", "b", "c"), "single spaces");
+		check(equal(arguments("  a   b\n\nc\td  "), "a", "b", "c", "d"), "any amount of whitespaces");
+		check(equal(arguments("a\u2003b"), "a", "b"), "unicode whitespaces");
+		check(equal(arguments("\u00a0a"), "\u00a0a"), "a no-break space is no whitespace for Character.isWhitespace");
+		check(equal(arguments("1 2 3 4 5 6 7 8 9"), "1", "2", "3", "4", "5", "6", "7", "8", "9"), "more arguments than the initial capacity");
+	}
+
+	private static void quotes() {
+		CommandArguments arguments = arguments("say \"hello  world\" \"\" x");
+		check(equal(arguments, "say", "hello  world", "", "x"), "quoted arguments: " + Arrays.toString(arguments.toArray()));
+		check(!arguments.isQuoted(0) && arguments.isQuoted(1) && arguments.isQuoted(2) && !arguments.isQuoted(3), "isQuoted");
+
+		check(equal(arguments("\"unclosed quote"), "\"unclosed", "quote"), "an unclosed quote is a normal character");
+		check(equal(arguments("a\"b c\"d"), "a\"b", "c\"d"), "quotes inside an argument are normal characters");
+		check(equal(arguments("\"a\"b"), "a", "b"), "a closing quote ends the argument");
+		check(equal(arguments("\"a\nb\""), "a\nb"), "quoted new lines");
+	}
+
+	private static void join() {
+		CommandArguments arguments = arguments("  first   \"second  one\"\nthird  ");
+		check(arguments.join().equals("first   \"second  one\"\nthird"), "join returns the raw text: " + arguments.join());
+		check(arguments.join(1).equals("\"second  one\"\nthird"), "join from an index keeps the quotes");
+		check(arguments.join(1, 2).equals("\"second  one\""), "join of a quoted argument");
+		check(arguments.join(0, 1).equals("first") && arguments.join(2, 2).isEmpty(), "join of a range");
+		check(arguments("").join().isEmpty(), "join without arguments");
+		check(arguments.toString().equals("  first   \"second  one\"\nthird  "), "toString returns the content");
+	}
+
+	private static void bounds() {
+		CommandArguments arguments = arguments("a b");
+		expectFailure(() -> arguments.get(2), "get after the last argument");
+		expectFailure(() -> arguments.get(-1), "get with a negative index");
+		expectFailure(() -> arguments.isQuoted(2), "isQuoted after the last argument");
+		expectFailure(() -> arguments.join(0, 3), "join after the last argument");
+
+		CommandArguments range = new CommandArguments("!cmd x \"y z\" w", 5, 12);
+		check(equal(range, "x", "y z"), "only the range is tokenized");
+		check(equal(new CommandArguments("\"a b\"", 0, 4), "\"a", "b"), "a quote after the end does not close");
+	}
+
+	private static void prefix() {
+		check(ParsedMessage.parse("hello", "!", null) == null, "no prefix");
+		check(ParsedMessage.parse("  ", "!", null) == null, "blank message");
+
+		ParsedMessage message = ParsedMessage.parse("  \n!Help  me \"and you\"\n ", "!", null);
+		check(message != null && !message.isMentionPrefix(), "prefix");
+		check("!".equals(message.getPrefix()) && "!".equals(message.getConfiguredPrefix()), "the prefix is returned");
+		check(message.getContent().substring(message.getStart(), message.getEnd()).equals("!Help  me \"and you\""), "the message is trimmed");
+		check(message.getContent().startsWith("Help", message.getCommandStart()), "the command starts after the prefix");
+		check(equal(message.getArguments(4), "me", "and you"), "the arguments follow the command name");
+		check(Arrays.equals(message.parseArgs(4), new String[] { "me", "and you" }), "parseArgs");
+		check(message.getArguments(4).join().equals("me \"and you\""), "join");
+		check(message.getArguments(message.getEnd() - message.getCommandStart()).isEmpty(), "no arguments after the command name");
+
+		check(ParsedMessage.parse("?PING", "?p", null) != null, "the prefix is case insensitive");
+		check(ParsedMessage.parse("bot, ping", "bot, ", null) != null, "a prefix ending with a whitespace");
+		check(ParsedMessage.parse("!", "!", null) != null, "only the prefix");
+
+		ParsedMessage of = ParsedMessage.of(" !ping a ", "!", false);
+		check(equal(of.getArguments(4), "a") && "!".equals(of.getPrefix()), "of");
+	}
+
+	private static void mention() {
+		SelfMention mention = SelfMention.of(jda());
+		ParsedMessage message = ParsedMessage.parse("<@" + ID + ">   \n ping a", "!", mention);
+		check(message != null && message.isMentionPrefix(), "mention prefix");
+		check(message.getPrefix().equals("<@" + ID + ">   \n "), "the whitespaces after the mention are a part of the prefix");
+		check("!".equals(message.getConfiguredPrefix()), "the configured prefix is known");
+		check(equal(message.getArguments(4), "a"), "arguments after a mention");
+
+		check(ParsedMessage.parse("<@!" + ID + "> ping", "!", mention) != null, "nickname mention");
+		check(ParsedMessage.parse("<@" + ID + "> ping", "!", null) == null, "the mention cannot be used");
+		check(ParsedMessage.parse("<@" + ID + "1> ping", "!", mention) == null, "the mention of another user");
+		check(ParsedMessage.parse("<@" + ID, "!", mention) == null, "an unclosed mention");
+	}
+
+	private static JDA jda() {
+		SelfUser user = (SelfUser) Proxy.newProxyInstance(CommandArgumentsTest.class.getClassLoader(), new Class[] { SelfUser.class }, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getIdLong":
+					return Long.parseLong(ID);
+				case "getId":
+					return ID;
+			}
+			throw new UnsupportedOperationException(method.getName());
+		});
+		return (JDA) Proxy.newProxyInstance(CommandArgumentsTest.class.getClassLoader(), new Class[] { JDA.class }, (proxy, method, args) -> {
+			if (method.getName().equals("getSelfUser")) return user;
+			throw new UnsupportedOperationException(method.getName());
+		});
+	}
+
+	private static boolean equal(CommandArguments arguments, String... expected) {
+		if (arguments.size() != expected.length) return false;
+		for (int i = 0; i < expected.length; i++) {
+			if (!arguments.get(i).equals(expected[i])) return false;
+		}
+		return Arrays.equals(arguments.toArray(), expected);
+	}
+
+	private static void expectFailure(Runnable action, String message) {
+		try {
+			action.run();
+		} catch (ArrayIndexOutOfBoundsException expected) {
+			return;
+		}
+		throw new AssertionError(message + " did not fail");
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) throw new AssertionError(message);
+	}
+
+}
@@ -0,0 +1,163 @@
+import net.codingarea.engine.discord.commandmanager.CommandRegistry;
+import net.codingarea.engine.discord.commandmanager.CommandType;
+import net.codingarea.engine.discord.commandmanager.ICommand;
+import net.codingarea.engine.discord.commandmanager.event.CommandEvent;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Checks that a {@link CommandRegistry} finds commands by their names and aliases like the old linear search did
+ * and that a snapshot is not changed by registering more commands.
+ * <pre>java -cp target/classes:target/test-classes CommandRegistryTest</pre>
+ */
+public class CommandRegistryTest {
+
+	private static class TestCommand implements ICommand {
+
+		private final String name;
+		private final String[] alias;
+		private final CommandType type;
+
+		TestCommand(String name, String... alias) {
+			this(CommandType.GENERAL, name, alias);
+		}
+
+		TestCommand(CommandType type, String name, String... alias) {
+			this.name = name;
+			this.alias = alias;
+			this.type = type;
+		}
+
+		@Override
+		public void onCommand(@Nonnull CommandEvent event) { }
+
+		@Nonnull
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Nonnull
+		@Override
+		public String[] getAlias() {
+			return alias;
+		}
+
+		@Override
+		public CommandType getType() {
+			return type;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+
+	}
+
+	private static class OtherCommand extends TestCommand {
+
+		OtherCommand() {
+			super("other");
+		}
+
+	}
+
+	public static void main(String[] args) {
+		names();
+		boundary();
+		nested();
+		firstRegistered();
+		offset();
+		snapshot();
+		lookups();
+		System.out.println("OK");
+	}
+
+	private static void names() {
+		ICommand help = new TestCommand("Help", "h", "?");
+		CommandRegistry registry = CommandRegistry.empty().with(help);
+		check(find(registry, "help") == help, "name");
+		check(find(registry, "HELP") == help && find(registry, "hElP") == help, "names are case insensitive");
+		check(find(registry, "h") == help && find(registry, "?") == help, "aliases");
+		check("help".equals(registry.find("HeLp").getName()), "the lowercase name is returned");
+		check("h".equals(registry.find("H x").getName()), "the matching alias is returned");
+		check(find(registry, "hilfe") == null && find(registry, "") == null, "unknown names");
+	}
+
+	private static void boundary() {
+		ICommand help = new TestCommand("help");
+		CommandRegistry registry = CommandRegistry.empty().with(help);
+		check(find(registry, "help some arguments") == help, "followed by a space");
+		check(find(registry, "help\nsome arguments") == help, "followed by a new line");
+		check(find(registry, "help\targuments") == help, "followed by a tab");
+		check(find(registry, "helpme") == null, "a name does not match the beginning of a longer word");
+		check(find(registry, "hel") == null && find(registry, "hel p") == null, "a part of a name does not match");
+	}
+
+	private static void nested() {
+		ICommand help = new TestCommand("help"), helpMe = new TestCommand("helpme", "help me");
+		CommandRegistry registry = CommandRegistry.empty().with(help, helpMe);
+		check(find(registry, "helpme") == helpMe && find(registry, "helpme now") == helpMe, "the longer name is used when the shorter one does not end at a whitespace");
+		check(find(registry, "help") == help && find(registry, "help now") == help, "the shorter name");
+		check(find(registry, "help me") == help, "the first registered command is used when names overlap");
+
+		registry = CommandRegistry.empty().with(helpMe, help);
+		check(find(registry, "help me") == helpMe && "help me".equals(registry.find("help me").getName()), "an alias containing a space matches as a whole");
+		check(find(registry, "help meh") == help, "an alias containing a space needs a whitespace after it");
+	}
+
+	private static void firstRegistered() {
+		ICommand first = new TestCommand("ping"), second = new TestCommand("pong", "ping");
+		CommandRegistry registry = CommandRegistry.empty().with(first, second);
+		check(find(registry, "ping") == first, "the first registered command keeps the name");
+		check(find(registry, "pong") == second, "the other names of the second command still match");
+		check(find(registry.with(new TestCommand("ping")), "ping") == first, "later commands do not take a name");
+	}
+
+	private static void offset() {
+		ICommand help = new TestCommand("help");
+		CommandRegistry registry = CommandRegistry.empty().with(help);
+		CommandRegistry.Entry entry = registry.find("!help me", 1);
+		check(entry != null && entry.getCommand() == help, "offset");
+		check(registry.find("!helpme", 1, 5) != null, "the content is treated as ended at the length");
+		check(registry.find("!help", 0) == null, "the offset is not skipped");
+	}
+
+	private static void snapshot() {
+		ICommand help = new TestCommand("help"), info = new TestCommand("info", "help2");
+		CommandRegistry registry = CommandRegistry.empty().with(help);
+		CommandRegistry extended = registry.with(info);
+		check(registry.size() == 1 && find(registry, "info") == null && find(registry, "help2") == null, "the old snapshot is not changed");
+		check(extended.size() == 2 && find(extended, "info") == info && find(extended, "help2") == info, "the new snapshot contains the new command");
+		check(find(extended, "help") == help, "the new snapshot contains the old commands");
+		check(registry.with() == registry, "adding nothing returns the same snapshot");
+		check(CommandRegistry.empty().size() == 0 && find(CommandRegistry.empty(), "help") == null, "empty registry");
+
+		try {
+			extended.getCommands().clear();
+			throw new AssertionError("the commands could be changed");
+		} catch (UnsupportedOperationException expected) { }
+	}
+
+	private static void lookups() {
+		ICommand help = new TestCommand(CommandType.PRIVATE, "help"), other = new OtherCommand();
+		CommandRegistry registry = CommandRegistry.empty().with(help);
+		check(registry.hasPrivateCommands() && !registry.hasGuildCommands(), "private commands");
+		registry = registry.with(other);
+		check(registry.hasPrivateCommands() && registry.hasGuildCommands(), "general commands can be used in guilds");
+		check(registry.find(OtherCommand.class) == other && registry.find(TestCommand.class) == help, "find by class");
+		check(CommandRegistry.empty().find(OtherCommand.class) == null, "unknown class");
+		check(registry.getCommands().get(0) == help && registry.getCommands().get(1) == other, "registration order");
+	}
+
+	private static ICommand find(CommandRegistry registry, String content) {
+		CommandRegistry.Entry entry = registry.find(content);
+		return entry == null ? null : entry.getCommand();
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) throw new AssertionError(message);
+	}
+
+}
@@ -0,0 +1,140 @@
+import net.codingarea.engine.sql.pool.ConnectionPool;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks that connections of a {@link ConnectionPool} are given back and reused,
+ * that the pool blocks when all connections are in use and that broken connections are not reused.
+ * <pre>java -cp target/classes:target/test-classes ConnectionPoolTest</pre>
+ */
+public class ConnectionPoolTest {
+
+	public static void main(String[] args) throws Exception {
+		reuse();
+		borrowTimeout();
+		statementGivesBack();
+		closeStatements();
+		rollback();
+		broken();
+		System.out.println("OK");
+	}
+
+	private static void reuse() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		try (ConnectionPool pool = new ConnectionPool(database, 1, 2)) {
+			pool.fill();
+			check(database.opened.get() == 1, "fill opens the min size");
+
+			for (int i = 0; i < 100; i++) {
+				try (Connection connection = pool.borrow(); PreparedStatement statement = connection.prepareStatement("UPDATE a SET b = ?")) {
+					statement.setInt(1, i);
+					statement.executeUpdate();
+				}
+			}
+			check(database.opened.get() == 1, "connections are reused, opened " + database.opened);
+			check(pool.getMetrics().getActive() == 0, "every connection is given back");
+			check(pool.getMetrics().getBorrows() == 100, "borrows are counted");
+		}
+		check(database.closed.get() == 1, "closing the pool closes idle connections");
+	}
+
+	private static void borrowTimeout() throws Exception {
+		try (ConnectionPool pool = new ConnectionPool(new FakeDatabase(), 0, 2).setBorrowTimeout(50, TimeUnit.MILLISECONDS)) {
+			Connection first = pool.borrow(), second = pool.borrow();
+			try {
+				pool.borrow().close();
+				throw new AssertionError("borrowing more than the max size did not time out");
+			} catch (SQLTransientConnectionException expected) { }
+			check(pool.getMetrics().getTimeouts() == 1, "timeouts are counted");
+
+			first.close();
+			first.close();
+			pool.borrow().close();
+			second.close();
+			check(pool.getMetrics().getActive() == 0, "closing twice gives back only once");
+		}
+	}
+
+	private static void statementGivesBack() throws Exception {
+		try (ConnectionPool pool = new ConnectionPool(new FakeDatabase(), 0, 1)) {
+			PreparedStatement statement = pool.prepare("SELECT 1");
+			Connection connection = statement.getConnection();
+			check(pool.getMetrics().getActive() == 1, "prepare borrows a connection");
+			check(!connection.isClosed(), "connection is borrowed");
+			check(!connection.toString().equals("FakeConnection"), "statements return the pooled connection");
+
+			statement.close();
+			check(pool.getMetrics().getActive() == 0, "closing the statement gives the connection back");
+			check(connection.isClosed(), "connection is given back");
+
+			try {
+				connection.createStatement();
+				throw new AssertionError("connection could be used after it was given back");
+			} catch (SQLException expected) { }
+
+			// Only the first statement owns the connection
+			try (Connection borrowed = pool.borrow()) {
+				borrowed.createStatement().close();
+				check(!borrowed.isClosed(), "closing a statement of a borrowed connection does not give it back");
+			}
+		}
+	}
+
+	private static void closeStatements() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		try (ConnectionPool pool = new ConnectionPool(database, 0, 1)) {
+			Connection connection = pool.borrow();
+			Statement statement = connection.createStatement();
+			connection.prepareStatement("SELECT 1");
+			connection.prepareCall("CALL a()");
+			connection.close();
+			check(database.statementsClosed.get() == 3, "statements are closed when the connection is given back, closed " + database.statementsClosed);
+			check(statement.isClosed(), "statement is closed");
+			check(database.closed.get() == 0, "the physical connection stays opened");
+		}
+	}
+
+	private static void rollback() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		try (ConnectionPool pool = new ConnectionPool(database, 0, 1)) {
+			try (Connection connection = pool.borrow()) {
+				connection.setAutoCommit(false);
+			}
+			check(database.rollbacks.get() == 1, "an unfinished transaction is rolled back");
+			try (Connection connection = pool.borrow()) {
+				check(connection.getAutoCommit(), "auto commit is enabled again");
+			}
+		}
+	}
+
+	private static void broken() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		try (ConnectionPool pool = new ConnectionPool(database, 0, 1)) {
+			try (Connection connection = pool.borrow()) {
+				database.failNextStatement("42000");
+				try {
+					connection.prepareStatement("SELECT");
+				} catch (SQLException expected) { }
+			}
+			check(database.closed.get() == 0, "a syntax error does not break the connection");
+
+			try (Connection connection = pool.borrow()) {
+				database.failNextStatement("08S01");
+				try {
+					connection.prepareStatement("SELECT 1");
+				} catch (SQLException expected) { }
+			}
+			check(database.closed.get() == 1, "a broken connection is closed instead of given back");
+			check(pool.getMetrics().getSize() == 0, "a broken connection is removed from the pool");
+
+			pool.borrow().close();
+			check(database.opened.get() == 2, "a new connection is opened");
+		}
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) throw new AssertionError(message);
+	}
+
+}
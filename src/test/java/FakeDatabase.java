@@ -0,0 +1,203 @@
+import net.codingarea.engine.sql.source.DataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link DataSource} creating connections which do not talk to a database, for the tests of the sql classes.
+ * Every query returns the rows set by {@link #result(String[], Object[]...)}, every update returns 1.
+ * The type of a column is guessed from its first value which is not null.
+ * The counters tell what was done with the physical connections and statements.
+ */
+final class FakeDatabase implements DataSource {
+
+	final AtomicInteger opened = new AtomicInteger(), closed = new AtomicInteger(), prepared = new AtomicInteger(),
+	                    statementsClosed = new AtomicInteger(), rollbacks = new AtomicInteger();
+
+	private volatile String[] columns = new String[0];
+	private volatile Object[][] rows = new Object[0][];
+	private volatile String failure;
+
+	/**
+	 * @param columns The labels of the columns of every result
+	 */
+	FakeDatabase result(String[] columns, Object[]... rows) {
+		this.columns = columns;
+		this.rows = rows;
+		return this;
+	}
+
+	/**
+	 * The next statement created fails with an {@link SQLException} of the given sql state
+	 */
+	FakeDatabase failNextStatement(String sqlState) {
+		this.failure = sqlState;
+		return this;
+	}
+
+	@Override
+	public String getURL() {
+		return "fake";
+	}
+
+	@Override
+	public Connection createConnection() {
+		opened.incrementAndGet();
+		boolean[] state = { false, true }; // closed, auto commit
+		return proxy(Connection.class, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "close":
+					if (!state[0]) closed.incrementAndGet();
+					state[0] = true;
+					return null;
+				case "isClosed":
+					return state[0];
+				case "isValid":
+					return !state[0];
+				case "getAutoCommit":
+					return state[1];
+				case "setAutoCommit":
+					state[1] = (Boolean) args[0];
+					return null;
+				case "rollback":
+					rollbacks.incrementAndGet();
+					return null;
+				case "prepareStatement":
+				case "prepareCall":
+				case "createStatement":
+					String failure = this.failure;
+					this.failure = null;
+					if (failure != null) throw new SQLException("Statement failed", failure);
+					prepared.incrementAndGet();
+					return statement(method.getReturnType(), (Connection) proxy);
+				case "toString":
+					return "FakeConnection";
+			}
+			return empty(method);
+		});
+	}
+
+	private Object statement(Class<?> type, Connection connection) {
+		boolean[] closed = { false };
+		ResultSet[] result = { null };
+		return proxy(type, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "close":
+					if (!closed[0]) statementsClosed.incrementAndGet();
+					closed[0] = true;
+					return null;
+				case "isClosed":
+					return closed[0];
+				case "getConnection":
+					return connection;
+				case "toString":
+					return "FakeStatement";
+			}
+			if (closed[0]) throw new SQLException("Statement was closed");
+			switch (method.getName()) {
+				case "executeQuery":
+					return result[0] = result((Statement) proxy);
+				case "getResultSet":
+					return result[0];
+				case "executeUpdate":
+					return 1;
+			}
+			return empty(method);
+		});
+	}
+
+	private ResultSet result(Statement statement) {
+		String[] columns = this.columns;
+		Object[][] rows = this.rows;
+		int[] row = { 0 };
+		boolean[] closed = { false };
+		ResultSetMetaData data = proxy(ResultSetMetaData.class, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getColumnCount":
+					return columns.length;
+				case "getColumnLabel":
+				case "getColumnName":
+					return columns[(Integer) args[0] - 1];
+				case "getColumnType":
+					return type(rows, (Integer) args[0] - 1).getVendorTypeNumber();
+				case "getColumnTypeName":
+					return type(rows, (Integer) args[0] - 1).getName();
+				case "getColumnClassName":
+					return Object.class.getName();
+				case "getTableName":
+					return "fake";
+			}
+			return empty(method);
+		});
+		return proxy(ResultSet.class, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "close":
+					closed[0] = true;
+					return null;
+				case "isClosed":
+					return closed[0];
+				case "next":
+					return ++row[0] <= rows.length;
+				case "getMetaData":
+					return data;
+				case "getStatement":
+					return statement;
+				case "toString":
+					return "FakeResultSet";
+			}
+			if (method.getName().startsWith("get") && args != null && args.length == 1) {
+				int column = args[0] instanceof String ? Arrays.asList(columns).indexOf(args[0]) : (Integer) args[0] - 1;
+				Object value = rows[row[0] - 1][column];
+				switch (method.getName()) {
+					case "getObject":
+						return value;
+					case "getString":
+						return value == null ? null : value.toString();
+					case "getLong":
+						return value == null ? 0L : ((Number) value).longValue();
+					case "getInt":
+						return value == null ? 0 : ((Number) value).intValue();
+				}
+			}
+			return empty(method);
+		});
+	}
+
+	/**
+	 * @return The type of the first value of the column which is not null
+	 */
+	private static JDBCType type(Object[][] rows, int column) {
+		for (Object[] row : rows) {
+			Object value = row[column];
+			if (value instanceof String) return JDBCType.VARCHAR;
+			if (value instanceof Long) return JDBCType.BIGINT;
+			if (value instanceof Integer) return JDBCType.INTEGER;
+			if (value instanceof Double) return JDBCType.DOUBLE;
+			if (value instanceof Boolean) return JDBCType.BOOLEAN;
+			if (value instanceof Timestamp) return JDBCType.TIMESTAMP;
+			if (value != null) return JDBCType.OTHER;
+		}
+		return JDBCType.NULL;
+	}
+
+	/**
+	 * Methods which are not faked do nothing
+	 */
+	private static Object empty(Method method) {
+		Class<?> type = method.getReturnType();
+		if (type == boolean.class) return false;
+		if (type == int.class) return 0;
+		if (type == long.class) return 0L;
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(FakeDatabase.class.getClassLoader(), new Class[] { type }, handler);
+	}
+
+}
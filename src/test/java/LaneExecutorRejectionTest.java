@@ -0,0 +1,111 @@
+import net.codingarea.engine.discord.commandmanager.LaneExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Checks that every task submitted to a {@link LaneExecutor} is either run or rejected,
+ * even if the delegate rejects a lane while tasks are waiting in it.
+ * <pre>java -cp target/classes:target/test-classes LaneExecutorRejectionTest</pre>
+ */
+public class LaneExecutorRejectionTest {
+
+	public static void main(String[] args) throws Exception {
+		rejectedReschedule();
+		rejectedSubmit();
+		System.out.println("OK");
+	}
+
+	/**
+	 * The delegate accepts the first run of the lane, but rejects rescheduling it after the first batch
+	 */
+	private static void rejectedReschedule() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean accept = new AtomicBoolean(true);
+		ExecutorService threads = Executors.newCachedThreadPool();
+		Executor delegate = task -> {
+			if (!accept.getAndSet(false)) throw new RejectedExecutionException("Delegate is full");
+			threads.execute(task);
+		};
+
+		LaneExecutor lanes = new LaneExecutor(delegate, 1, 64);
+		List<CompletableFuture<String>> futures = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			CompletableFuture<String> future = new CompletableFuture<>();
+			futures.add(future);
+			lanes.execute(0, () -> {
+				await(release);
+				future.complete("run");
+			}, rejection -> future.complete("rejected"));
+		}
+		release.countDown();
+
+		check(futures, "reschedule");
+		threads.shutdown();
+	}
+
+	/**
+	 * The lane is idle but has waiting tasks when a submit is rejected by the delegate
+	 */
+	private static void rejectedSubmit() throws Exception {
+		ExecutorService threads = Executors.newCachedThreadPool();
+		CountDownLatch block = new CountDownLatch(1);
+		AtomicBoolean accept = new AtomicBoolean(true);
+		Executor delegate = task -> {
+			if (!accept.get()) throw new RejectedExecutionException("Delegate is full");
+			threads.execute(task);
+		};
+
+		LaneExecutor lanes = new LaneExecutor(delegate, 1, 64);
+		List<CompletableFuture<String>> futures = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			CompletableFuture<String> future = new CompletableFuture<>();
+			futures.add(future);
+			lanes.execute(0, () -> {
+				await(block);
+				future.complete("run");
+			}, rejection -> future.complete("rejected"));
+		}
+
+		accept.set(false);
+		block.countDown();
+		CompletableFuture<String> last = new CompletableFuture<>();
+		futures.add(last);
+		try {
+			lanes.execute(0, () -> last.complete("run"), rejection -> last.complete("rejected"));
+		} catch (RejectedExecutionException ex) {
+			last.complete("thrown");
+		}
+
+		check(futures, "submit");
+		threads.shutdown();
+	}
+
+	private static void check(List<CompletableFuture<String>> futures, String name) throws Exception {
+		int run = 0, rejected = 0;
+		for (CompletableFuture<String> future : futures) {
+			String result;
+			try {
+				result = future.get(5, TimeUnit.SECONDS);
+			} catch (TimeoutException ex) {
+				throw new AssertionError(name + ": a future was never completed");
+			}
+			if (result.equals("run")) run++;
+			else rejected++;
+		}
+		if (run == 0 || rejected == 0)
+			throw new AssertionError(name + ": expected both run and rejected tasks, got " + run + " run and " + rejected + " rejected");
+		System.out.println(name + ": " + run + " run, " + rejected + " rejected, all completed");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,89 @@
+import net.codingarea.engine.utils.Markup;
+import net.codingarea.engine.utils.Markup.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that {@link Markup} splits messages into the right tokens, escapes markdown
+ * and never lets escaped or highlighted input mention anyone.
+ * <pre>java -cp target/classes:target/test-classes MarkupTest</pre>
+ */
+public class MarkupTest {
+
+	private static final String USER = "<@123456789012345678>", NICKNAME = "<@!123456789012345678>", ROLE = "<@&123456789012345678>",
+	                            CHANNEL = "<#123456789012345678>", EMOTE = "<:pepe:123456789012345678>", ANIMATED = "<a:pepe:123456789012345678>";
+
+	public static void main(String[] args) {
+		lex();
+		escape();
+		escapeForCode();
+		strip();
+		highlight();
+		containsMention();
+		System.out.println("OK");
+	}
+
+	private static void lex() {
+		check(tokens("hi *x* @y").equals("TEXT[hi ] MARKDOWN[*] TEXT[x] MARKDOWN[*] TEXT[ ] AT_SIGN[@] TEXT[y]"), "text and markdown: " + tokens("hi *x* @y"));
+		check(tokens(USER + NICKNAME + ROLE + CHANNEL + EMOTE + ANIMATED).equals("USER_MENTION[" + USER + "] USER_MENTION[" + NICKNAME + "] ROLE_MENTION[" + ROLE + "] "
+			+ "CHANNEL_MENTION[" + CHANNEL + "] EMOTE[" + EMOTE + "] EMOTE[" + ANIMATED + "]"), "mentions and emotes");
+		check(tokens("a `b *c*` ```d`e```").equals("TEXT[a ] CODE[`b *c*`] TEXT[ ] CODE[```d`e```]"), "code spans: " + tokens("a `b *c*` ```d`e```"));
+		check(tokens("`" + USER + "`").equals("CODE[`" + USER + "`]"), "mentions inside of code spans");
+		check(tokens("`open").equals("MARKDOWN[`] TEXT[open]"), "an unclosed code span is a markdown character");
+		check(tokens("<@123> <:a:123456789012345678> a < b >").equals("TEXT[<] AT_SIGN[@] TEXT[123> <:a:123456789012345678> a < b >]"), "invalid mentions and emotes are text");
+		check(tokens("").isEmpty(), "empty input");
+
+		int[] visited = { 0 };
+		check(!Markup.lex("a*b*c", (type, start, end) -> ++visited[0] < 2) && visited[0] == 2, "the visitor can stop lexing");
+	}
+
+	private static void escape() {
+		check(Markup.escape("*bold* _it_ ~~s~~ ||sp|| \\x").equals("\\*bold\\* \\_it\\_ \\~\\~s\\~\\~ \\|\\|sp\\|\\| \\\\x"), "markdown is escaped");
+		check(Markup.escape("`code *x*`").equals("\\`code \\*x\\*\\`"), "code spans are escaped");
+		check(Markup.escape("@everyone @here").equals("everyone here"), "@ signs are removed");
+		check(Markup.escape(USER + " " + NICKNAME + " " + ROLE).equals("<123456789012345678> <!123456789012345678> <&123456789012345678>"), "user and role mentions are neutralised");
+		check(Markup.escape("`@everyone`").equals("\\`everyone\\`"), "@ signs inside of code spans are removed");
+		check(Markup.escape(CHANNEL + " " + EMOTE).equals(CHANNEL + " " + EMOTE), "channel mentions and emotes are kept");
+		check(Markup.escape("plain text").equals("plain text"), "plain text");
+	}
+
+	private static void escapeForCode() {
+		check(Markup.escapeForCode("`code` *x* @here").equals("code *x* @here"), "only backticks are removed");
+	}
+
+	private static void strip() {
+		check(Markup.strip("*bold* _it_ ~~s~~ ||sp|| \\x").equals("bold it s sp x"), "markdown is removed");
+		check(Markup.strip("`code *x*` ```a`b```").equals("code *x* a`b"), "the backticks of code spans are removed");
+		check(Markup.strip(USER + " @here").equals(USER + " @here"), "mentions are kept");
+	}
+
+	private static void highlight() {
+		check(Markup.highlight("plain @here _a_").equals("`plain @here _a_`"), "code if there are no mentions");
+		check(Markup.highlight("a `b` c").equals("`a b c`"), "backticks are removed in code");
+		check(Markup.highlight("`" + USER + "`").equals("`" + USER + "`"), "mentions inside of code spans are not rendered");
+
+		check(Markup.highlight("hi " + USER + " @everyone *x*").equals("*hi <123456789012345678> everyone \\*x\\**"), "italic if there are mentions: " + Markup.highlight("hi " + USER + " @everyone *x*"));
+		check(Markup.highlight(ROLE + " `c@d`").equals("*<&123456789012345678> \\`cd\\`*"), "role mentions and @ signs inside of code spans are neutralised");
+		check(Markup.highlight(CHANNEL + " @here").equals("*" + CHANNEL + " here*"), "italic if there are channel mentions");
+		check(Markup.highlight(EMOTE).equals("*" + EMOTE + "*"), "italic if there are emotes");
+	}
+
+	private static void containsMention() {
+		check(Markup.containsMention("hi " + USER) && Markup.containsMention(EMOTE) && Markup.containsMention(CHANNEL), "mentions and emotes");
+		check(!Markup.containsMention("@everyone") && !Markup.containsMention("`" + USER + "`") && !Markup.containsMention("<@123>"), "no mentions");
+		check(Markup.containsMention(ROLE, Type.ROLE_MENTION) && !Markup.containsMention(ROLE, Type.USER_MENTION, Type.CHANNEL_MENTION), "mentions of the given types");
+		check(Markup.containsMention(NICKNAME, Type.USER_MENTION), "nickname mentions are user mentions");
+	}
+
+	private static String tokens(String input) {
+		List<String> tokens = new ArrayList<>();
+		check(Markup.lex(input, (type, start, end) -> tokens.add(type + "[" + input.substring(start, end) + "]")), "lexing was stopped");
+		return String.join(" ", tokens);
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) throw new AssertionError(message);
+	}
+
+}
@@ -0,0 +1,130 @@
+import net.codingarea.engine.utils.Parsing;
+
+/**
+ * Checks that {@link Parsing} accepts the same numbers as the parsers of the jdk, without throwing for invalid input,
+ * and parses snowflake ids, mentions and durations.
+ * <pre>java -cp target/classes:target/test-classes ParsingTest</pre>
+ */
+public class ParsingTest {
+
+	private static final String[] NUMBERS = {
+		"0", "1", "-1", "+1", "007", "-007", "+0", "-0", "", "-", "+", "+-1", "--1", "1-", " 1", "1 ", "1.0", "1e3", "abc", "0x1F",
+		"2147483647", "2147483648", "-2147483648", "-2147483649",
+		"9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809", "-0009223372036854775808",
+		"99999999999999999999", "-99999999999999999999", "\u0661\u0662"
+	};
+
+	private static final String[] DECIMALS = {
+		"0", "1", "-1", "+1", "1.", ".5", "-.5", "1.5", "1e3", "1E-3", "1.5e+10", "1d", "1.5f", "1e3D", "NaN", "-NaN", "Infinity", "-Infinity", "+Infinity",
+		"", ".", "-", "e3", "1e", "1e+", "1.5.5", "1ee3", "1f5", "NaNx", "Infinityx", "nan", "infinity", "1,5", " 1", "1 ", "0x1p3", "1_000"
+	};
+
+	public static void main(String[] args) {
+		longs();
+		ints();
+		decimals();
+		snowflakes();
+		mentions();
+		durations();
+		System.out.println("OK");
+	}
+
+	private static void longs() {
+		for (String number : NUMBERS) {
+			Long expected = jdkLong(number);
+			check(equal(Parsing.toLong(number), expected), "toLong(" + number + ") should be " + expected);
+			check(Parsing.isLong(number) == (expected != null), "isLong(" + number + ")");
+			check(Parsing.parseLong(number, 42) == (expected == null ? 42 : expected), "parseLong(" + number + ")");
+		}
+		check(Parsing.toLong("-9223372036854775808") == Long.MIN_VALUE, "the min value is not treated as invalid");
+		check(Parsing.parseLong("x123y", 1, 4, -1) == 123, "range");
+		check(Parsing.parseLong("x-y", 1, 2, -1) == -1, "a sign without digits in a range");
+	}
+
+	private static void ints() {
+		for (String number : NUMBERS) {
+			Integer expected = jdkInt(number);
+			check(equal(Parsing.toInteger(number), expected), "toInteger(" + number + ") should be " + expected);
+			check(Parsing.isInt(number) == (expected != null), "isInt(" + number + ")");
+			check(Parsing.parseInt(number, 42) == (expected == null ? 42 : expected), "parseInt(" + number + ")");
+		}
+		check(Parsing.toShort("32767") == Short.MAX_VALUE && Parsing.toShort("32768") == null && Parsing.toShort("-32768") == Short.MIN_VALUE, "shorts");
+		check(Parsing.toByte("127") == Byte.MAX_VALUE && Parsing.toByte("128") == null && Parsing.toByte("-129") == null, "bytes");
+	}
+
+	private static void decimals() {
+		for (String number : DECIMALS) {
+			Double expected = jdkDouble(number);
+			check(Parsing.isDecimal(number) == (expected != null), "isDecimal(" + number + ") should be " + (expected != null));
+			check(equal(Parsing.toDouble(number), expected), "toDouble(" + number + ") should be " + expected);
+		}
+		check(Double.isNaN(Parsing.parseDouble("NaN", 0)) && Parsing.parseDouble("NaN!", 0) == 0, "NaN with trailing text");
+		check(Parsing.parseDouble("-Infinity", 0) == Double.NEGATIVE_INFINITY && Parsing.toFloat("Infinity ") == null, "Infinity with trailing text");
+		check(Parsing.toFloat("1.5f") == 1.5f, "floats");
+	}
+
+	private static void snowflakes() {
+		check(Parsing.parseSnowflake("123456789012345678") == 123456789012345678L, "snowflake");
+		check(Parsing.parseSnowflake("1234567890123456") == 0, "too short");
+		check(Parsing.parseSnowflake("123456789012345678901") == 0, "too long");
+		check(Parsing.parseSnowflake("99999999999999999999") == 0, "overflow");
+		check(Parsing.parseSnowflake("-12345678901234567") == 0 && Parsing.parseSnowflake("+12345678901234567") == 0, "signs");
+		check(Parsing.parseSnowflake("\u0661\u0662345678901234567") == 0, "only ascii digits");
+		check(Parsing.isSnowflake("12345678901234567") && !Parsing.isSnowflake(null), "isSnowflake");
+	}
+
+	private static void mentions() {
+		long id = 123456789012345678L;
+		check(Parsing.parseUserMention("<@123456789012345678>") == id && Parsing.parseUserMention("<@!123456789012345678>") == id, "user mentions");
+		check(Parsing.parseUserMention("<@&123456789012345678>") == 0, "a role mention is no user mention");
+		check(Parsing.parseRoleMention("<@&123456789012345678>") == id, "role mention");
+		check(Parsing.parseChannelMention("<#123456789012345678>") == id, "channel mention");
+		check(Parsing.parseChannelMention("<#123456789012345678") == 0 && Parsing.parseChannelMention("#123456789012345678>") == 0, "unclosed mentions");
+		check(Parsing.parseMentionOrId("  <@&123456789012345678>\n") == id && Parsing.parseMentionOrId(" 123456789012345678 ") == id, "mention or id");
+		check(Parsing.parseMentionOrId("<>") == 0 && Parsing.parseMentionOrId("") == 0 && Parsing.parseMentionOrId("<@abc>") == 0, "no mention or id");
+	}
+
+	private static void durations() {
+		check(Parsing.parseDuration("1d12h") == 36 * 60 * 60, "days and hours");
+		check(Parsing.parseDuration("2W") == 14 * 24 * 60 * 60, "units are case insensitive");
+		check(Parsing.parseDuration("90") == 90 && Parsing.parseDuration("1m30s") == 90, "seconds");
+		check(Parsing.parseDuration("") == 0, "empty");
+	}
+
+	private static Long jdkLong(String number) {
+		try {
+			return Long.parseLong(number);
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	private static Integer jdkInt(String number) {
+		try {
+			return Integer.parseInt(number);
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Leading and trailing whitespaces are trimmed by the jdk and hexadecimal notation is not supported by {@link Parsing}
+	 */
+	private static Double jdkDouble(String number) {
+		if (!number.trim().equals(number) || number.contains("0x")) return null;
+		try {
+			return Double.parseDouble(number);
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	private static boolean equal(Object first, Object second) {
+		return first == null ? second == null : first.equals(second);
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) throw new AssertionError(message);
+	}
+
+}
@@ -0,0 +1,104 @@
+import net.codingarea.engine.sql.SQL;
+import net.codingarea.engine.sql.helper.QueryCursor;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks that a {@link QueryCursor} reads every row and closes its statement,
+ * giving back the pooled connection, however the iteration ends.
+ * <pre>java -cp target/classes:target/test-classes QueryCursorTest</pre>
+ */
+public class QueryCursorTest {
+
+	private static final String[] COLUMNS = { "id" };
+	private static final Object[][] ROWS = { { 1L }, { 2L }, { 3L }, { 4L }, { 5L } };
+
+	public static void main(String[] args) throws Exception {
+		iterate();
+		skipNulls();
+		closeEarly();
+		stream();
+		mapperFails();
+		System.out.println("OK");
+	}
+
+	private static SQL sql(FakeDatabase database) throws Exception {
+		return SQL.anonymous(database.result(COLUMNS, ROWS)).usePool(0, 1);
+	}
+
+	private static void iterate() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		SQL sql = sql(database);
+		QueryCursor<Long> cursor = sql.query().table("a").cursor(result -> result.getLong("id"));
+		check(!cursor.isClosed() && sql.getPool().getMetrics().getActive() == 1, "the cursor holds a connection");
+
+		long sum = 0;
+		while (cursor.hasNext()) sum += cursor.next();
+		check(sum == 15, "every row is read, sum " + sum);
+		check(cursor.isClosed() && database.statementsClosed.get() == 1, "the statement is closed after the last row");
+		check(sql.getPool().getMetrics().getActive() == 0, "the connection is given back after the last row");
+		try {
+			cursor.next();
+			throw new AssertionError("next after the last row did not fail");
+		} catch (NoSuchElementException expected) { }
+		sql.disconnect();
+	}
+
+	private static void skipNulls() throws Exception {
+		SQL sql = sql(new FakeDatabase());
+		try (QueryCursor<Long> cursor = sql.query().table("a").cursor(result -> result.getLong("id") % 2 == 0 ? result.getLong("id") : null)) {
+			check(cursor.next() == 2 && cursor.next() == 4 && !cursor.hasNext(), "rows mapped to null are skipped");
+		}
+		sql.disconnect();
+	}
+
+	private static void closeEarly() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		SQL sql = sql(database);
+		try (QueryCursor<Long> cursor = sql.query().table("a").cursor(result -> result.getLong("id"))) {
+			check(cursor.next() == 1, "first row");
+		}
+		check(database.statementsClosed.get() == 1, "closing the cursor closes the statement");
+		check(sql.getPool().getMetrics().getActive() == 0, "closing the cursor gives back the connection");
+		sql.disconnect();
+	}
+
+	private static void stream() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		SQL sql = sql(database);
+		List<Long> values;
+		try (Stream<Long> stream = sql.query().table("a").lazyStream(result -> result.getLong("id"))) {
+			values = stream.filter(id -> id > 1).limit(2).collect(Collectors.toList());
+		}
+		check(values.size() == 2 && values.get(0) == 2 && values.get(1) == 3, "stream " + values);
+		check(database.statementsClosed.get() == 1, "closing the stream closes the statement");
+		check(sql.getPool().getMetrics().getActive() == 0, "closing the stream gives back the connection");
+		sql.disconnect();
+	}
+
+	private static void mapperFails() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		SQL sql = sql(database);
+		QueryCursor<Long> cursor = sql.query().table("a").cursor(result -> {
+			throw new IllegalStateException("mapper failed");
+		});
+		try {
+			cursor.hasNext();
+			throw new AssertionError("the exception of the mapper was not thrown");
+		} catch (RuntimeException expected) {
+			// The exception is wrapped by the ThrowingFunction
+			check(expected.getCause() instanceof IllegalStateException, "the exception of the mapper is thrown: " + expected);
+		}
+		check(cursor.isClosed() && database.statementsClosed.get() == 1, "a failing mapper closes the statement");
+		check(sql.getPool().getMetrics().getActive() == 0, "a failing mapper gives back the connection");
+		sql.disconnect();
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) throw new AssertionError(message);
+	}
+
+}
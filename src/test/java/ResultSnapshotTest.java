@@ -0,0 +1,134 @@
+import net.codingarea.engine.sql.helper.ResultSnapshot;
+
+import javax.sql.rowset.CachedRowSet;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Checks that a {@link ResultSnapshot} reads values like a {@link CachedRowSet} would
+ * and that it is copied into a real {@link CachedRowSet} for everything it does not serve itself.
+ * <pre>java -cp target/classes:target/test-classes ResultSnapshotTest</pre>
+ */
+public class ResultSnapshotTest {
+
+	private static final String[] COLUMNS = { "id", "Name", "score", "created", "active" };
+	private static final Object[][] ROWS = {
+		{ 1L, "alice", 1.5, new Timestamp(1000), true },
+		{ 2L, null, 2.0, new Timestamp(2000), false },
+		{ 3L, "carol", null, null, true },
+	};
+
+	public static void main(String[] args) throws Exception {
+		getters();
+		labels();
+		cursor();
+		metaData();
+		upgrade();
+		close();
+		System.out.println("OK");
+	}
+
+	private static CachedRowSet snapshot() throws SQLException {
+		FakeDatabase database = new FakeDatabase().result(COLUMNS, ROWS);
+		try (ResultSet result = database.createConnection().prepareStatement("SELECT").executeQuery()) {
+			return ResultSnapshot.of(result);
+		}
+	}
+
+	private static void getters() throws Exception {
+		CachedRowSet snapshot = snapshot();
+		check(snapshot.next(), "first row");
+		check(snapshot.getLong("id") == 1 && snapshot.getInt(1) == 1 && snapshot.getShort(1) == 1, "integers by label and index");
+		check("alice".equals(snapshot.getString("Name")) && "alice".equals(snapshot.getString(2)), "strings by label and index");
+		check(snapshot.getDouble("score") == 1.5 && snapshot.getFloat(3) == 1.5f, "decimals");
+		check(snapshot.getBigDecimal("score").doubleValue() == 1.5, "big decimals");
+		check(snapshot.getTimestamp("created").getTime() == 1000, "timestamps");
+		check(snapshot.getBoolean("active") && snapshot.getInt("active") == 1, "booleans");
+		check(snapshot.getString("id").equals("1"), "numbers are converted to strings");
+
+		check(snapshot.next(), "second row");
+		check(snapshot.getString("Name") == null && snapshot.wasNull(), "null strings");
+		check(snapshot.getLong("id") == 2 && !snapshot.wasNull(), "wasNull is reset");
+
+		check(snapshot.next(), "third row");
+		check(snapshot.getDouble("score") == 0 && snapshot.wasNull(), "null numbers are 0");
+		check(snapshot.getTimestamp("created") == null && !snapshot.getBoolean(4), "null timestamps");
+		check(!snapshot.next(), "end of the rows");
+	}
+
+	private static void labels() throws Exception {
+		CachedRowSet snapshot = snapshot();
+		snapshot.first();
+		check(snapshot.getLong("ID") == 1, "labels are case insensitive");
+		check("alice".equals(snapshot.getString("name")), "labels are case insensitive");
+		check(snapshot.findColumn("SCORE") == 3, "findColumn");
+
+		expectFailure(() -> snapshot.getString("missing"), "unknown label");
+		expectFailure(() -> snapshot.getString(0), "column index 0");
+		expectFailure(() -> snapshot.getString(6), "column index after the last column");
+	}
+
+	private static void cursor() throws Exception {
+		CachedRowSet snapshot = snapshot();
+		check(snapshot.size() == 3, "size");
+		check(snapshot.isBeforeFirst() && snapshot.getRow() == 0, "before the first row");
+		expectFailure(() -> snapshot.getString(1), "reading before the first row");
+
+		check(snapshot.last() && snapshot.isLast() && snapshot.getRow() == 3, "last");
+		check(snapshot.previous() && snapshot.getLong(1) == 2, "previous");
+		check(snapshot.absolute(-1) && snapshot.getLong(1) == 3, "absolute from the end");
+		check(snapshot.relative(-2) && snapshot.isFirst(), "relative");
+		check(!snapshot.relative(5) && snapshot.isAfterLast(), "after the last row");
+		snapshot.beforeFirst();
+		check(snapshot.next() && snapshot.getLong(1) == 1, "beforeFirst");
+	}
+
+	private static void metaData() throws Exception {
+		CachedRowSet snapshot = snapshot();
+		check(snapshot.getMetaData().getColumnCount() == 5, "column count");
+		check(snapshot.getMetaData().getColumnLabel(2).equals("Name"), "column labels");
+		expectFailure(() -> snapshot.getMetaData().getColumnLabel(6), "column index after the last column");
+	}
+
+	private static void upgrade() throws Exception {
+		CachedRowSet snapshot = snapshot();
+		snapshot.absolute(2);
+		snapshot.updateString("Name", "bob");
+		snapshot.updateRow();
+		check(snapshot.getRow() == 2, "the position is kept when the snapshot is copied");
+		check("bob".equals(snapshot.getString("Name")), "updated value");
+
+		snapshot.beforeFirst();
+		int rows = 0;
+		while (snapshot.next()) rows++;
+		check(rows == 3 && snapshot.size() == 3, "every row is copied");
+		check(snapshot.absolute(1) && "alice".equals(snapshot.getString("name")) && snapshot.getLong("id") == 1, "values are copied");
+	}
+
+	private static void close() throws Exception {
+		CachedRowSet snapshot = snapshot();
+		snapshot.next();
+		snapshot.close();
+		check(snapshot.isClosed(), "closed");
+		expectFailure(() -> snapshot.getString(1), "reading after closing");
+	}
+
+	private interface SQLAction {
+		void run() throws Exception;
+	}
+
+	private static void expectFailure(SQLAction action, String message) throws Exception {
+		try {
+			action.run();
+		} catch (SQLException expected) {
+			return;
+		}
+		throw new AssertionError(message + " did not fail");
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) throw new AssertionError(message);
+	}
+
+}
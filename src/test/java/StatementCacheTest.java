@@ -0,0 +1,122 @@
+import net.codingarea.engine.sql.pool.ConnectionPool;
+import net.codingarea.engine.sql.pool.StatementCache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Checks that a {@link StatementCache} reuses closed statements, evicts the least recently used ones
+ * and does not reuse statements whose settings were changed.
+ * <pre>java -cp target/classes:target/test-classes StatementCacheTest</pre>
+ */
+public class StatementCacheTest {
+
+	public static void main(String[] args) throws Exception {
+		reuse();
+		inUse();
+		settings();
+		eviction();
+		close();
+		pool();
+		System.out.println("OK");
+	}
+
+	private static void reuse() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		StatementCache cache = new StatementCache(database.createConnection(), 4);
+		for (int i = 0; i < 1000; i++) {
+			try (PreparedStatement statement = cache.prepare("UPDATE a SET b = ?")) {
+				statement.setInt(1, i);
+				statement.executeUpdate();
+			}
+		}
+		check(database.prepared.get() == 1, "statement is only prepared once, prepared " + database.prepared);
+		check(cache.getHits() == 999 && cache.getMisses() == 1, "hits and misses are counted: " + cache);
+		check(database.statementsClosed.get() == 0, "the physical statement stays opened");
+	}
+
+	private static void inUse() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		StatementCache cache = new StatementCache(database.createConnection(), 4);
+		PreparedStatement first = cache.prepare("SELECT 1"), second = cache.prepare("SELECT 1");
+		check(database.prepared.get() == 2, "a statement in use is not handed out twice");
+
+		first.close();
+		second.close();
+		check(cache.size() == 1, "only one statement per sql is kept");
+		check(database.statementsClosed.get() == 1, "the other statement is closed");
+
+		check(first.isClosed(), "statement is closed for its user");
+		try {
+			first.executeQuery();
+			throw new AssertionError("statement could be used after it was closed");
+		} catch (SQLException expected) { }
+		first.close();
+		check(cache.size() == 1, "closing twice does not give back twice");
+	}
+
+	private static void settings() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		StatementCache cache = new StatementCache(database.createConnection(), 4);
+		try (PreparedStatement statement = cache.prepare("SELECT 1")) {
+			statement.setFetchSize(100);
+		}
+		check(cache.size() == 0, "a statement with changed settings is not reused");
+		check(database.statementsClosed.get() == 1, "a statement with changed settings is closed");
+
+		try (PreparedStatement statement = cache.prepare("SELECT 1")) {
+			statement.addBatch();
+		}
+		check(cache.size() == 1, "a batched statement is cleared and reused");
+	}
+
+	private static void eviction() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		StatementCache cache = new StatementCache(database.createConnection(), 2);
+		cache.prepare("a").close();
+		cache.prepare("b").close();
+		cache.prepare("a").close();
+		cache.prepare("c").close();
+		check(cache.size() == 2 && cache.getEvictions() == 1, "the cache is limited to its max size: " + cache);
+
+		cache.prepare("a").close();
+		check(database.prepared.get() == 3, "the least recently used statement was evicted, prepared " + database.prepared);
+	}
+
+	private static void close() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		StatementCache cache = new StatementCache(database.createConnection(), 4);
+		cache.prepare("a").close();
+		PreparedStatement used = cache.prepare("b");
+		cache.close();
+		check(database.statementsClosed.get() == 1, "closing the cache closes idle statements");
+		used.close();
+		check(database.statementsClosed.get() == 2, "statements in use are closed once they are given back");
+		check(cache.size() == 0, "a closed cache does not keep statements");
+	}
+
+	private static void pool() throws Exception {
+		FakeDatabase database = new FakeDatabase();
+		try (ConnectionPool pool = new ConnectionPool(database, 1, 1)) {
+			pool.fill();
+			for (int i = 0; i < 10; i++) {
+				try (Connection connection = pool.borrow()) {
+					connection.prepareStatement("SELECT 1").close();
+				}
+			}
+			check(database.prepared.get() == 10, "no statements are cached by default");
+
+			pool.setStatementCacheSize(8);
+			for (int i = 0; i < 10; i++)
+				pool.prepare("SELECT 2").close();
+			check(database.prepared.get() == 11, "connections which were already opened use the cache, prepared " + database.prepared);
+			check(pool.getMetrics().getActive() == 0, "closing a cached statement still gives back the connection");
+		}
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) throw new AssertionError(message);
+	}
+
+}
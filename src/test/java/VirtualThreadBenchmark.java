@@ -0,0 +1,76 @@
+import net.codingarea.engine.discord.commandmanager.CommandExecutors;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the bounded platform thread pool and virtual threads
+ * for async commands which block on simulated JDBC calls.
+ * Virtual threads are only used when running the packaged multi-release jar, built and run on Java 21 or newer:
+ * <pre>java -cp target/Engine-2.7.jar:target/test-classes VirtualThreadBenchmark [tasks] [latencyMillis] [pinned]</pre>
+ *
+ * The round trip is simulated with {@link Thread#sleep(long)}, which unmounts a virtual thread.
+ * The real driver ({@code mysql-connector-java 8.0.21}) blocks inside {@code synchronized} blocks instead,
+ * which pins the carrier thread on Java 21 to 23. Pass {@code pinned} to sleep inside a monitor like the driver does,
+ * the results of the default mode are an upper bound which real queries do not reach.
+ */
+public class VirtualThreadBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+		int latency = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+		boolean pinned = args.length > 2 && args[2].equals("pinned");
+
+		System.out.println("Running " + tasks + " tasks blocking " + latency + "ms each on Java " + System.getProperty("java.version"));
+		System.out.println(pinned ? "Blocking inside synchronized blocks, like the JDBC driver does"
+		                          : "Blocking without holding a monitor, the JDBC driver pins virtual threads on Java 21 to 23 (run with 'pinned' to simulate it)");
+
+		// Warm up both executors once, then measure
+		for (int round = 0; round < 2; round++) {
+			boolean print = round > 0;
+			run("platform (" + CommandExecutors.DEFAULT_THREADS + " threads)", CommandExecutors.newBoundedExecutor(CommandExecutors.DEFAULT_THREADS, tasks, "benchmark"), tasks, latency, pinned, print);
+			if (CommandExecutors.supportsVirtualThreads()) {
+				run("virtual", CommandExecutors.newVirtualThreadExecutor("benchmark-virtual"), tasks, latency, pinned, print);
+			} else if (print) {
+				System.out.println("virtual: not supported on this runtime");
+			}
+		}
+	}
+
+	private static void run(String name, ExecutorService executor, int tasks, int latency, boolean pinned, boolean print) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(tasks);
+		long start = System.nanoTime();
+		for (int i = 0; i < tasks; i++) {
+			Object connection = new Object();
+			executor.execute(() -> {
+				if (pinned) {
+					synchronized (connection) {
+						sleep(latency);
+					}
+				} else {
+					sleep(latency);
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		executor.shutdown();
+
+		if (print)
+			System.out.printf("%s: %d ms, %.0f commands/s%n", name, millis, tasks * 1000d / Math.max(1, millis));
+	}
+
+	/**
+	 * Simulates a JDBC round trip
+	 */
+	private static void sleep(int latency) {
+		try {
+			Thread.sleep(latency);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}